@@ -18,3 +18,4 @@
 ./bin/java-petstore-resteasy.sh
 ./bin/java-petstore-google-api-client.sh
 ./bin/java-petstore-rest-assured.sh
+./bin/java-petstore-native.sh
@@ -0,0 +1,196 @@
+package io.swagger.codegen.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing the petstore Pet model, with its Category and Tags, through Gson reflective binding versus the
+ * adapters generated by the java okhttp-gson client with {@code generateTypeAdapters}. The models are generated and
+ * compiled once per fork, which requires running on a JDK. {@code firstUse} measures a new Gson instance reading a
+ * first pet, which is where reflection costs the most.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GsonTypeAdapterBenchmark {
+
+    private static final String MODEL_PACKAGE = "io.swagger.client.model";
+
+    @Param({"modules/swagger-codegen/src/test/resources/2_0/petstore.yaml"})
+    public String spec;
+
+    @Param({"reflection", "adapters"})
+    public String binding;
+
+    @Param({"100"})
+    public int pets;
+
+    private File outputDir;
+    private URLClassLoader classLoader;
+    private TypeAdapterFactory adapters;
+    private Class<?> petClass;
+    private Type petListType;
+    private Gson gson;
+    private String json;
+    private Object list;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        outputDir = Files.createTempDirectory("gson-type-adapter-benchmark").toFile();
+        classLoader = compileModels(outputDir, spec);
+        petClass = classLoader.loadClass(MODEL_PACKAGE + ".Pet");
+        petListType = TypeToken.getParameterized(List.class, petClass).getType();
+        adapters = new GeneratedAdapters(classLoader);
+        gson = createGson();
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < pets; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                    .append(",\"category\":{\"id\":1,\"name\":\"dogs\"}")
+                    .append(",\"name\":\"doggie ").append(i).append('"')
+                    .append(",\"photoUrls\":[\"https://example.com/").append(i).append(".png\"]")
+                    .append(",\"tags\":[{\"id\":1,\"name\":\"good\"},{\"id\":2,\"name\":\"boy\"}]")
+                    .append(",\"status\":\"available\"}");
+        }
+        json = sb.append(']').toString();
+        list = gson.fromJson(json, petListType);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        FileUtils.deleteDirectory(outputDir);
+    }
+
+    @Benchmark
+    public Object read() {
+        return gson.fromJson(json, petListType);
+    }
+
+    @Benchmark
+    public String write() {
+        return gson.toJson(list, petListType);
+    }
+
+    @Benchmark
+    public Object firstUse() {
+        return createGson().fromJson(json, petListType);
+    }
+
+    private Gson createGson() {
+        GsonBuilder builder = new GsonBuilder();
+        if ("adapters".equals(binding)) {
+            builder.registerTypeAdapterFactory(adapters);
+        }
+        return builder.create();
+    }
+
+    private static URLClassLoader compileModels(File outputDir, String spec) throws IOException {
+        JavaClientCodegen config = new JavaClientCodegen();
+        config.setOutputDir(outputDir.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        config.additionalProperties().put(JavaClientCodegen.DATE_LIBRARY, "java8");
+        config.additionalProperties().put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, true);
+        Map<String, String> generatorProperties = new HashMap<>();
+        generatorProperties.put(CodegenConstants.MODELS, "Pet,Category,Tag");
+        generatorProperties.put(CodegenConstants.MODEL_TESTS, "false");
+        generatorProperties.put(CodegenConstants.MODEL_DOCS, "false");
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).config(config)
+                .swagger(new SwaggerParser().read(spec)).generatorProperties(generatorProperties)).generate();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The benchmark compiles the generated models, run it on a JDK");
+        }
+        File classes = new File(outputDir, "classes");
+        Collection<File> sources = FileUtils.listFiles(new File(outputDir, "src/main/java"), new String[]{"java"}, true);
+        List<String> args = new ArrayList<>();
+        args.add("-d");
+        args.add(classes.getAbsolutePath());
+        args.add("-cp");
+        args.add(System.getProperty("java.class.path"));
+        for (File source : sources) {
+            args.add(source.getAbsolutePath());
+        }
+        FileUtils.forceMkdir(classes);
+        if (compiler.run(null, null, null, args.toArray(new String[args.size()])) != 0) {
+            throw new IllegalStateException("Could not compile the generated models in " + outputDir);
+        }
+        return new URLClassLoader(new URL[]{classes.toURI().toURL()}, GsonTypeAdapterBenchmark.class.getClassLoader());
+    }
+
+    /**
+     * What the generated JSON class registers, written against the models loaded at runtime.
+     */
+    private static class GeneratedAdapters implements TypeAdapterFactory {
+
+        private final ClassLoader classLoader;
+
+        GeneratedAdapters(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> rawType = type.getRawType();
+            if (rawType.getClassLoader() != classLoader || !rawType.getName().startsWith(MODEL_PACKAGE)) {
+                return null;
+            }
+            try {
+                Constructor<?> constructor = classLoader.loadClass(rawType.getName() + "$GsonAdapter").getConstructor(Gson.class);
+                return (TypeAdapter<T>) constructor.newInstance(gson);
+            } catch (ClassNotFoundException e) {
+                // enums
+                return null;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CodegenIgnoreProcessor#allowsFile(File)}, called for every file the generator renders, with the kind of rules
+ * found in ignore files: directories, globs, negations. Scores are per file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IgnoreProcessorBenchmark {
+    private static final int FILES = 1000;
+
+    private static final String[] RULES = {
+            "# generated documentation is published separately",
+            "docs/",
+            "**/*.md",
+            "!README.md",
+            "src/test/**",
+            "src/main/java/io/swagger/client/model/SyntheticModel1*.java",
+            "build.gradle",
+            "*.sbt",
+    };
+
+    private File outputDir;
+    private CodegenIgnoreProcessor processor;
+    private File[] files;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDir = Files.createTempDirectory("ignore-benchmark").toFile();
+        File ignoreFile = new File(outputDir, ".swagger-codegen-ignore");
+        FileUtils.writeLines(ignoreFile, StandardCharsets.UTF_8.name(), Arrays.asList(RULES));
+        processor = new CodegenIgnoreProcessor(ignoreFile);
+
+        String[] layouts = {
+                "src/main/java/io/swagger/client/model/%s.java",
+                "src/test/java/io/swagger/client/model/%sTest.java",
+                "docs/%s.md",
+                "src/main/java/io/swagger/client/api/%sApi.java",
+        };
+        files = new File[FILES];
+        for (int i = 0; i < FILES; i++) {
+            files[i] = new File(outputDir, String.format(layouts[i % layouts.length], SyntheticSpecs.modelName(i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(outputDir);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILES)
+    public void allowsFile(Blackhole blackhole) {
+        for (File file : files) {
+            blackhole.consume(processor.allowsFile(file));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.ModelSignature;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InlineModelResolver#flatten(Swagger)} on a fresh spec, and the two ways of keying generated models for dedup:
+ * the pretty printed JSON the resolver used to build for every inline schema, and {@link ModelSignature}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InlineModelResolverBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int definitions;
+
+    private Swagger swagger;
+    private List<Model> models;
+
+    @Setup
+    public void setUpModels() {
+        models = new ArrayList<Model>(SyntheticSpecs.create(definitions).getDefinitions().values());
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpSpec() {
+        // flattening modifies the spec
+        swagger = SyntheticSpecs.create(definitions);
+    }
+
+    @Benchmark
+    public Swagger flatten() {
+        new InlineModelResolver().flatten(swagger);
+        return swagger;
+    }
+
+    @Benchmark
+    public Map<String, String> prettyJsonKeys() {
+        Map<String, String> generated = new HashMap<String, String>();
+        for (Model model : models) {
+            String json = Json.pretty(model);
+            if (!generated.containsKey(json)) {
+                generated.put(json, "model");
+            }
+        }
+        return generated;
+    }
+
+    @Benchmark
+    public Map<ModelSignature, String> signatureKeys() {
+        Map<ModelSignature, String> generated = new HashMap<ModelSignature, String>();
+        for (Model model : models) {
+            ModelSignature signature = ModelSignature.of(model);
+            if (!generated.containsKey(signature)) {
+                generated.put(signature, "model");
+            }
+        }
+        return generated;
+    }
+}
@@ -0,0 +1,186 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.models.ArrayModel;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Info;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.BooleanProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.DoubleProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds specs of a given number of definitions, with a mix of what real specs contain: scalar, enum, array, map and
+ * $ref properties, allOf inheritance, inline object schemas, and one resource with get/put/delete operations for every
+ * fifth definition. The same size always gives the same spec.
+ *
+ * A new spec has to be built for every generation, as generating modifies the spec (inline models are flattened,
+ * path parameters are copied to operations...).
+ */
+public final class SyntheticSpecs {
+    private static final int DEFINITIONS_PER_PATH = 5;
+    private static final int PATHS_PER_TAG = 20;
+
+    private SyntheticSpecs() {
+    }
+
+    public static Swagger create(int definitions) {
+        Swagger swagger = new Swagger()
+                .info(new Info().title("Synthetic API").version("1.0.0").description("Synthetic spec with " + definitions + " definitions"))
+                .host("api.example.com")
+                .basePath("/v1");
+        swagger.setConsumes(Arrays.asList("application/json"));
+        swagger.setProduces(Arrays.asList("application/json"));
+
+        for (int i = 0; i < definitions; i++) {
+            swagger.addDefinition(modelName(i), createModel(i));
+        }
+        for (int i = 0; i < definitions; i += DEFINITIONS_PER_PATH) {
+            String tag = "Group" + (i / (DEFINITIONS_PER_PATH * PATHS_PER_TAG));
+            if (i % (DEFINITIONS_PER_PATH * PATHS_PER_TAG) == 0) {
+                swagger.addTag(new Tag().name(tag).description("Operations of " + tag));
+            }
+            swagger.path("/resource" + i + "/{id}", createPath(i, tag));
+        }
+        return swagger;
+    }
+
+    public static String modelName(int index) {
+        return "SyntheticModel" + index;
+    }
+
+    /**
+     * @param count The number of names
+     * @return Identifiers in the styles found in specs: camel case, snake case, kebab case, with spaces or symbols
+     */
+    public static List<String> names(int count) {
+        String[] styles = {"%s_%d_field_name", "%sPropertyName%d", "x-%s-header-%d", "%s %d with spaces", "$%s[%d].value", "%S_CONSTANT_%d"};
+        String[] words = {"pet", "order", "user", "httpStatus", "URLPath", "created_at", "_links", "self"};
+        List<String> names = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(String.format(styles[i % styles.length], words[i % words.length], i));
+        }
+        return names;
+    }
+
+    private static Model createModel(int i) {
+        if (i % 10 == 9) {
+            ComposedModel composed = new ComposedModel();
+            composed.setDescription("Synthetic model number " + i + " extending " + modelName(i - 1));
+            composed.parent(new RefModel(modelName(i - 1)));
+            ModelImpl child = new ModelImpl();
+            child.property("extra", new StringProperty());
+            child.property("extraCount", new IntegerProperty());
+            composed.child(child);
+            composed.setAllOf(Arrays.<Model>asList(new RefModel(modelName(i - 1)), child));
+            return composed;
+        }
+        if (i % 25 == 24) {
+            ArrayModel array = new ArrayModel();
+            array.setDescription("List of " + modelName(i - 1));
+            array.setItems(new RefProperty(modelName(i - 1)));
+            return array;
+        }
+
+        ModelImpl model = new ModelImpl();
+        model.setType("object");
+        model.setDescription("Synthetic model number " + i);
+        model.property("id", required(new LongProperty()));
+        model.property("name", required(new StringProperty()));
+        model.property("description", new StringProperty());
+        model.property("count", new IntegerProperty());
+        model.property("ratio", new DoubleProperty());
+        model.property("active", new BooleanProperty());
+        model.property("createdAt", new DateTimeProperty());
+        model.property("status", new StringProperty()._enum(Arrays.asList("available", "pending", "sold")));
+        model.property("tags", new ArrayProperty(new StringProperty()));
+        model.property("attributes", new MapProperty(new StringProperty()));
+        if (i > 0) {
+            model.property("related", new RefProperty(modelName(i - 1)));
+            model.property("relatedList", new ArrayProperty(new RefProperty(modelName(i / 2))));
+        }
+        if (i % 3 == 0) {
+            // resolved into a generated model, identical for all definitions
+            model.property("address", new ObjectProperty(inlineProperties()));
+        }
+        return model;
+    }
+
+    private static Property required(Property property) {
+        property.setRequired(true);
+        return property;
+    }
+
+    private static Map<String, Property> inlineProperties() {
+        Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        properties.put("street", new StringProperty());
+        properties.put("city", new StringProperty());
+        properties.put("zip", new StringProperty());
+        return properties;
+    }
+
+    private static Path createPath(int i, String tag) {
+        String model = modelName(i);
+        PathParameter id = new PathParameter();
+        id.setName("id");
+        id.setType("integer");
+        id.setFormat("int64");
+
+        Operation get = new Operation()
+                .operationId("get" + model)
+                .summary("Get a " + model)
+                .tag(tag)
+                .parameter(id)
+                .parameter(new QueryParameter().name("fields").type("string"))
+                .response(200, new Response().description("OK").responseSchema(new RefModel(model)))
+                .response(404, new Response().description("Not found"));
+
+        BodyParameter body = new BodyParameter();
+        body.setName("body");
+        body.setRequired(true);
+        body.setSchema(new RefModel(model));
+        // inline response schema, resolved into a generated model
+        ObjectProperty result = new ObjectProperty(new LinkedHashMap<String, Property>());
+        result.property("updated", new BooleanProperty());
+        result.property("version", new IntegerProperty());
+        Operation put = new Operation()
+                .operationId("update" + model)
+                .summary("Update a " + model)
+                .tag(tag)
+                .parameter(id)
+                .parameter(body)
+                .response(200, new Response().description("OK").schema(result));
+
+        Operation delete = new Operation()
+                .operationId("delete" + model)
+                .summary("Delete a " + model)
+                .tag(tag)
+                .parameter(id)
+                .response(204, new Response().description("Deleted"));
+
+        return new Path().get(get).put(put).delete(delete);
+    }
+}
@@ -0,0 +1,129 @@
+package io.swagger.codegen.benchmarks;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiles the java model template, with its partials, and executes it for a set of models. Template sources are read
+ * once during setup, so that compilation doesn't include reading from the classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateBenchmark {
+    private static final int MODELS = 100;
+
+    private final Map<String, String> sources = new ConcurrentHashMap<String, String>();
+
+    private DefaultGenerator generator;
+    private CodegenConfig config;
+    private String templateFile;
+    private Template template;
+    private List<Map<String, Object>> bundles;
+
+    @Setup
+    public void setUp() {
+        generator = new DefaultGenerator();
+        config = new JavaClientCodegen();
+        config.processOpts();
+        templateFile = generator.getFullTemplateFile(config, "model.mustache");
+        template = compile();
+
+        Swagger swagger = SyntheticSpecs.create(MODELS);
+        new InlineModelResolver().flatten(swagger);
+        Map<String, Model> definitions = swagger.getDefinitions();
+        bundles = new ArrayList<Map<String, Object>>();
+        for (int i = 0; i < MODELS; i++) {
+            String name = SyntheticSpecs.modelName(i);
+            CodegenModel cm = config.fromModel(name, definitions.get(name), definitions);
+
+            Map<String, Object> model = new HashMap<String, Object>();
+            model.put("model", cm);
+            model.put("importPath", config.toModelImport(cm.classname));
+            List<Map<String, String>> imports = new ArrayList<Map<String, String>>();
+            for (String nextImport : cm.imports) {
+                String mapping = config.importMapping().get(nextImport);
+                if (mapping == null) {
+                    mapping = config.toModelImport(nextImport);
+                }
+                if (mapping != null) {
+                    imports.add(Collections.singletonMap("import", mapping));
+                }
+            }
+
+            Map<String, Object> bundle = new HashMap<String, Object>(config.additionalProperties());
+            bundle.put("package", config.modelPackage());
+            bundle.put("modelPackage", config.modelPackage());
+            bundle.put("classname", cm.classname);
+            bundle.put("models", Collections.singletonList(model));
+            bundle.put("imports", imports);
+            bundles.add(config.postProcessModels(bundle));
+        }
+    }
+
+    @Benchmark
+    public Template compileModelTemplate() {
+        return compile();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MODELS)
+    public void executeModelTemplate(Blackhole blackhole) {
+        for (Map<String, Object> bundle : bundles) {
+            blackhole.consume(template.execute(bundle));
+        }
+    }
+
+    private Template compile() {
+        return config.processCompiler(Mustache.compiler())
+                .withLoader(new Mustache.TemplateLoader() {
+                    @Override
+                    public Reader getTemplate(String name) {
+                        return new StringReader(source(generator.getFullTemplateFile(config, name + ".mustache")));
+                    }
+                })
+                .defaultValue("")
+                .compile(source(templateFile));
+    }
+
+    private String source(String file) {
+        String source = sources.get(file);
+        if (source == null) {
+            source = generator.readTemplate(file);
+            sources.put(file, source);
+        }
+        return source;
+    }
+}
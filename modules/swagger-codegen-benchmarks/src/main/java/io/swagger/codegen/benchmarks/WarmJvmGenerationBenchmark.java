@@ -0,0 +1,88 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.TemplateCache;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of generating a small spec in process in a fresh JVM, like every CLI invocation, versus in a JVM which
+ * already generated: generators already discovered and loaded, templates already compiled and shared. This is the part
+ * of a generation the CLI daemon saves, but the daemon itself isn't involved: neither includes the startup of the JVM,
+ * which the daemon also saves, nor the HTTP round trip to the daemon, which it adds. Each cold measurement is the first
+ * generation of its own fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WarmJvmGenerationBenchmark {
+
+    @Param({"java", "typescript-angular"})
+    public String language;
+
+    @Param({"10", "100"})
+    public int definitions;
+
+    private File outputDir;
+    private Swagger swagger;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        outputDir = Files.createTempDirectory("warm-jvm-generation-benchmark").toFile();
+        swagger = SyntheticSpecs.create(definitions);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(outputDir);
+    }
+
+    @Benchmark
+    @Fork(10)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public List<File> cold() {
+        return generate(new TemplateCache());
+    }
+
+    @Benchmark
+    @Fork(1)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public List<File> warm() {
+        return generate(TemplateCache.shared());
+    }
+
+    private List<File> generate(TemplateCache templateCache) {
+        CodegenConfig config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(outputDir.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setTemplateCache(templateCache);
+        return generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(config)).generate();
+    }
+}
@@ -0,0 +1,207 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * Generates several targets in one run, e.g. the clients of a spec in several languages. Each spec is read and its
+ * inline models flattened once, then each target generates from its own copy.
+ */
+@Command(name = "batch", description = "Generate code for several configurations, reading each spec once")
+public class Batch implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Batch.class);
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of targets generated at the same time (the number of processors by default)")
+    private Integer threads;
+
+    @Arguments(title = "configuration files", required = true,
+            description = "configuration files of the targets, in the json (or yaml) format of generate --config, "
+                    + "each with at least its lang, inputSpec and outputDir")
+    private List<String> configFiles = new ArrayList<>();
+
+    @Override
+    public void run() {
+        List<Target> targets = new ArrayList<>();
+        for (String configFile : configFiles) {
+            CodegenConfigurator configurator = CodegenConfigurator.fromFile(configFile);
+            if (configurator == null) {
+                throw new IllegalArgumentException("Unable to read configuration file " + configFile);
+            }
+            targets.add(new Target(configFile, configurator));
+        }
+
+        long start = System.nanoTime();
+        Map<String, JsonNode> specs = new HashMap<>();
+        for (Target target : targets) {
+            String key = target.configurator.getInputSpec() + "\n" + target.configurator.getAuth();
+            target.spec = specs.get(key);
+            if (target.spec == null) {
+                target.spec = readSpec(target.configurator);
+                specs.put(key, target.spec);
+            }
+        }
+        System.out.printf("Read %d spec(s) in %d ms%n", specs.size(), millisSince(start));
+
+        // system properties are global, so the targets setting some are generated one at a time, after the others;
+        // the switches of the generator (models, apis...) are given to each generation instead
+        List<Target> concurrentTargets = new ArrayList<>();
+        List<Target> serialTargets = new ArrayList<>();
+        for (Target target : targets) {
+            if (getGlobalProperties(target).isEmpty()) {
+                concurrentTargets.add(target);
+            } else {
+                serialTargets.add(target);
+            }
+        }
+        generateConcurrently(concurrentTargets);
+        for (Target target : serialTargets) {
+            generateWithSystemProperties(target);
+        }
+
+        int failures = 0;
+        for (Target target : targets) {
+            if (target.failure != null) {
+                failures++;
+                System.out.printf("%-40s %-20s FAILED after %d ms: %s%n", target.configFile,
+                        target.configurator.getLang(), target.millis, target.failure.getMessage());
+            } else {
+                System.out.printf("%-40s %-20s %d ms%n", target.configFile, target.configurator.getLang(),
+                        target.millis);
+            }
+        }
+        System.out.printf("Generated %d target(s) in %d ms%n", targets.size() - failures, millisSince(start));
+        if (failures > 0) {
+            throw new RuntimeException(failures + " of " + targets.size() + " targets failed");
+        }
+    }
+
+    private void generateConcurrently(List<Target> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        int poolSize = threads != null && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(poolSize, targets.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (final Target target : targets) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        generate(target);
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> getGlobalProperties(Target target) {
+        List<String> names = new ArrayList<>();
+        for (String name : target.configurator.getSystemProperties().keySet()) {
+            if (!DefaultGenerator.PROPERTIES.contains(name)) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static void generateWithSystemProperties(Target target) {
+        Map<String, String> previous = new HashMap<>();
+        for (String name : getGlobalProperties(target)) {
+            previous.put(name, System.getProperty(name));
+        }
+        try {
+            generate(target);
+        } finally {
+            for (Map.Entry<String, String> entry : previous.entrySet()) {
+                if (entry.getValue() == null) {
+                    System.clearProperty(entry.getKey());
+                } else {
+                    System.setProperty(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private static void generate(Target target) {
+        long start = System.nanoTime();
+        try {
+            Swagger swagger = Json.mapper().treeToValue(target.spec, Swagger.class);
+            ClientOptInput clientOptInput = target.configurator.toClientOptInput(swagger);
+            new DefaultGenerator().opts(clientOptInput).generate();
+        } catch (Exception e) {
+            LOG.error("Unable to generate " + target.configFile, e);
+            target.failure = e;
+        } finally {
+            target.millis = millisSince(start);
+        }
+    }
+
+    private static JsonNode readSpec(CodegenConfigurator configurator) {
+        String inputSpec = configurator.getInputSpec();
+        if (isEmpty(inputSpec)) {
+            throw new IllegalArgumentException("input spec must be specified");
+        }
+        Swagger swagger = new SwaggerParser().read(inputSpec, AuthParser.parse(configurator.getAuth()), true);
+        if (swagger == null) {
+            throw new IllegalArgumentException("Unable to read spec " + inputSpec);
+        }
+        new InlineModelResolver().flatten(swagger);
+        // copied for each target through a tree, cheaper to read than the spec
+        return Json.mapper().valueToTree(swagger);
+    }
+
+    private static long millisSince(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static class Target {
+        private final String configFile;
+        private final CodegenConfigurator configurator;
+        private JsonNode spec;
+        private volatile long millis;
+        private volatile Exception failure;
+
+        Target(String configFile, CodegenConfigurator configurator) {
+            this.configFile = configFile;
+            this.configurator = configurator;
+        }
+    }
+}
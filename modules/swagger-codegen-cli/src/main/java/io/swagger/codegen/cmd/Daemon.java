@@ -0,0 +1,295 @@
+package io.swagger.codegen.cmd;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.airlift.airline.Cli;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.airlift.airline.ParseException;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.TemplateCache;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a JVM running to serve the generate requests of {@link Remote}, which skip the startup of the JVM, the
+ * discovery of the generators and the compilation of their templates: most of the time taken by small specs.
+ *
+ * Requests are served over HTTP on the loopback interface: {@code POST /generate} with the arguments of generate as a
+ * JSON array, {@code GET /status} and {@code POST /shutdown}. Generate sets system properties, so requests are run one
+ * at a time and the system properties are restored after each one.
+ *
+ * Any local process, including a web page through the browser, can reach the port, so every request must carry the
+ * token written at startup to a file only readable by the user ({@link #tokenFile(int)}), in the
+ * {@value #TOKEN_HEADER} header. Requests with an {@code Origin} header, as sent by browsers, are rejected, and
+ * generate only accepts {@code application/json} bodies.
+ */
+@Command(name = "daemon", description = "Serve the generate requests of the remote command from a warm JVM")
+public class Daemon implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(Daemon.class);
+
+    public static final int DEFAULT_PORT = 7311;
+    static final String GENERATE_PATH = "/generate";
+    static final String STATUS_PATH = "/status";
+    static final String SHUTDOWN_PATH = "/shutdown";
+    static final String TOKEN_HEADER = "X-Swagger-Codegen-Token";
+
+    @Option(name = {"--port"}, title = "port",
+            description = "loopback port to listen on (" + DEFAULT_PORT + " by default)")
+    private int port = DEFAULT_PORT;
+
+    @Option(name = {"--idle-timeout"}, title = "idle timeout",
+            description = "minutes without requests after which the daemon stops (30 by default, 0 to never stop)")
+    private int idleTimeoutMinutes = 30;
+
+    private final Object generateLock = new Object();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile long lastRequestMillis;
+    private volatile long requests;
+    private byte[] token;
+
+    @SuppressWarnings("unchecked")
+    private final Cli<Runnable> cli = Cli.<Runnable>builder("swagger-codegen-cli")
+            .withCommands(Generate.class)
+            .build();
+
+    @Override
+    public void run() {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to listen on port " + port, e);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        server.createContext(GENERATE_PATH, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handleGenerate(exchange);
+            }
+        });
+        server.createContext(STATUS_PATH, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handleStatus(exchange);
+            }
+        });
+        server.createContext(SHUTDOWN_PATH, new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (authorize(exchange, "POST")) {
+                    respond(exchange, 200, "stopping");
+                    stopped.countDown();
+                }
+            }
+        });
+
+        // generators are discovered once for all requests
+        CodegenConfigLoader.getNames();
+        File tokenFile = tokenFile(port);
+        String tokenValue = newToken();
+        try {
+            writeUserOnly(tokenFile, tokenValue);
+        } catch (IOException e) {
+            server.stop(0);
+            executor.shutdownNow();
+            throw new RuntimeException("Unable to write the token file " + tokenFile, e);
+        }
+        token = tokenValue.getBytes(StandardCharsets.UTF_8);
+        lastRequestMillis = System.currentTimeMillis();
+        server.start();
+        System.out.printf("Listening on http://%s:%d%n", server.getAddress().getHostString(), port);
+
+        ScheduledExecutorService idleTimer = Executors.newSingleThreadScheduledExecutor();
+        if (idleTimeoutMinutes > 0) {
+            final long idleTimeoutMillis = TimeUnit.MINUTES.toMillis(idleTimeoutMinutes);
+            idleTimer.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    if (activeRequests.get() == 0
+                            && System.currentTimeMillis() - lastRequestMillis >= idleTimeoutMillis) {
+                        LOG.info("No request for " + idleTimeoutMinutes + " minutes, stopping");
+                        stopped.countDown();
+                    }
+                }
+            }, 1, 1, TimeUnit.SECONDS);
+        }
+
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            idleTimer.shutdownNow();
+            server.stop(0);
+            executor.shutdownNow();
+            if (!tokenFile.delete()) {
+                LOG.warn("Unable to delete the token file " + tokenFile);
+            }
+        }
+    }
+
+    private void handleGenerate(HttpExchange exchange) throws IOException {
+        if (!authorize(exchange, "POST")) {
+            return;
+        }
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase("application/json")) {
+            respond(exchange, 415, "Expected a JSON array of arguments as application/json");
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add("generate");
+        try {
+            args.addAll(Json.mapper().<List<String>>readValue(exchange.getRequestBody(),
+                    new TypeReference<List<String>>() {
+                    }));
+        } catch (IOException e) {
+            respond(exchange, 400, "Expected a JSON array of arguments: " + e.getMessage());
+            return;
+        }
+
+        int status;
+        String message;
+        activeRequests.incrementAndGet();
+        try {
+            synchronized (generateLock) {
+                lastRequestMillis = System.currentTimeMillis();
+                requests++;
+                Properties systemProperties = (Properties) System.getProperties().clone();
+                long start = System.nanoTime();
+                try {
+                    Runnable command = cli.parse(args);
+                    ((Generate) command).setTemplateCache(TemplateCache.shared());
+                    command.run();
+                    status = 200;
+                    message = "Generated in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms";
+                } catch (ParseException e) {
+                    status = 400;
+                    message = e.getMessage();
+                } catch (Exception e) {
+                    LOG.error("Unable to generate " + args, e);
+                    status = 500;
+                    message = String.valueOf(e.getMessage());
+                } finally {
+                    System.setProperties(systemProperties);
+                    lastRequestMillis = System.currentTimeMillis();
+                }
+            }
+        } finally {
+            activeRequests.decrementAndGet();
+        }
+        respond(exchange, status, message);
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        if (!authorize(exchange, "GET")) {
+            return;
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("requests", requests);
+        status.put("activeRequests", activeRequests.get());
+        status.put("idleMillis", System.currentTimeMillis() - lastRequestMillis);
+        status.put("templates", TemplateCache.shared().size());
+        respond(exchange, 200, Json.mapper().writeValueAsString(status));
+    }
+
+    /**
+     * Rejects, and answers, the requests with another method, from a browser or without the token.
+     */
+    private boolean authorize(HttpExchange exchange, String method) throws IOException {
+        if (!method.equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", method);
+            respond(exchange, 405, "Expected " + method);
+            return false;
+        }
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            respond(exchange, 403, "Cross origin requests are not allowed");
+            return false;
+        }
+        String requestToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        if (requestToken == null
+                || !MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8))) {
+            respond(exchange, 403, "Missing or wrong " + TOKEN_HEADER + " header");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return The file the daemon listening on the given port writes its token to.
+     */
+    static File tokenFile(int port) {
+        return new File(new File(System.getProperty("user.home"), ".swagger-codegen"), "daemon-" + port + ".token");
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        return token.toString();
+    }
+
+    private static void writeUserOnly(File file, String contents) throws IOException {
+        Path path = file.toPath();
+        Files.createDirectories(path.getParent());
+        // recreated rather than overwritten, so that the permissions are those set here
+        Files.deleteIfExists(path);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(path);
+            File f = path.toFile();
+            if (!(f.setReadable(false, false) && f.setReadable(true, true)
+                    && f.setWritable(false, false) && f.setWritable(true, true))) {
+                throw new IOException("Unable to restrict the permissions of " + file);
+            }
+        }
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        OutputStream out = exchange.getResponseBody();
+        try {
+            out.write(body);
+        } finally {
+            out.close();
+        }
+    }
+}
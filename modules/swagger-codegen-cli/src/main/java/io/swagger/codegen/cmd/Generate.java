@@ -5,6 +5,7 @@ import io.airlift.airline.Option;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.TemplateCache;
 import io.swagger.codegen.config.CodegenConfigurator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -172,6 +173,22 @@ public class Generate implements Runnable {
             description = CodegenConstants.REMOVE_OPERATION_ID_PREFIX_DESC)
     private Boolean removeOperationIdPrefix;
 
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of threads used to render and write model and api files (1 by default, rendering serially)")
+    private Integer threads;
+
+    @Option(name = {"--incremental"}, title = "incremental generation",
+            description = "only generate the models and apis affected by spec changes since the previous generation "
+                    + "into the same output directory (requires the .swagger-codegen metadata)")
+    private Boolean incremental;
+
+    @Option(name = {"--atomic-writes"}, title = "atomic writes",
+            description = "write each file to a temporary file first and move it into place once complete, so that "
+                    + "no partially written file is ever visible")
+    private Boolean atomicWrites;
+
+    private TemplateCache templateCache;
+
     @Override
     public void run() {
 
@@ -273,6 +290,18 @@ public class Generate implements Runnable {
             configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
         }
 
+        if (threads != null) {
+            configurator.setThreads(threads);
+        }
+
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
+        }
+
+        if (atomicWrites != null) {
+            configurator.setAtomicWrites(atomicWrites);
+        }
+
         applySystemPropertiesKvpList(systemProperties, configurator);
         applyInstantiationTypesKvpList(instantiationTypes, configurator);
         applyImportMappingsKvpList(importMappings, configurator);
@@ -282,6 +311,17 @@ public class Generate implements Runnable {
         applyReservedWordsMappingsKvpList(reservedWordsMappings, configurator);
         final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
-        new DefaultGenerator().opts(clientOptInput).generate();
+        DefaultGenerator generator = new DefaultGenerator();
+        if (templateCache != null) {
+            generator.setTemplateCache(templateCache);
+        }
+        generator.opts(clientOptInput).generate();
+    }
+
+    /**
+     * @param templateCache the cache of compiled templates, e.g. one shared by the runs of a daemon
+     */
+    void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
     }
 }
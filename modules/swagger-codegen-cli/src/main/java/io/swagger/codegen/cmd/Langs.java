@@ -1,12 +1,7 @@
 package io.swagger.codegen.cmd;
 
-import ch.lambdaj.collection.LambdaIterable;
 import io.airlift.airline.Command;
-import io.swagger.codegen.CodegenConfig;
-
-import static ch.lambdaj.Lambda.on;
-import static ch.lambdaj.collection.LambdaCollections.with;
-import static java.util.ServiceLoader.load;
+import io.swagger.codegen.CodegenConfigLoader;
 
 /**
  * User: lanwen Date: 24.03.15 Time: 20:25
@@ -15,8 +10,6 @@ import static java.util.ServiceLoader.load;
 public class Langs implements Runnable {
     @Override
     public void run() {
-        LambdaIterable<String> langs =
-                with(load(CodegenConfig.class)).extract(on(CodegenConfig.class).getName());
-        System.out.printf("Available languages: %s%n", langs);
+        System.out.printf("Available languages: %s%n", CodegenConfigLoader.getNames());
     }
 }
@@ -0,0 +1,115 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.SwaggerCodegen;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Forwards generate arguments to a {@link Daemon}, or generates in process when no daemon is running.
+ */
+@Command(name = "remote", description = "Generate code through a running daemon, or in process if there is none")
+public class Remote implements Runnable {
+
+    // options of generate taking a path, resolved here as the daemon runs in its own directory
+    private static final Set<String> PATH_OPTIONS = new HashSet<>(Arrays.asList(
+            "-i", "--input-spec", "-o", "--output", "-t", "--template-dir", "-c", "--config", "--ignore-file-override"));
+
+    @Option(name = {"--port"}, title = "port",
+            description = "loopback port of the daemon (" + Daemon.DEFAULT_PORT + " by default)")
+    private int port = Daemon.DEFAULT_PORT;
+
+    @Arguments(title = "generate arguments", required = true,
+            description = "arguments of the generate command, after --")
+    private List<String> args = new ArrayList<>();
+
+    @Override
+    public void run() {
+        List<String> resolvedArgs = resolvePaths(args, new File("").getAbsoluteFile());
+        File tokenFile = Daemon.tokenFile(port);
+        if (!tokenFile.isFile()) {
+            generateInProcess();
+            return;
+        }
+        HttpURLConnection connection = null;
+        try {
+            String token = FileUtils.readFileToString(tokenFile, StandardCharsets.UTF_8).trim();
+            connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + Daemon.GENERATE_PATH).openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setRequestProperty(Daemon.TOKEN_HEADER, token);
+            OutputStream out = connection.getOutputStream();
+            try {
+                Json.mapper().writeValue(out, resolvedArgs);
+            } finally {
+                out.close();
+            }
+            int status = connection.getResponseCode();
+            InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+            String message = in != null ? IOUtils.toString(in, StandardCharsets.UTF_8) : "";
+            if (status != 200) {
+                throw new RuntimeException("The daemon failed to generate (" + status + "): " + message);
+            }
+            System.out.println(message);
+        } catch (ConnectException e) {
+            // stale token file of a daemon which didn't stop cleanly
+            generateInProcess();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to reach the daemon on port " + port, e);
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private void generateInProcess() {
+        System.out.println("No daemon on port " + port + ", generating in process");
+        List<String> generateArgs = new ArrayList<>();
+        generateArgs.add("generate");
+        generateArgs.addAll(args);
+        SwaggerCodegen.main(generateArgs.toArray(new String[generateArgs.size()]));
+    }
+
+    static List<String> resolvePaths(List<String> args, File directory) {
+        List<String> resolved = new ArrayList<>();
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            int equals = arg.indexOf('=');
+            if (arg.startsWith("--") && equals > 0 && PATH_OPTIONS.contains(arg.substring(0, equals))) {
+                resolved.add(arg.substring(0, equals + 1) + resolvePath(arg.substring(equals + 1), directory));
+            } else if (PATH_OPTIONS.contains(arg) && i + 1 < args.size()) {
+                resolved.add(arg);
+                resolved.add(resolvePath(args.get(++i), directory));
+            } else {
+                resolved.add(arg);
+            }
+        }
+        return resolved;
+    }
+
+    private static String resolvePath(String path, File directory) {
+        if (path.contains("://") || new File(path).isAbsolute()) {
+            return path;
+        }
+        return new File(directory, path).getPath();
+    }
+}
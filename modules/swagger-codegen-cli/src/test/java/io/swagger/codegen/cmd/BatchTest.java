@@ -0,0 +1,59 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertTrue;
+
+public class BatchTest {
+
+    private static final String SPEC = "{\"swagger\":\"2.0\",\"info\":{\"title\":\"Pets\",\"version\":\"1.0\"},"
+            + "\"paths\":{\"/pets/{id}\":{\"get\":{\"operationId\":\"getPet\",\"parameters\":[{\"name\":\"id\","
+            + "\"in\":\"path\",\"required\":true,\"type\":\"string\"}],\"responses\":{\"200\":{\"description\":\"ok\","
+            + "\"schema\":{\"$ref\":\"#/definitions/Pet\"}}}}}},\"definitions\":{\"Pet\":{\"type\":\"object\","
+            + "\"properties\":{\"name\":{\"type\":\"string\"},\"owner\":{\"type\":\"object\",\"properties\":"
+            + "{\"name\":{\"type\":\"string\"}}}}}}}";
+
+    private File root;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("batch").toFile();
+        FileUtils.writeStringToFile(new File(root, "spec.json"), SPEC, StandardCharsets.UTF_8);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void testGeneratesEachTarget() throws Exception {
+        String spec = new File(root, "spec.json").getAbsolutePath();
+        File java = new File(root, "java.json");
+        FileUtils.writeStringToFile(java, "{\"lang\":\"java\",\"inputSpec\":\"" + spec + "\",\"outputDir\":\""
+                + new File(root, "java").getAbsolutePath() + "\"}", StandardCharsets.UTF_8);
+        File html = new File(root, "html.yaml");
+        FileUtils.writeStringToFile(html, "lang: html\ninputSpec: " + spec + "\noutputDir: "
+                + new File(root, "html").getAbsolutePath() + "\n", StandardCharsets.UTF_8);
+
+        SwaggerCodegen.main(new String[]{"batch", "--threads", "2", java.getAbsolutePath(), html.getAbsolutePath()});
+
+        assertTrue(new File(root, "java/src/main/java/io/swagger/client/model/Pet.java").isFile());
+        assertTrue(new File(root, "java/src/main/java/io/swagger/client/api/DefaultApi.java").isFile());
+        assertTrue(new File(root, "html/index.html").isFile());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnreadableConfigurationFile() throws Exception {
+        SwaggerCodegen.main(new String[]{"batch", new File(root, "missing.json").getAbsolutePath()});
+    }
+}
@@ -0,0 +1,208 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DaemonTest {
+
+    private static final String SPEC = "{\"swagger\":\"2.0\",\"info\":{\"title\":\"Pets\",\"version\":\"1.0\"},"
+            + "\"paths\":{},\"definitions\":{\"Pet\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}}}";
+
+    private static final String ARGS = "[\"-l\", \"html\"]";
+
+    private File root;
+    private String userHome;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("daemon").toFile();
+        FileUtils.writeStringToFile(new File(root, "spec.json"), SPEC, StandardCharsets.UTF_8);
+        // keeps the token files out of the actual home directory
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", new File(root, "home").getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        System.setProperty("user.home", userHome);
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void testResolvePaths() throws Exception {
+        File directory = new File("/work");
+        List<String> resolved = Remote.resolvePaths(Arrays.asList("-i", "spec.yaml", "-l", "java",
+                "--output=out", "-t", "/templates", "-c", "http://example.com/config.json", "-DmodelDocs=false"),
+                directory);
+
+        assertEquals(resolved, Arrays.asList("-i", new File(directory, "spec.yaml").getPath(), "-l", "java",
+                "--output=" + new File(directory, "out").getPath(), "-t", "/templates",
+                "-c", "http://example.com/config.json", "-DmodelDocs=false"));
+    }
+
+    @Test
+    public void testGeneratesThroughTheDaemon() throws Exception {
+        int port = freePort();
+        Thread daemon = startDaemon(port);
+
+        for (String output : Arrays.asList("first", "second")) {
+            SwaggerCodegen.main(new String[]{"remote", "--port", String.valueOf(port), "--",
+                    "-i", new File(root, "spec.json").getAbsolutePath(), "-l", "html",
+                    "-o", new File(root, output).getAbsolutePath()});
+            assertTrue(new File(root, output + "/index.html").isFile());
+        }
+        String token = token(port);
+        assertTrue(response(request(port, Daemon.STATUS_PATH, "GET", token)).contains("\"requests\":2"));
+
+        stopDaemon(port, daemon);
+        assertFalse(Daemon.tokenFile(port).exists());
+    }
+
+    @Test
+    public void testRejectsUnauthorizedRequests() throws Exception {
+        int port = freePort();
+        Thread daemon = startDaemon(port);
+        String token = token(port);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(Files.getPosixFilePermissions(Daemon.tokenFile(port).toPath()),
+                    PosixFilePermissions.fromString("rw-------"));
+        }
+
+        assertEquals(generate(port, null, "application/json").getResponseCode(), 403);
+        assertEquals(generate(port, "wrong", "application/json").getResponseCode(), 403);
+        assertEquals(generate(port, token, "text/plain").getResponseCode(), 415);
+        assertEquals(generateFromBrowser(port, token), "HTTP/1.1 403 Forbidden");
+        assertEquals(request(port, Daemon.STATUS_PATH, "GET", null).getResponseCode(), 403);
+        assertEquals(request(port, Daemon.SHUTDOWN_PATH, "GET", token).getResponseCode(), 405);
+        assertEquals(request(port, Daemon.SHUTDOWN_PATH, "POST", null).getResponseCode(), 403);
+        assertTrue(daemon.isAlive());
+        assertTrue(response(request(port, Daemon.STATUS_PATH, "GET", token)).contains("\"requests\":0"));
+
+        stopDaemon(port, daemon);
+    }
+
+    @Test
+    public void testGeneratesInProcessWithoutDaemon() throws Exception {
+        SwaggerCodegen.main(new String[]{"remote", "--port", String.valueOf(freePort()), "--",
+                "-i", new File(root, "spec.json").getAbsolutePath(), "-l", "html",
+                "-o", new File(root, "out").getAbsolutePath()});
+
+        assertTrue(new File(root, "out/index.html").isFile());
+    }
+
+    private static int freePort() throws IOException {
+        ServerSocket socket = new ServerSocket(0);
+        try {
+            return socket.getLocalPort();
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static Thread startDaemon(final int port) throws Exception {
+        Thread daemon = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                SwaggerCodegen.main(new String[]{"daemon", "--port", String.valueOf(port)});
+            }
+        });
+        daemon.start();
+        long deadline = System.currentTimeMillis() + 30000;
+        while (System.currentTimeMillis() < deadline) {
+            if (Daemon.tokenFile(port).isFile()) {
+                try {
+                    response(request(port, Daemon.STATUS_PATH, "GET", token(port)));
+                    return daemon;
+                } catch (IOException e) {
+                    // not listening yet
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("the daemon didn't start");
+    }
+
+    private static void stopDaemon(int port, Thread daemon) throws Exception {
+        response(request(port, Daemon.SHUTDOWN_PATH, "POST", token(port)));
+        daemon.join(10000);
+        assertFalse(daemon.isAlive());
+    }
+
+    private static String token(int port) throws IOException {
+        return FileUtils.readFileToString(Daemon.tokenFile(port), StandardCharsets.UTF_8).trim();
+    }
+
+    private static HttpURLConnection generate(int port, String token, String contentType) throws IOException {
+        HttpURLConnection connection = request(port, Daemon.GENERATE_PATH, "POST", token);
+        connection.setRequestProperty("Content-Type", contentType);
+        connection.setDoOutput(true);
+        OutputStream out = connection.getOutputStream();
+        try {
+            out.write(ARGS.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            out.close();
+        }
+        return connection;
+    }
+
+    /**
+     * @return The status line of a generate request with an Origin header, which HttpURLConnection doesn't send.
+     */
+    private static String generateFromBrowser(int port, String token) throws IOException {
+        Socket socket = new Socket("127.0.0.1", port);
+        try {
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            out.write("POST " + Daemon.GENERATE_PATH + " HTTP/1.1\r\nHost: 127.0.0.1\r\n"
+                    + "Origin: http://example.com\r\nContent-Type: application/json\r\n"
+                    + Daemon.TOKEN_HEADER + ": " + token + "\r\nContent-Length: " + ARGS.length() + "\r\n\r\n" + ARGS);
+            out.flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+        } finally {
+            socket.close();
+        }
+    }
+
+    private static HttpURLConnection request(int port, String path, String method, String token) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + path).openConnection();
+        connection.setRequestMethod(method);
+        if (token != null) {
+            connection.setRequestProperty(Daemon.TOKEN_HEADER, token);
+        }
+        return connection;
+    }
+
+    private static String response(HttpURLConnection connection) throws IOException {
+        try {
+            return IOUtils.toString(connection.getInputStream(), StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -487,6 +487,42 @@ public class GenerateTest {
         };
     }
 
+    @Test
+    public void testThreads() throws Exception {
+        setupAndRunGenericTest("--threads", "8");
+
+        new FullVerifications() {
+            {
+                configurator.setThreads(8);
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testIncremental() throws Exception {
+        setupAndRunGenericTest("--incremental");
+
+        new FullVerifications() {
+            {
+                configurator.setIncremental(true);
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testAtomicWrites() throws Exception {
+        setupAndRunGenericTest("--atomic-writes");
+
+        new FullVerifications() {
+            {
+                configurator.setAtomicWrites(true);
+                times = 1;
+            }
+        };
+    }
+
     private void setupAndRunTest(String specFlag, final String spec, String langFlag,
             final String lang, String outputDirFlag, final String outputDir,
             boolean configuratorFromFile, final String configFile, String... additionalParameters) {
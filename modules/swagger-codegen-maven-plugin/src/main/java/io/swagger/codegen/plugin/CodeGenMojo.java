@@ -29,16 +29,25 @@ import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyReservedWo
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
@@ -50,7 +59,7 @@ import io.swagger.codegen.config.CodegenConfigurator;
 /**
  * Goal which generates client/server code from a swagger json/yaml definition.
  */
-@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES)
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
 public class CodeGenMojo extends AbstractMojo {
 
     @Parameter(name = "verbose", required = false, defaultValue = "false")
@@ -289,6 +298,13 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "skip", property = "codegen.skip", required = false, defaultValue = "false")
     private Boolean skip;
 
+    /**
+     * Skip the generation when the spec, the templates, the generator and the configuration are the same as for the
+     * last generation, and the generated files are still there, unmodified.
+     */
+    @Parameter(name = "skipIfUnchanged", property = "codegen.skipIfUnchanged", defaultValue = "true")
+    private boolean skipIfUnchanged = true;
+
     /**
      * Add the output directory to the project as a source root, so that the generated java types
      * are compiled and included in the project artifact.
@@ -311,6 +327,14 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(readonly = true, required = true, defaultValue = "${project}")
     private MavenProject project;
 
+    @Parameter(readonly = true, defaultValue = "${mojoExecution}")
+    private MojoExecution mojoExecution;
+
+    @Parameter(readonly = true, defaultValue = "${plugin}")
+    private PluginDescriptor plugin;
+
+    @Component
+    private BuildContext buildContext;
 
 
     @Override
@@ -324,6 +348,17 @@ public class CodeGenMojo extends AbstractMojo {
             return;
         }
 
+        final File stateFile = getStateFile();
+        GenerationState state = null;
+        if (skipIfUnchanged && !configHelp) {
+            state = readGenerationState();
+            if (isUpToDate(state, stateFile)) {
+                getLog().info("Code generation is skipped, nothing changed since the last generation.");
+                addCompileSourceRootIfConfigured();
+                return;
+            }
+        }
+
         // attempt to read from config file
         CodegenConfigurator configurator = CodegenConfigurator.fromFile(configurationFile);
 
@@ -406,30 +441,26 @@ public class CodeGenMojo extends AbstractMojo {
             configurator.setTemplateDir(templateDirectory.getAbsolutePath());
         }
 
-        // Set generation options
-        if (null != generateApis && generateApis) {
-            System.setProperty(CodegenConstants.APIS, "");
-        } else {
-            System.clearProperty(CodegenConstants.APIS);
-        }
+        // Set generation options, for this execution only: parallel builds run several executions in the same JVM
+        configurator.addSystemProperty(CodegenConstants.GENERATE_APIS, String.valueOf(null != generateApis && generateApis));
+        configurator.addSystemProperty(CodegenConstants.APIS, "");
 
-        if (null != generateModels && generateModels) {
-            System.setProperty(CodegenConstants.MODELS, modelsToGenerate);
-        } else {
-            System.clearProperty(CodegenConstants.MODELS);
-        }
+        configurator.addSystemProperty(CodegenConstants.GENERATE_MODELS, String.valueOf(null != generateModels && generateModels));
+        configurator.addSystemProperty(CodegenConstants.MODELS, modelsToGenerate);
 
         if (null != generateSupportingFiles && generateSupportingFiles) {
-            System.setProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
+            configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
         } else {
-            System.clearProperty(CodegenConstants.SUPPORTING_FILES);
+            configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES, "false");
         }
 
-        System.setProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
-        System.setProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
-        System.setProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
-        System.setProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
-        System.setProperty(CodegenConstants.WITH_XML, withXml.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
+        configurator.addSystemProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
+        configurator.addSystemProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
+        configurator.addSystemProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
+        if (withXml) {
+            configurator.addAdditionalProperty(CodegenConstants.WITH_XML, true);
+        }
 
         if (configOptions != null) {
             // Retained for backwards-compataibility with configOptions -> instantiation-types
@@ -501,13 +532,17 @@ public class CodeGenMojo extends AbstractMojo {
         if (environmentVariables != null) {
 
             for (String key : environmentVariables.keySet()) {
-                originalEnvironmentVariables.put(key, System.getProperty(key));
                 String value = environmentVariables.get(key);
                 if (value == null) {
                     // don't put null values
                     value = "";
                 }
-                System.setProperty(key, value);
+                // the switches of the generator are given to this execution only, other properties (e.g. read by a
+                // language) are shared by the whole JVM
+                if (!DefaultGenerator.PROPERTIES.contains(key)) {
+                    originalEnvironmentVariables.put(key, System.getProperty(key));
+                    System.setProperty(key, value);
+                }
                 configurator.addSystemProperty(key, value);
             }
         }
@@ -533,8 +568,11 @@ public class CodeGenMojo extends AbstractMojo {
             }
             return;
         }
+        // a generation failing half way leaves outputs which don't match any state
+        FileUtils.deleteQuietly(stateFile);
+        List<File> generated;
         try {
-            new DefaultGenerator().opts(input).generate();
+            generated = new DefaultGenerator().opts(input).generate();
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
@@ -544,9 +582,129 @@ public class CodeGenMojo extends AbstractMojo {
                     "Code generation failed. See above for the full exception.");
         }
 
+        if (state != null) {
+            state.addOutputs(generated);
+            try {
+                state.save(stateFile);
+            } catch (IOException e) {
+                getLog().warn("Could not save " + stateFile + ", the sources will be generated again", e);
+            }
+        }
+        buildContext.refresh(output);
+
         addCompileSourceRootIfConfigured();
     }
 
+    private File getStateFile() {
+        String executionId = mojoExecution != null ? mojoExecution.getExecutionId() : "default";
+        return new File(project.getBuild().getDirectory(), "swagger-codegen" + File.separator + executionId + ".state");
+    }
+
+    /**
+     * Records the inputs of the generation: everything which, when changed, changes the generated sources.
+     */
+    private GenerationState readGenerationState() throws MojoExecutionException {
+        GenerationState state = new GenerationState();
+        try {
+            state.addSpec("inputSpec", inputSpec);
+            if (isNotEmpty(configurationFile)) {
+                state.addFile("configurationFile", new File(configurationFile));
+            }
+            if (isNotEmpty(ignoreFileOverride)) {
+                state.addFile("ignoreFileOverride", new File(ignoreFileOverride));
+            }
+            if (templateDirectory != null) {
+                state.addDirectory("templateDirectory", templateDirectory);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not read the inputs of the generation", e);
+        }
+
+        // generators and built-in templates, including custom generators added as plugin dependencies
+        if (plugin != null) {
+            for (Artifact artifact : plugin.getArtifacts()) {
+                File file = artifact.getFile();
+                state.addValue("generator." + artifact.getGroupId() + ":" + artifact.getArtifactId(),
+                        artifact.getVersion() + (file == null ? "" : " " + file.length() + " " + file.lastModified()));
+            }
+        }
+
+        state.addValue("config.language", language);
+        state.addValue("config.output", output.getAbsolutePath());
+        state.addValue("config.gitUserId", gitUserId);
+        state.addValue("config.gitRepoId", gitRepoId);
+        state.addValue("config.auth", auth);
+        state.addValue("config.skipOverwrite", skipOverwrite);
+        state.addValue("config.removeOperationIdPrefix", removeOperationIdPrefix);
+        state.addValue("config.apiPackage", apiPackage);
+        state.addValue("config.modelPackage", modelPackage);
+        state.addValue("config.invokerPackage", invokerPackage);
+        state.addValue("config.groupId", groupId);
+        state.addValue("config.artifactId", artifactId);
+        state.addValue("config.artifactVersion", artifactVersion);
+        state.addValue("config.library", library);
+        state.addValue("config.modelNamePrefix", modelNamePrefix);
+        state.addValue("config.modelNameSuffix", modelNameSuffix);
+        state.addValue("config.configOptions", configOptions == null ? null : sorted(configOptions));
+        state.addValue("config.instantiationTypes", instantiationTypes);
+        state.addValue("config.importMappings", importMappings);
+        state.addValue("config.typeMappings", typeMappings);
+        state.addValue("config.languageSpecificPrimitives", languageSpecificPrimitives);
+        state.addValue("config.additionalProperties", additionalProperties);
+        state.addValue("config.reservedWordsMappings", reservedWordsMappings);
+        state.addValue("config.generateApis", generateApis);
+        state.addValue("config.generateModels", generateModels);
+        state.addValue("config.modelsToGenerate", modelsToGenerate);
+        state.addValue("config.generateSupportingFiles", generateSupportingFiles);
+        state.addValue("config.supportingFilesToGenerate", supportingFilesToGenerate);
+        state.addValue("config.generateModelTests", generateModelTests);
+        state.addValue("config.generateModelDocumentation", generateModelDocumentation);
+        state.addValue("config.generateApiTests", generateApiTests);
+        state.addValue("config.generateApiDocumentation", generateApiDocumentation);
+        state.addValue("config.withXml", withXml);
+        state.addValue("config.environmentVariables", environmentVariables == null ? null : sorted(environmentVariables));
+        return state;
+    }
+
+    private boolean isUpToDate(GenerationState state, File stateFile) throws MojoExecutionException {
+        if (!output.isDirectory()) {
+            getLog().info("Generating, the output directory " + output + " doesn't exist.");
+            return false;
+        }
+        // incremental IDE builds tell which files changed, sparing the comparison of their contents, but not of the
+        // configuration and generator values, nor of the inputs which can't be checked for changes
+        boolean compareFiles = true;
+        if (buildContext.isIncremental() && !state.hasVolatileInput() && stateFile.isFile()) {
+            boolean changed = false;
+            for (File file : state.getFiles()) {
+                changed |= buildContext.hasDelta(file);
+            }
+            compareFiles = changed;
+        }
+        List<String> changes;
+        try {
+            changes = state.getChanges(GenerationState.load(stateFile), compareFiles);
+        } catch (IOException e) {
+            getLog().warn("Could not read " + stateFile + ", generating", e);
+            return false;
+        }
+        if (changes.isEmpty()) {
+            return true;
+        }
+        int shown = Math.min(changes.size(), 5);
+        getLog().info("Generating, " + StringUtils.join(changes.subList(0, shown), ", ")
+                + (changes.size() > shown ? " and " + (changes.size() - shown) + " more changes." : "."));
+        return false;
+    }
+
+    private static Map<String, Object> sorted(Map<?, ?> map) {
+        Map<String, Object> sorted = new TreeMap<String, Object>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        return sorted;
+    }
+
     private void addCompileSourceRootIfConfigured() {
         if (addCompileSourceRoot) {
             final Object sourceFolderObject =
@@ -0,0 +1,236 @@
+package io.swagger.codegen.plugin;
+
+import io.swagger.codegen.OutputManifest;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The inputs of a generation: the spec and the local files it refers to, the templates, the generator classpath and
+ * the effective configuration, each recorded as a hash. Comparing the state of the current build with the one saved by
+ * the previous generation tells whether the sources need to be generated again, and why. The files generated are
+ * recorded too, by size and modification time, so that deleted or edited outputs are generated again.
+ */
+class GenerationState {
+
+    // relative references of JSON and YAML specs: "$ref": "pet.json#/Pet", $ref: 'pet.yaml'
+    private static final Pattern REF = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+    private static final String OUTPUT_PREFIX = "output:";
+
+    private final Map<String, String> hashes = new TreeMap<String, String>();
+    private final Set<File> files = new LinkedHashSet<File>();
+    private final Set<String> fileKeys = new LinkedHashSet<String>();
+    private final Map<String, String> outputs = new TreeMap<String, String>();
+    private String volatileInput;
+
+    /**
+     * Records a value, e.g. a configuration parameter.
+     */
+    void addValue(String name, Object value) {
+        hashes.put(name, value == null ? "" : OutputManifest.hash(String.valueOf(value).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Records the content of a file, or its absence.
+     */
+    void addFile(String name, File file) throws IOException {
+        files.add(file);
+        putFile(name, file.isFile() ? OutputManifest.hash(FileUtils.readFileToByteArray(file)) : "missing");
+    }
+
+    /**
+     * Records the content of every file of a directory, e.g. templates.
+     */
+    void addDirectory(String name, File directory) throws IOException {
+        files.add(directory);
+        if (!directory.isDirectory()) {
+            putFile(name, "missing");
+            return;
+        }
+        String root = directory.getAbsolutePath();
+        for (File file : FileUtils.listFiles(directory, null, true)) {
+            String path = file.getAbsolutePath().substring(root.length() + 1).replace(File.separatorChar, '/');
+            putFile(name + "/" + path, OutputManifest.hash(FileUtils.readFileToByteArray(file)));
+        }
+    }
+
+    /**
+     * Records a spec along with the local files it refers to. Specs which are, or refer to, remote documents can't be
+     * checked for changes, so the sources are generated again on every build.
+     */
+    void addSpec(String name, String location) throws IOException {
+        if (location.contains("://") && !location.startsWith("file:")) {
+            volatileInput = "the input spec " + location + " is remote";
+            return;
+        }
+        File spec = new File(location.startsWith("file:") ? location.substring("file:".length()) : location);
+        if (!spec.isFile()) {
+            volatileInput = "the input spec " + location + " isn't a local file";
+            return;
+        }
+        List<File> pending = new ArrayList<File>();
+        pending.add(spec.getCanonicalFile());
+        Set<File> visited = new LinkedHashSet<File>();
+        while (!pending.isEmpty()) {
+            File file = pending.remove(pending.size() - 1);
+            if (!visited.add(file)) {
+                continue;
+            }
+            String key = visited.size() == 1 ? name : name + ":" + file.getPath();
+            files.add(file);
+            if (!file.isFile()) {
+                putFile(key, "missing");
+                continue;
+            }
+            byte[] content = FileUtils.readFileToByteArray(file);
+            putFile(key, OutputManifest.hash(content));
+            Matcher matcher = REF.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String ref = matcher.group(1);
+                if (ref.contains("://")) {
+                    volatileInput = file.getName() + " refers to the remote document " + ref;
+                    return;
+                }
+                pending.add(new File(file.getParentFile(), ref).getCanonicalFile());
+            }
+        }
+    }
+
+    private void putFile(String key, String hash) {
+        fileKeys.add(key);
+        hashes.put(key, hash);
+    }
+
+    /**
+     * Records the files written by the generation.
+     */
+    void addOutputs(Collection<File> generated) {
+        for (File file : generated) {
+            if (file.isFile()) {
+                outputs.put(file.getAbsolutePath(), describe(file));
+            }
+        }
+    }
+
+    private static String describe(File file) {
+        return file.length() + " " + file.lastModified();
+    }
+
+    /**
+     * @return the files and directories read by the generation, which IDEs watch for changes
+     */
+    Collection<File> getFiles() {
+        return files;
+    }
+
+    /**
+     * @return whether an input can't be checked for changes, e.g. a remote spec
+     */
+    boolean hasVolatileInput() {
+        return volatileInput != null;
+    }
+
+    /**
+     * Lists why the sources should be generated again, if they should.
+     *
+     * @param previous the state saved by the previous generation, {@code null} if there is none
+     * @return the reasons, empty when nothing changed
+     */
+    List<String> getChanges(GenerationState previous) {
+        return getChanges(previous, true);
+    }
+
+    /**
+     * Lists why the sources should be generated again, if they should.
+     *
+     * @param previous the state saved by the previous generation, {@code null} if there is none
+     * @param compareFiles {@code false} to only compare the values and the set of inputs, when the files are known
+     *                     to be unchanged, e.g. by the incremental build of an IDE
+     * @return the reasons, empty when nothing changed
+     */
+    List<String> getChanges(GenerationState previous, boolean compareFiles) {
+        List<String> changes = new ArrayList<String>();
+        if (volatileInput != null) {
+            changes.add(volatileInput);
+        }
+        if (previous == null) {
+            changes.add("there is no previous generation");
+            return changes;
+        }
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            String previousHash = previous.hashes.get(entry.getKey());
+            if (previousHash == null) {
+                changes.add(entry.getKey() + " was added");
+            } else if ((compareFiles || !fileKeys.contains(entry.getKey())) && !previousHash.equals(entry.getValue())) {
+                changes.add(entry.getKey() + " changed");
+            }
+        }
+        for (String key : previous.hashes.keySet()) {
+            if (!hashes.containsKey(key)) {
+                changes.add(key + " was removed");
+            }
+        }
+        for (Map.Entry<String, String> entry : previous.outputs.entrySet()) {
+            File file = new File(entry.getKey());
+            if (!file.isFile()) {
+                changes.add("the generated file " + entry.getKey() + " was deleted");
+            } else if (!describe(file).equals(entry.getValue())) {
+                changes.add("the generated file " + entry.getKey() + " was modified");
+            }
+        }
+        return changes;
+    }
+
+    static GenerationState load(File file) throws IOException {
+        if (!file.isFile()) {
+            return null;
+        }
+        Properties properties = new Properties();
+        InputStream in = new FileInputStream(file);
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+        GenerationState state = new GenerationState();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(OUTPUT_PREFIX)) {
+                state.outputs.put(key.substring(OUTPUT_PREFIX.length()), properties.getProperty(key));
+            } else {
+                state.hashes.put(key, properties.getProperty(key));
+            }
+        }
+        return state;
+    }
+
+    void save(File file) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(hashes);
+        for (Map.Entry<String, String> entry : outputs.entrySet()) {
+            properties.put(OUTPUT_PREFIX + entry.getKey(), entry.getValue());
+        }
+        FileUtils.forceMkdir(file.getParentFile());
+        OutputStream out = new FileOutputStream(file);
+        try {
+            properties.store(out, "Inputs of the last generation");
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.swagger.codegen.plugin;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GenerationStateTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordsTheLocalFilesReferencedBySpecs() throws Exception {
+        File spec = write("spec.json", "{\"definitions\": {\"Pet\": {\"$ref\": \"models/pet.json#/Pet\"}}}");
+        File pet = write("models/pet.json", "{\"Pet\": {\"properties\": {\"tag\": {\"$ref\": '../common.yaml'}}}}");
+        File common = write("common.yaml", "Tag:\n  properties:\n    category: {$ref: 'category.yaml#/Category'}\n");
+        File category = write("category.yaml", "Category:\n  type: object\n");
+
+        GenerationState state = new GenerationState();
+        state.addSpec("inputSpec", spec.getPath());
+
+        assertFalse(state.hasVolatileInput());
+        assertEquals(Arrays.asList(spec.getCanonicalFile(), pet.getCanonicalFile(), common.getCanonicalFile(),
+                category.getCanonicalFile()), new ArrayList<File>(state.getFiles()));
+
+        write("category.yaml", "Category:\n  type: string\n");
+        GenerationState changed = new GenerationState();
+        changed.addSpec("inputSpec", spec.getPath());
+        assertEquals(Collections.singletonList("inputSpec:" + category.getCanonicalPath() + " changed"),
+                changed.getChanges(state));
+    }
+
+    @Test
+    public void specsReferringToRemoteDocumentsAreAlwaysChanged() throws Exception {
+        File spec = write("spec.yaml", "definitions:\n  Pet:\n    $ref: \"https://example.com/pet.yaml#/Pet\"\n");
+        GenerationState state = new GenerationState();
+        state.addSpec("inputSpec", spec.getPath());
+
+        assertTrue(state.hasVolatileInput());
+        assertEquals(Collections.singletonList("spec.yaml refers to the remote document https://example.com/pet.yaml"),
+                state.getChanges(state));
+        assertEquals(1, state.getChanges(state, false).size());
+    }
+
+    @Test
+    public void remoteSpecsAreAlwaysChanged() throws Exception {
+        GenerationState state = new GenerationState();
+        state.addSpec("inputSpec", "https://example.com/spec.yaml");
+
+        assertTrue(state.hasVolatileInput());
+        assertEquals(Collections.singletonList("the input spec https://example.com/spec.yaml is remote"),
+                state.getChanges(state));
+    }
+
+    @Test
+    public void listsTheChangedValues() throws Exception {
+        File stateFile = new File(folder.getRoot(), "state/generation.properties");
+        GenerationState previous = new GenerationState();
+        previous.addValue("config.language", "java");
+        previous.addValue("config.library", "okhttp-gson");
+        previous.addValue("generator.io.swagger:custom-generator", "1.0");
+        previous.save(stateFile);
+
+        GenerationState state = new GenerationState();
+        state.addValue("config.language", "java");
+        state.addValue("config.library", "resttemplate");
+        state.addValue("config.apiPackage", "io.swagger.api");
+
+        assertEquals(Arrays.asList("config.apiPackage was added", "config.library changed",
+                "generator.io.swagger:custom-generator was removed"), state.getChanges(GenerationState.load(stateFile)));
+        assertEquals(Collections.singletonList("there is no previous generation"),
+                state.getChanges(GenerationState.load(new File(folder.getRoot(), "missing.properties"))));
+    }
+
+    @Test
+    public void nothingChangedSinceTheSavedState() throws Exception {
+        File spec = write("spec.yaml", "swagger: '2.0'\n");
+        File templates = write("templates/model.mustache", "{{#models}}{{/models}}").getParentFile();
+        File stateFile = new File(folder.getRoot(), "generation.properties");
+        GenerationState previous = new GenerationState();
+        previous.addSpec("inputSpec", spec.getPath());
+        previous.addDirectory("templateDirectory", templates);
+        previous.addValue("config.language", "java");
+        previous.save(stateFile);
+
+        GenerationState state = new GenerationState();
+        state.addSpec("inputSpec", spec.getPath());
+        state.addDirectory("templateDirectory", templates);
+        state.addValue("config.language", "java");
+
+        assertTrue(state.getChanges(GenerationState.load(stateFile)).isEmpty());
+    }
+
+    @Test
+    public void comparesOnlyTheValuesWhenTheFilesAreKnownToBeUnchanged() throws Exception {
+        File spec = write("spec.yaml", "swagger: '2.0'\n");
+        GenerationState previous = new GenerationState();
+        previous.addSpec("inputSpec", spec.getPath());
+        previous.addValue("config.language", "java");
+
+        write("spec.yaml", "swagger: '2.0'\ninfo: {}\n");
+        GenerationState state = new GenerationState();
+        state.addSpec("inputSpec", spec.getPath());
+        state.addValue("config.language", "java");
+        assertEquals(Collections.singletonList("inputSpec changed"), state.getChanges(previous));
+        assertTrue(state.getChanges(previous, false).isEmpty());
+
+        state.addValue("config.language", "kotlin");
+        assertEquals(Collections.singletonList("config.language changed"), state.getChanges(previous, false));
+    }
+
+    @Test
+    public void listsTheDeletedAndModifiedOutputs() throws Exception {
+        File pet = write("generated/Pet.java", "class Pet {}");
+        File tag = write("generated/Tag.java", "class Tag {}");
+        File category = write("generated/Category.java", "class Category {}");
+        File stateFile = new File(folder.getRoot(), "generation.properties");
+        GenerationState previous = new GenerationState();
+        previous.addValue("config.language", "java");
+        previous.addOutputs(Arrays.asList(pet, tag, category, new File(folder.getRoot(), "generated/Skipped.java")));
+        previous.save(stateFile);
+
+        GenerationState state = new GenerationState();
+        state.addValue("config.language", "java");
+        assertTrue(state.getChanges(GenerationState.load(stateFile)).isEmpty());
+
+        assertTrue(pet.delete());
+        write("generated/Tag.java", "class Tag { String name; }");
+        assertEquals(Arrays.asList("the generated file " + pet.getAbsolutePath() + " was deleted",
+                "the generated file " + tag.getAbsolutePath() + " was modified"),
+                state.getChanges(GenerationState.load(stateFile), false));
+    }
+
+    private File write(String path, String content) throws IOException {
+        File file = new File(folder.getRoot(), path);
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -1,15 +1,13 @@
 package io.swagger.codegen;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
 import java.util.regex.Pattern;
 
@@ -20,40 +18,77 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
 
-    @SuppressWarnings("static-method")
+    private OutputSink outputSink = new LocalOutputSink();
+
+    /**
+     * Write the generated files to the given sink instead of the local file system, e.g. a {@link ZipOutputSink}.
+     * @param outputSink The output sink
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
     public File writeToFile(String filename, String contents) throws IOException {
+        return writeToFile(filename, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public File writeToFile(String filename, byte[] contents) throws IOException {
         LOGGER.info("writing file " + filename);
         File output = new File(filename);
-
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
+        OutputStream out = outputSink.newOutputStream(output);
+        try {
+            out.write(contents);
+        } finally {
+            out.close();
         }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
-
-        out.write(contents);
-        out.close();
         return output;
     }
 
     public String readTemplate(String name) {
         try {
-            Reader reader = getTemplateReader(name);
-            if (reader == null) {
-                throw new RuntimeException("no file found");
-            }
-            Scanner s = new Scanner(reader).useDelimiter("\\A");
-            return s.hasNext() ? s.next() : "";
+            return readAll(getTemplateReader(name));
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage());
+        }
+        throw new RuntimeException("can't load template " + name);
+    }
+
+    /**
+     * Same as {@link #readTemplate(String)}, without a generator instance, so ignoring an overridden
+     * {@link #getTemplateReader(String)}.
+     *
+     * @param classLoader The class loader holding the embedded templates
+     * @param name The template file
+     * @return The template contents
+     */
+    static String readTemplate(ClassLoader classLoader, String name) {
+        try {
+            return readAll(getTemplateReader(classLoader, name));
         } catch (Exception e) {
             LOGGER.error(e.getMessage());
         }
         throw new RuntimeException("can't load template " + name);
     }
 
+    private static String readAll(Reader reader) {
+        if (reader == null) {
+            throw new RuntimeException("no file found");
+        }
+        Scanner s = new Scanner(reader).useDelimiter("\\A");
+        return s.hasNext() ? s.next() : "";
+    }
+
     public Reader getTemplateReader(String name) {
+        return getTemplateReader(getClass().getClassLoader(), name);
+    }
+
+    private static Reader getTemplateReader(ClassLoader classLoader, String name) {
         try {
-            InputStream is = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(name));
+            InputStream is = classLoader.getResourceAsStream(toCPResourcePath(name));
             if (is == null) {
                 is = new FileInputStream(new File(name)); // May throw but never return a null value
             }
@@ -64,7 +99,7 @@ public abstract class AbstractGenerator {
         throw new RuntimeException("can't load template " + name);
     }
 
-    private String buildLibraryFilePath(String dir, String library, String file) {
+    private static String buildLibraryFilePath(String dir, String library, String file) {
         return dir + File.separator + "libraries" + File.separator + library + File.separator + file;
     }
 
@@ -77,38 +112,55 @@ public abstract class AbstractGenerator {
      * @return String Full template file path
      */
     public String getFullTemplateFile(CodegenConfig config, String templateFile) {
+        return getFullTemplateFile(config.templateDir(), config.embeddedTemplateDir(), config.getLibrary(), templateFile,
+                getClass().getClassLoader());
+    }
+
+    /**
+     * Same as {@link #getFullTemplateFile(CodegenConfig, String)}, without holding on to the config or a generator, e.g.
+     * to resolve the partials of a compiled template. An overridden {@link #getFullTemplateFile(CodegenConfig, String)}
+     * is ignored.
+     *
+     * @param templateDir The template dir of the config
+     * @param embeddedTemplateDir The embedded template dir of the config
+     * @param library The library of the config, if any
+     * @param templateFile Template file
+     * @param classLoader The class loader holding the embedded templates
+     * @return String Full template file path
+     */
+    static String getFullTemplateFile(String templateDir, String embeddedTemplateDir, String library, String templateFile,
+                                      ClassLoader classLoader) {
         //1st the code will check if there's a <template folder>/libraries/<library> folder containing the file
         //2nd it will check for the file in the specified <template folder> folder
         //3rd it will check if there's an <embedded template>/libraries/<library> folder containing the file
         //4th and last it will assume the file is in <embedded template> folder.
 
         //check the supplied template library folder for the file
-        final String library = config.getLibrary();
         if (StringUtils.isNotEmpty(library)) {
             //look for the file in the library subfolder of the supplied template
-            final String libTemplateFile = buildLibraryFilePath(config.templateDir(), library, templateFile);
+            final String libTemplateFile = buildLibraryFilePath(templateDir, library, templateFile);
             if (new File(libTemplateFile).exists()) {
                 return libTemplateFile;
             }
         }
 
         //check the supplied template main folder for the file
-        final String template = config.templateDir() + File.separator + templateFile;
+        final String template = templateDir + File.separator + templateFile;
         if (new File(template).exists()) {
             return template;
         }
 
         //try the embedded template library folder next
         if (StringUtils.isNotEmpty(library)) {
-            final String embeddedLibTemplateFile = buildLibraryFilePath(config.embeddedTemplateDir(), library, templateFile);
-            if (embeddedTemplateExists(embeddedLibTemplateFile)) {
+            final String embeddedLibTemplateFile = buildLibraryFilePath(embeddedTemplateDir, library, templateFile);
+            if (classLoader.getResource(toCPResourcePath(embeddedLibTemplateFile)) != null) {
                 // Fall back to the template file embedded/packaged in the JAR file library folder...
                 return embeddedLibTemplateFile;
             }
         }
             
         // Fall back to the template file embedded/packaged in the JAR file...
-        return config.embeddedTemplateDir() + File.separator + templateFile;
+        return embeddedTemplateDir + File.separator + templateFile;
     }
 
     public String readResourceContents(String resourceFilePath) {
@@ -127,6 +179,10 @@ public abstract class AbstractGenerator {
 
     @SuppressWarnings("static-method")
     public String getCPResourcePath(String name) {
+        return toCPResourcePath(name);
+    }
+
+    private static String toCPResourcePath(String name) {
         if (!"/".equals(File.separator)) {
             return name.replaceAll(Pattern.quote(File.separator), "/");
         }
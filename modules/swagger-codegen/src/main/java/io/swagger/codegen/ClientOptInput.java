@@ -5,13 +5,19 @@ import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ClientOptInput {
     private CodegenConfig config;
     private ClientOpts opts;
     private Swagger swagger;
     private List<AuthorizationValue> auths;
+    private int threads = 1;
+    private boolean incremental;
+    private boolean atomicWrites;
+    private Map<String, String> generatorProperties = new HashMap<String, String>();
 
     public ClientOptInput swagger(Swagger swagger) {
         this.setSwagger(swagger);
@@ -28,6 +34,26 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput threads(int threads) {
+        this.setThreads(threads);
+        return this;
+    }
+
+    public ClientOptInput incremental(boolean incremental) {
+        this.setIncremental(incremental);
+        return this;
+    }
+
+    public ClientOptInput atomicWrites(boolean atomicWrites) {
+        this.setAtomicWrites(atomicWrites);
+        return this;
+    }
+
+    public ClientOptInput generatorProperties(Map<String, String> generatorProperties) {
+        this.setGeneratorProperties(generatorProperties);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -73,4 +99,49 @@ public class ClientOptInput {
     public void setSwagger(Swagger swagger) {
         this.swagger = swagger;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return The number of threads used to render and write model and api files, 1 to render serially.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * @return Whether only the models and apis affected by spec changes since the previous run are generated.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * @return Whether files are written to a temporary file first, then moved into place.
+     */
+    public boolean isAtomicWrites() {
+        return atomicWrites;
+    }
+
+    public void setAtomicWrites(boolean atomicWrites) {
+        this.atomicWrites = atomicWrites;
+    }
+
+    /**
+     * @return The switches of the generator for this run, see {@link DefaultGenerator#PROPERTIES}. They take
+     * precedence over the system properties of the same name, which are shared by all the runs of the JVM.
+     */
+    public Map<String, String> getGeneratorProperties() {
+        return generatorProperties;
+    }
+
+    public void setGeneratorProperties(Map<String, String> generatorProperties) {
+        this.generatorProperties = generatorProperties;
+    }
+}
@@ -1,34 +1,91 @@
 package io.swagger.codegen;
 
-import java.util.ServiceLoader;
+import org.apache.commons.lang3.StringUtils;
 
-import static java.util.ServiceLoader.load;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 public class CodegenConfigLoader {
+    // the config classes found with SPI by each class loader, by name, in the order they were found
+    private static final Map<ClassLoader, SoftReference<Map<String, Class<? extends CodegenConfig>>>> REGISTRIES =
+            new WeakHashMap<ClassLoader, SoftReference<Map<String, Class<? extends CodegenConfig>>>>();
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
      *
      * @param name name of config, or full qualified class name in classpath
-     * @return config class
+     * @return a new instance of the config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = load(CodegenConfig.class);
+        Map<String, Class<? extends CodegenConfig>> registry = getRegistry();
+        Class<? extends CodegenConfig> configClass = registry.get(name);
+        if (configClass != null) {
+            return newInstance(configClass);
+        }
 
-        StringBuilder availableConfigs = new StringBuilder();
+        // else try to load directly
+        try {
+            return (CodegenConfig) Class.forName(name).newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Can't load config class with name ".concat(name) + " Available: " + StringUtils.join(registry.keySet(), "\n"), e);
+        }
+    }
 
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
-                return config;
-            }
+    /**
+     * @return new instances of the config classes found with SPI
+     */
+    public static List<CodegenConfig> getAll() {
+        List<CodegenConfig> configs = new ArrayList<CodegenConfig>();
+        for (Class<? extends CodegenConfig> configClass : getRegistry().values()) {
+            configs.add(newInstance(configClass));
+        }
+        return configs;
+    }
 
-            availableConfigs.append(config.getName()).append("\n");
+    /**
+     * @return the names of the config classes found with SPI
+     */
+    public static Set<String> getNames() {
+        return getRegistry().keySet();
+    }
+
+    /**
+     * Finds the config classes with SPI once per class loader, as each of them has to be instantiated to get its name.
+     * Afterwards only the requested classes are instantiated.
+     */
+    private static synchronized Map<String, Class<? extends CodegenConfig>> getRegistry() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = CodegenConfigLoader.class.getClassLoader();
+        }
+        SoftReference<Map<String, Class<? extends CodegenConfig>>> reference = REGISTRIES.get(classLoader);
+        Map<String, Class<? extends CodegenConfig>> registry = reference != null ? reference.get() : null;
+        if (registry == null) {
+            registry = new LinkedHashMap<String, Class<? extends CodegenConfig>>();
+            for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, classLoader)) {
+                if (!registry.containsKey(config.getName())) {
+                    registry.put(config.getName(), config.getClass());
+                }
+            }
+            registry = Collections.unmodifiableMap(registry);
+            // softly, so that the classes don't keep their class loader from being collected
+            REGISTRIES.put(classLoader, new SoftReference<Map<String, Class<? extends CodegenConfig>>>(registry));
         }
+        return registry;
+    }
 
-        // else try to load directly
+    private static CodegenConfig newInstance(Class<? extends CodegenConfig> configClass) {
         try {
-            return (CodegenConfig) Class.forName(name).newInstance();
+            return configClass.newInstance();
         } catch (Exception e) {
-            throw new RuntimeException("Can't load config class with name ".concat(name) + " Available: " + availableConfigs.toString(), e);
+            throw new RuntimeException("Can't instantiate config class " + configClass.getName(), e);
         }
     }
 }
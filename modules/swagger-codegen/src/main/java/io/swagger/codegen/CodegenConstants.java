@@ -14,6 +14,8 @@ public class CodegenConstants {
     public static final String API_TESTS = "apiTests";
     public static final String API_DOCS = "apiDocs";
     public static final String WITH_XML = "withXml";
+    public static final String NAMING_CACHE = "namingCache";
+    public static final String TYPE_RESOLUTION_CACHE = "typeResolutionCache";
     /* /end System Properties */
 
     public static final String API_PACKAGE = "apiPackage";
@@ -19,6 +19,7 @@ import com.google.common.collect.Lists;
 import com.samskivert.mustache.Mustache.Compiler;
 
 import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.utils.Naming;
 import io.swagger.models.ArrayModel;
 import io.swagger.models.ComposedModel;
 import io.swagger.models.Model;
@@ -90,6 +91,8 @@ public class DefaultCodegen {
     protected Map<String, Object> additionalProperties = new HashMap<String, Object>();
     protected Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     protected List<SupportingFile> supportingFiles = new ArrayList<SupportingFile>();
+    // existing files writeOptional() left out of supportingFiles
+    protected List<File> skippedSupportingFiles = new ArrayList<File>();
     protected List<CliOption> cliOptions = new ArrayList<CliOption>();
     protected boolean skipOverwrite;
     protected boolean removeOperationIdPrefix;
@@ -112,6 +115,9 @@ public class DefaultCodegen {
 
     protected String ignoreFilePathOverride;
 
+    // types and values resolved per property during a generation, null when not caching
+    protected TypeResolutionCache typeResolutionCache;
+
     public List<CliOption> cliOptions() {
         return cliOptions;
     }
@@ -626,6 +632,60 @@ public class DefaultCodegen {
         this.allowUnicodeIdentifiers = allowUnicodeIdentifiers;
     }
 
+    public TypeResolutionCache getTypeResolutionCache() {
+        return typeResolutionCache;
+    }
+
+    /**
+     * Sets the cache of the values resolved by {@link #resolve(Property, TypeResolutionCache.Kind)}, or {@code null}
+     * to resolve them on every call.
+     *
+     * @param typeResolutionCache The cache
+     */
+    public void setTypeResolutionCache(TypeResolutionCache typeResolutionCache) {
+        this.typeResolutionCache = typeResolutionCache;
+    }
+
+    /**
+     * Resolve the type or value of a property through {@link #getSwaggerType(Property)},
+     * {@link #getTypeDeclaration(Property)}, {@link #toInstantiationType(Property)}, {@link #toDefaultValue(Property)}
+     * or {@link #toExampleValue(Property)}, only once per property instance when a {@link TypeResolutionCache} is set.
+     *
+     * @param p Swagger property object
+     * @param kind What to resolve
+     * @return The resolved type or value
+     */
+    protected String resolve(Property p, TypeResolutionCache.Kind kind) {
+        TypeResolutionCache cache = typeResolutionCache;
+        if (cache != null && p != null) {
+            String cached = cache.get(p, kind);
+            if (cached != TypeResolutionCache.UNRESOLVED) {
+                return cached;
+            }
+        }
+        String resolved;
+        switch (kind) {
+            case SWAGGER_TYPE:
+                resolved = getSwaggerType(p);
+                break;
+            case TYPE_DECLARATION:
+                resolved = getTypeDeclaration(p);
+                break;
+            case INSTANTIATION_TYPE:
+                resolved = toInstantiationType(p);
+                break;
+            case DEFAULT_VALUE:
+                resolved = toDefaultValue(p);
+                break;
+            default:
+                resolved = toExampleValue(p);
+        }
+        if (cache != null && p != null) {
+            cache.put(p, kind, resolved);
+        }
+        return resolved;
+    }
+
     /**
      * Return the regular expression/JSON schema pattern (http://json-schema.org/latest/json-schema-validation.html#anchor33)
      *
@@ -1610,11 +1670,11 @@ public class DefaultCodegen {
         property.title = p.getTitle();
         property.getter = toGetter(name);
         property.setter = toSetter(name);
-        String example = toExampleValue(p);
+        String example = resolve(p, TypeResolutionCache.Kind.EXAMPLE_VALUE);
         if(!"null".equals(example)) {
             property.example = example;
         }
-        property.defaultValue = toDefaultValue(p);
+        property.defaultValue = resolve(p, TypeResolutionCache.Kind.DEFAULT_VALUE);
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
         property.jsonSchema = Json.pretty(p);
         if (p.getReadOnly() != null) {
@@ -1630,7 +1690,7 @@ public class DefaultCodegen {
         }
         property.vendorExtensions = p.getVendorExtensions();
 
-        String type = getSwaggerType(p);
+        String type = resolve(p, TypeResolutionCache.Kind.SWAGGER_TYPE);
         if (p instanceof AbstractNumericProperty) {
             AbstractNumericProperty np = (AbstractNumericProperty) p;
             if (np.getMinimum() != null) {
@@ -1832,7 +1892,7 @@ public class DefaultCodegen {
                 property.allowableValues = allowableValues;
             }
         }
-        property.datatype = getTypeDeclaration(p);
+        property.datatype = resolve(p, TypeResolutionCache.Kind.TYPE_DECLARATION);
         property.dataFormat = p.getFormat();
 
         // this can cause issues for clients which don't support enums
@@ -1843,13 +1903,12 @@ public class DefaultCodegen {
             property.datatypeWithEnum = property.datatype;
         }
 
-        property.baseType = getSwaggerType(p);
+        property.baseType = type;
 
         if (p instanceof ArrayProperty) {
             property.isContainer = true;
             property.isListContainer = true;
             property.containerType = "array";
-            property.baseType = getSwaggerType(p);
             if (p.getXml() != null) {
                 property.isXmlWrapped = p.getXml().getWrapped() == null ? false : p.getXml().getWrapped();
                 property.xmlPrefix= p.getXml().getPrefix();
@@ -1872,7 +1931,6 @@ public class DefaultCodegen {
             property.isContainer = true;
             property.isMapContainer = true;
             property.containerType = "map";
-            property.baseType = getSwaggerType(p);
             property.minItems = ap.getMinProperties();
             property.maxItems = ap.getMaxProperties();
 
@@ -2232,7 +2290,7 @@ public class DefaultCodegen {
                         }
                     }
                     op.examples = getExamples(definitions, methodResponse.getExamples(), operation.getProduces(), responseProperty);
-                    op.defaultResponse = toDefaultValue(responseProperty);
+                    op.defaultResponse = resolve(responseProperty, TypeResolutionCache.Kind.DEFAULT_VALUE);
                     op.returnType = cm.datatype;
                     op.hasReference = definitions != null && definitions.containsKey(op.returnBaseType);
 
@@ -3082,7 +3140,7 @@ public class DefaultCodegen {
     private void addParentContainer(CodegenModel m, String name, Property property) {
         final CodegenProperty tmp = fromProperty(name, property);
         addImport(m, tmp.complexType);
-        m.parent = toInstantiationType(property);
+        m.parent = resolve(property, TypeResolutionCache.Kind.INSTANTIATION_TYPE);
         final String containerType = tmp.containerType;
         final String instantiationType = instantiationTypes.get(containerType);
         if (instantiationType != null) {
@@ -3103,21 +3161,7 @@ public class DefaultCodegen {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        return Naming.underscore(word);
     }
 
     /**
@@ -3344,66 +3388,7 @@ public class DefaultCodegen {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
-        }
-
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
-            }
-        }
-        word = f.toString();
-
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
-        }
-
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
-        }
-
-        // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            String original = m.group(2);
-            String upperCase = original.toUpperCase();
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
-            } else {
-                word = m.replaceFirst(upperCase);
-            }
-            m = p.matcher(word);
-        }
-
-        // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
-        }
-
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
-        }
-
-        return word;
+        return Naming.camelize(word, lowercaseFirstLetter);
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -3592,11 +3577,6 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (name == null) {
             LOGGER.error("String to be sanitized is null. Default to ERROR_UNKNOWN");
@@ -3608,35 +3588,9 @@ public class DefaultCodegen {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { // could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        } else {
-            name = name.replaceAll("\\W", "");
-        }
-
-        return name;
+        // input[] => input, input[a][b] => input_a_b, input(a)(b) => input_a_b, input.name-and age => input_name_and_age
+        // and remove everything else other than word, number and _ ($php_variable => php_variable)
+        return Naming.sanitizeName(name, Boolean.TRUE.equals(allowUnicodeIdentifiers));
     }
 
     /**
@@ -3679,9 +3633,17 @@ public class DefaultCodegen {
             supportingFiles.add(supportingFile);
         } else {
             LOGGER.info("Skipped overwriting " + supportingFile.destinationFilename + " as the file already exists in " + folder);
+            skippedSupportingFiles.add(new File(folder));
         }
     }
 
+    /**
+     * @return The supporting files not written because they already exist, see {@link #writeOptional(String, SupportingFile)}
+     */
+    public List<File> skippedSupportingFiles() {
+        return skippedSupportingFiles;
+    }
+
     /**
      * Set CodegenParameter boolean flag using CodegenProperty.
      *
@@ -5,11 +5,13 @@ import com.samskivert.mustache.Template;
 import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
 import io.swagger.codegen.languages.AbstractJavaCodegen;
 import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.codegen.utils.Naming;
 import io.swagger.models.*;
 import io.swagger.models.auth.OAuth2Definition;
 import io.swagger.models.auth.SecuritySchemeDefinition;
 import io.swagger.models.parameters.Parameter;
 import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -19,8 +21,24 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
+    /**
+     * The switches of the generator, which can be given for each run through
+     * {@link ClientOptInput#getGeneratorProperties()} rather than as system properties.
+     */
+    public static final Set<String> PROPERTIES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            CodegenConstants.GENERATE_APIS, CodegenConstants.GENERATE_MODELS, CodegenConstants.APIS,
+            CodegenConstants.MODELS, CodegenConstants.SUPPORTING_FILES, CodegenConstants.MODEL_TESTS,
+            CodegenConstants.MODEL_DOCS, CodegenConstants.API_TESTS, CodegenConstants.API_DOCS,
+            CodegenConstants.NAMING_CACHE, CodegenConstants.TYPE_RESOLUTION_CACHE,
+            "debugSwagger", "debugModels", "debugOperations", "debugSupportingFiles")));
+
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
     protected CodegenConfig config;
     protected ClientOptInput opts;
@@ -34,9 +52,19 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected Boolean isGenerateModelTests = null;
     protected Boolean isGenerateModelDocumentation = null;
     protected Boolean isGenerateSwaggerMetadata = true;
+    protected Boolean isNamingCache = null;
+    protected Boolean isTypeResolutionCache = null;
     protected String basePath;
     protected String basePathWithoutHost;
     protected String contextPath;
+    protected TemplateCache templateCache = new TemplateCache();
+    protected ExecutorService renderExecutor;
+    protected OutputManifest outputManifest;
+    protected SpecFingerprint specFingerprint;
+    protected SpecFingerprint.Delta incrementalDelta;
+    private Long templatesModified;
+    private Boolean loadsTemplatesItself;
+    private TemplateCache ownTemplateCache;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
 
     @Override
@@ -73,6 +101,19 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.isGenerateSwaggerMetadata = generateSwaggerMetadata;
     }
 
+    /**
+     * Use the given cache for compiled templates instead of a cache local to this generator.
+     * Passing {@link TemplateCache#shared()} reuses compiled templates across runs in the same JVM.
+     * @param templateCache The template cache
+     */
+    public void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    public TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
     /**
      * Set generator properties otherwise pulled from system properties.
      * Useful for running tests in parallel without relying on System.properties.
@@ -84,6 +125,19 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.generatorPropertyDefaults.put(key, value);
     }
 
+    /**
+     * Looks up a switch of the generator in the properties of this run, then in the system properties.
+     * @param key The property key, one of {@link #PROPERTIES}
+     * @return The value of the property, null if it isn't set
+     */
+    protected String getGeneratorProperty(final String key) {
+        Map<String, String> properties = opts != null ? opts.getGeneratorProperties() : null;
+        if (properties != null && properties.containsKey(key)) {
+            return properties.get(key);
+        }
+        return System.getProperty(key);
+    }
+
     protected Boolean getGeneratorPropertyDefaultSwitch(final String key, final Boolean defaultValue) {
         String result = null;
         if (this.generatorPropertyDefaults.containsKey(key)) {
@@ -131,17 +185,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        if (System.getProperty(CodegenConstants.GENERATE_APIS) != null) {
-            isGenerateApis = Boolean.valueOf(System.getProperty(CodegenConstants.GENERATE_APIS));
+        if (getGeneratorProperty(CodegenConstants.GENERATE_APIS) != null) {
+            isGenerateApis = Boolean.valueOf(getGeneratorProperty(CodegenConstants.GENERATE_APIS));
         } else {
-            isGenerateApis = System.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+            isGenerateApis = getGeneratorProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
         }
-        if (System.getProperty(CodegenConstants.GENERATE_MODELS) != null) {
-            isGenerateModels = Boolean.valueOf(System.getProperty(CodegenConstants.GENERATE_MODELS));
+        if (getGeneratorProperty(CodegenConstants.GENERATE_MODELS) != null) {
+            isGenerateModels = Boolean.valueOf(getGeneratorProperty(CodegenConstants.GENERATE_MODELS));
         } else {
-            isGenerateModels = System.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+            isGenerateModels = getGeneratorProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
         }
-        String supportingFilesProperty = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFilesProperty = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES);
         if (((supportingFilesProperty != null) && supportingFilesProperty.equalsIgnoreCase("false"))) {
             isGenerateSupportingFiles = false;
         } else {
@@ -164,10 +218,14 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
         // model/api tests and documentation options rely on parent generate options (api or model) and no other options.
         // They default to true in all scenarios and can only be marked false explicitly
-        isGenerateModelTests = System.getProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
-        isGenerateModelDocumentation = System.getProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
-        isGenerateApiTests = System.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
-        isGenerateApiDocumentation = System.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        isGenerateModelTests = getGeneratorProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
+        isGenerateModelDocumentation = getGeneratorProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
+        isGenerateApiTests = getGeneratorProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
+        isGenerateApiDocumentation = getGeneratorProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        // the names computed by the naming helpers and the types resolved for properties are memoized for the run
+        // unless disabled
+        isNamingCache = getGeneratorProperty(CodegenConstants.NAMING_CACHE) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.NAMING_CACHE)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.NAMING_CACHE, true);
+        isTypeResolutionCache = getGeneratorProperty(CodegenConstants.TYPE_RESOLUTION_CACHE) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.TYPE_RESOLUTION_CACHE)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.TYPE_RESOLUTION_CACHE, true);
 
 
         // Additional properties added for tests to exclude references in project related files
@@ -183,7 +241,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if(!isGenerateApiTests && !isGenerateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
-        if (System.getProperty("debugSwagger") != null) {
+        if (getGeneratorProperty("debugSwagger") != null) {
             Json.prettyPrint(swagger);
         }
         config.processOpts();
@@ -269,8 +327,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             String suffix = config.modelTestTemplateFiles().get(templateName);
             String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
             // do not overwrite test file that already exists
-            if (new File(filename).exists()) {
+            if (getOutputSink().exists(new File(filename))) {
                 LOGGER.info("File exists. Skipped overwriting " + filename);
+                recordSkipped(filename);
                 continue;
             }
             File written = processTemplateToFile(models, templateName, filename);
@@ -286,6 +345,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
             if (!config.shouldOverwrite(filename)) {
                 LOGGER.info("Skipped overwriting " + filename);
+                recordSkipped(filename);
                 continue;
             }
             File written = processTemplateToFile(models, templateName, filename);
@@ -306,7 +366,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = System.getProperty("models");
+        String modelNames = getGeneratorProperty("models");
         Set<String> modelsToGenerate = null;
         if (modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
@@ -322,6 +382,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             modelKeys = updatedKeys;
         }
+        if (incrementalDelta != null && incrementalDelta.isEmpty()) {
+            return;
+        }
 
         // store all processed models
         Map<String, Object> allProcessedModels = new TreeMap<String, Object>(new Comparator<String>() {
@@ -402,8 +465,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         allProcessedModels = config.postProcessAllModels(allProcessedModels);
 
         // generate files based on processed models
-        for (String modelName : allProcessedModels.keySet()) {
-            Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
+        List<Callable<List<File>>> deferredRenders = new ArrayList<Callable<List<File>>>();
+        for (final String modelName : allProcessedModels.keySet()) {
+            final Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
             try {
                 //don't generate models that have an import mapping
@@ -421,30 +485,47 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
                 allModels.add(modelTemplate);
-                for (String templateName : config.modelTemplateFiles().keySet()) {
-                    String suffix = config.modelTemplateFiles().get(templateName);
-                    String filename = config.modelFileFolder() + File.separator + config.toModelFilename(modelName) + suffix;
-                    if (!config.shouldOverwrite(filename)) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-                    File written = processTemplateToFile(models, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
-                }
-                if(isGenerateModelTests) {
-                    generateModelTests(files, models, modelName);
-                }
-                if(isGenerateModelDocumentation) {
-                    // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
-                }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
+            if (incrementalDelta != null && !incrementalDelta.getModels().contains(modelName)) {
+                // processed all the same, as the other models and the apis are post processed along with it
+                continue;
+            }
+            render(files, deferredRenders, new Callable<List<File>>() {
+                @Override
+                public List<File> call() {
+                    List<File> modelFiles = new ArrayList<File>();
+                    try {
+                        for (String templateName : config.modelTemplateFiles().keySet()) {
+                            String suffix = config.modelTemplateFiles().get(templateName);
+                            String filename = config.modelFileFolder() + File.separator + config.toModelFilename(modelName) + suffix;
+                            if (!config.shouldOverwrite(filename)) {
+                                LOGGER.info("Skipped overwriting " + filename);
+                                recordSkipped(filename);
+                                continue;
+                            }
+                            File written = processTemplateToFile(models, templateName, filename);
+                            if (written != null) {
+                                modelFiles.add(written);
+                            }
+                        }
+                        if(isGenerateModelTests) {
+                            generateModelTests(modelFiles, models, modelName);
+                        }
+                        if(isGenerateModelDocumentation) {
+                            // to generate model documentation files
+                            generateModelDocumentation(modelFiles, models, modelName);
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                    }
+                    return modelFiles;
+                }
+            });
         }
-        if (System.getProperty("debugModels") != null) {
+        awaitRenders(files, deferredRenders);
+        if (getGeneratorProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
@@ -455,9 +536,19 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!isGenerateApis) {
             return;
         }
+        if (incrementalDelta != null && incrementalDelta.isEmpty()) {
+            return;
+        }
         Map<String, List<CodegenOperation>> paths = processPaths(swagger.getPaths());
+        if (specFingerprint != null) {
+            for (Map.Entry<String, List<CodegenOperation>> group : paths.entrySet()) {
+                for (CodegenOperation op : group.getValue()) {
+                    specFingerprint.addGroup(SpecFingerprint.operationKey(op.httpMethod, op.path), group.getKey());
+                }
+            }
+        }
         Set<String> apisToGenerate = null;
-        String apiNames = System.getProperty("apis");
+        String apiNames = getGeneratorProperty("apis");
         if (apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -470,7 +561,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
-        for (String tag : paths.keySet()) {
+        List<Callable<List<File>>> deferredRenders = new ArrayList<Callable<List<File>>>();
+        for (final String tag : paths.keySet()) {
+            final Map<String, Object> operation;
             try {
                 List<CodegenOperation> ops = paths.get(tag);
                 Collections.sort(ops, new Comparator<CodegenOperation>() {
@@ -479,7 +572,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         return ObjectUtils.compare(one.operationId, another.operationId);
                     }
                 });
-                Map<String, Object> operation = processOperations(config, tag, ops, allModels);
+                operation = processOperations(config, tag, ops, allModels);
 
                 operation.put("hostWithoutBasePath", getHostWithoutBasePath());
                 operation.put("basePath", basePath);
@@ -515,59 +608,76 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         oo.put("hasMore", "true");
                     }
                 }
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+            }
+            if (incrementalDelta != null && !incrementalDelta.getGroups().contains(tag)) {
+                // processed all the same, as the supporting files aggregate all apis
+                continue;
+            }
+            render(files, deferredRenders, new Callable<List<File>>() {
+                @Override
+                public List<File> call() {
+                    List<File> apiFiles = new ArrayList<File>();
+                    try {
+                        for (String templateName : config.apiTemplateFiles().keySet()) {
+                            String filename = config.apiFilename(templateName, tag);
+                            if (!config.shouldOverwrite(filename) && getOutputSink().exists(new File(filename))) {
+                                LOGGER.info("Skipped overwriting " + filename);
+                                recordSkipped(filename);
+                                continue;
+                            }
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
-                }
-
-                if(isGenerateApiTests) {
-                    // to generate api test files
-                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                        String filename = config.apiTestFilename(templateName, tag);
-                        // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
-                            LOGGER.info("File exists. Skipped overwriting " + filename);
-                            continue;
+                            File written = processTemplateToFile(operation, templateName, filename);
+                            if (written != null) {
+                                apiFiles.add(written);
+                            }
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
+                        if(isGenerateApiTests) {
+                            // to generate api test files
+                            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                                String filename = config.apiTestFilename(templateName, tag);
+                                // do not overwrite test file that already exists
+                                if (getOutputSink().exists(new File(filename))) {
+                                    LOGGER.info("File exists. Skipped overwriting " + filename);
+                                    recordSkipped(filename);
+                                    continue;
+                                }
+
+                                File written = processTemplateToFile(operation, templateName, filename);
+                                if (written != null) {
+                                    apiFiles.add(written);
+                                }
+                            }
                         }
-                    }
-                }
 
 
-                if(isGenerateApiDocumentation) {
-                    // to generate api documentation files
-                    for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                        String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            LOGGER.info("Skipped overwriting " + filename);
-                            continue;
-                        }
+                        if(isGenerateApiDocumentation) {
+                            // to generate api documentation files
+                            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                                String filename = config.apiDocFilename(templateName, tag);
+                                if (!config.shouldOverwrite(filename) && getOutputSink().exists(new File(filename))) {
+                                    LOGGER.info("Skipped overwriting " + filename);
+                                    recordSkipped(filename);
+                                    continue;
+                                }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
+                                File written = processTemplateToFile(operation, templateName, filename);
+                                if (written != null) {
+                                    apiFiles.add(written);
+                                }
+                            }
                         }
+                    } catch (Exception e) {
+                        throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                     }
+                    return apiFiles;
                 }
-
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
-            }
+            });
         }
-        if (System.getProperty("debugOperations") != null) {
+        awaitRenders(files, deferredRenders);
+        if (getGeneratorProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
         }
@@ -578,8 +688,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!isGenerateSupportingFiles) {
             return;
         }
+        if (incrementalDelta != null && incrementalDelta.isEmpty()) {
+            return;
+        }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFiles = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES);
         boolean generateAll = false;
         if (supportingFiles != null && supportingFiles.equalsIgnoreCase("true")) {
             generateAll = true;
@@ -594,12 +707,13 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     outputFolder += File.separator + support.folder;
                 }
                 File of = new File(outputFolder);
-                if (!of.isDirectory()) {
+                if (isWritingToFileSystem() && !of.isDirectory()) {
                     of.mkdirs();
                 }
                 String outputFilename = outputFolder + File.separator + support.destinationFilename.replace('/', File.separatorChar);
                 if (!config.shouldOverwrite(outputFilename)) {
                     LOGGER.info("Skipped overwriting " + outputFilename);
+                    recordSkipped(outputFilename);
                     continue;
                 }
                 String templateFile;
@@ -618,20 +732,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
                 if (ignoreProcessor.allowsFile(new File(outputFilename))) {
                     if (templateFile.endsWith("mustache")) {
-                        String template = readTemplate(templateFile);
-                        Mustache.Compiler compiler = Mustache.compiler();
-                        compiler = config.processCompiler(compiler);
-                        Template tmpl = compiler
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(outputFilename, tmpl.execute(bundle));
+                        Template tmpl = getCompiledTemplate(templateFile);
+
+                        writeTemplateToFile(outputFilename, tmpl, bundle);
                         files.add(new File(outputFilename));
                     } else {
                         InputStream in = null;
@@ -645,11 +748,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                             in = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(templateFile));
                         }
                         File outputFile = new File(outputFilename);
-                        OutputStream out = new FileOutputStream(outputFile, false);
                         if (in != null) {
-                            LOGGER.info("writing file " + outputFile);
-                            IOUtils.copy(in, out);
-                            out.close();
+                            try {
+                                writeToFile(outputFilename, IOUtils.toByteArray(in));
+                            } finally {
+                                in.close();
+                            }
                         } else {
                             LOGGER.error("can't open " + templateFile + " for input");
                         }
@@ -657,6 +761,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 } else {
                     LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .swagger-codegen-ignore");
+                    recordSkipped(outputFilename);
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate supporting file '" + support + "'", e);
@@ -668,7 +773,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         final String swaggerCodegenIgnore = ".swagger-codegen-ignore";
         String ignoreFileNameTarget = config.outputFolder() + File.separator + swaggerCodegenIgnore;
         File ignoreFile = new File(ignoreFileNameTarget);
-        if (isGenerateSwaggerMetadata && !ignoreFile.exists()) {
+        if (getOutputSink().exists(ignoreFile)) {
+            recordSkipped(ignoreFileNameTarget);
+        } else if (isGenerateSwaggerMetadata) {
             String ignoreFileNameSource = File.separator + config.getCommonTemplateDir() + File.separator + swaggerCodegenIgnore;
             String ignoreFileContents = readResourceContents(ignoreFileNameSource);
             try {
@@ -748,7 +855,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
         config.postProcessSupportingFileData(bundle);
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (getGeneratorProperty("debugSupportingFiles") != null) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -762,24 +869,80 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             throw new RuntimeException("missing swagger input or config!");
         }
         configureGeneratorProperties();
+        boolean namingCacheOwner = isNamingCache && Naming.getCache() == null;
+        if (namingCacheOwner) {
+            Naming.enableCache();
+        }
+        try {
+            return generateFiles();
+        } finally {
+            if (namingCacheOwner) {
+                Naming.Cache namingCache = Naming.getCache();
+                LOGGER.debug("Naming cache: {} hits, {} misses", namingCache.getHits(), namingCache.getMisses());
+                Naming.disableCache();
+            }
+        }
+    }
+
+    private List<File> generateFiles() {
         configureSwaggerInfo();
+        templatesModified = null;
 
         // resolve inline models
         InlineModelResolver inlineModelResolver = new InlineModelResolver();
         inlineModelResolver.flatten(swagger);
 
+        // previous outputs can only be compared with, kept or removed on the file system
+        if (isGenerateSwaggerMetadata && isWritingToFileSystem()) {
+            outputManifest = new OutputManifest(config.outputFolder());
+            if (config instanceof DefaultCodegen) {
+                // left out by processOpts, they are still part of the outputs
+                for (File skipped : ((DefaultCodegen) config).skippedSupportingFiles()) {
+                    outputManifest.recordSkipped(skipped);
+                }
+            }
+            prepareIncrementalGeneration();
+        }
+
         List<File> files = new ArrayList<File>();
-        // models
-        List<Object> allModels = new ArrayList<Object>();
-        generateModels(files, allModels);
-        // apis
-        List<Object> allOperations = new ArrayList<Object>();
-        generateApis(files, allOperations, allModels);
-
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
+        if (opts.getThreads() > 1) {
+            renderExecutor = Executors.newFixedThreadPool(opts.getThreads());
+        }
+        // the properties are left untouched from here, so each one needs to be resolved only once
+        TypeResolutionCache typeResolutionCache = null;
+        if (isTypeResolutionCache && config instanceof DefaultCodegen) {
+            typeResolutionCache = new TypeResolutionCache();
+            ((DefaultCodegen) config).setTypeResolutionCache(typeResolutionCache);
+        }
+        try {
+            // models
+            List<Object> allModels = new ArrayList<Object>();
+            generateModels(files, allModels);
+            // apis
+            List<Object> allOperations = new ArrayList<Object>();
+            generateApis(files, allOperations, allModels);
+
+            // supporting files
+            Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+            generateSupportingFiles(files, bundle);
+        } finally {
+            if (renderExecutor != null) {
+                renderExecutor.shutdownNow();
+                renderExecutor = null;
+            }
+            if (typeResolutionCache != null) {
+                ((DefaultCodegen) config).setTypeResolutionCache(null);
+                LOGGER.debug("Type resolution cache: {} hits, {} misses for {} properties", typeResolutionCache.getHits(), typeResolutionCache.getMisses(), typeResolutionCache.size());
+            }
+        }
+        if (outputManifest != null) {
+            saveOutputManifest();
+        }
+        if (specFingerprint != null) {
+            saveSpecFingerprint();
+        }
         config.processSwagger(swagger);
+        LOGGER.debug("Template cache: {} hits, {} misses", templateCache.getHits(), templateCache.getMisses());
         return files;
     }
 
@@ -787,27 +950,437 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
             String templateFile = getFullTemplateFile(config, templateName);
-            String template = readTemplate(templateFile);
-            Mustache.Compiler compiler = Mustache.compiler();
-            compiler = config.processCompiler(compiler);
-            Template tmpl = compiler
-                    .withLoader(new Mustache.TemplateLoader() {
-                        @Override
-                        public Reader getTemplate(String name) {
-                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                        }
-                    })
-                    .defaultValue("")
-                    .compile(template);
+            Template tmpl = getCompiledTemplate(templateFile);
 
-            writeToFile(adjustedOutputFilename, tmpl.execute(templateData));
-            return new File(adjustedOutputFilename);
+            return writeTemplateToFile(adjustedOutputFilename, tmpl, templateData);
         }
 
         LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
+        recordSkipped(adjustedOutputFilename);
         return null;
     }
 
+    /**
+     * Writes the file unless it already has the given content, in which case the existing file is left untouched so that
+     * downstream builds don't see it as modified.
+     */
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        if (outputManifest == null && !isAtomicWrites()) {
+            return super.writeToFile(filename, contents);
+        }
+        String hash = OutputManifest.hash(contents);
+        File output = new File(filename);
+        if (outputManifest != null && outputManifest.isUnchanged(output, contents, hash)) {
+            LOGGER.info("unchanged file " + filename);
+            return output;
+        }
+        if (!isAtomicWrites()) {
+            File written = super.writeToFile(filename, contents);
+            outputManifest.recordWritten(written, hash);
+            return written;
+        }
+        LOGGER.info("writing file " + filename);
+        StreamingOutputFile out = new StreamingOutputFile(output, true);
+        try {
+            out.write(contents);
+            out.commit();
+        } finally {
+            out.close();
+        }
+        if (outputManifest != null) {
+            outputManifest.recordWritten(output, hash);
+        }
+        return output;
+    }
+
+    /**
+     * Renders the template straight into the file, unless it already has the rendered content (see
+     * {@link #writeToFile(String, byte[])}).
+     *
+     * The content goes to a temporary file, moved into place once complete, on atomic writes and when there is a
+     * manifest to compare the previous file with. Otherwise the file is written directly, or to the
+     * {@link #getOutputSink() output sink} when it isn't the file system.
+     *
+     * @param filename The output file
+     * @param template The compiled template
+     * @param context The data of the template
+     * @return The output file
+     * @throws IOException If the file can't be written
+     */
+    protected File writeTemplateToFile(String filename, Template template, Object context) throws IOException {
+        File output = new File(filename);
+        if (!isWritingToFileSystem()) {
+            // sinks complete a file when its stream is closed, so it's only opened once the template succeeded
+            StringWriter rendered = new StringWriter();
+            template.execute(context, rendered);
+            writeToFile(filename, rendered.toString());
+            return output;
+        }
+        // rendered next to the target, so that a template failing partway through leaves the previous file untouched
+        StreamingOutputFile out = new StreamingOutputFile(output, true);
+        try {
+            template.execute(context, out.getWriter());
+            String hash = out.finish();
+            if (outputManifest != null && outputManifest.isUnchanged(output, out.getFile(), hash)) {
+                LOGGER.info("unchanged file " + filename);
+                return output;
+            }
+            LOGGER.info("writing file " + filename);
+            out.commit();
+            if (outputManifest != null) {
+                outputManifest.recordWritten(output, hash);
+            }
+            return output;
+        } finally {
+            out.close();
+        }
+    }
+
+    private boolean isAtomicWrites() {
+        return opts != null && opts.isAtomicWrites() && isWritingToFileSystem();
+    }
+
+    /**
+     * @return {@code true} if the files are written to the local file system, rather than to another
+     * {@link OutputSink}.
+     */
+    protected boolean isWritingToFileSystem() {
+        return getOutputSink() instanceof LocalOutputSink;
+    }
+
+    protected void recordSkipped(String filename) {
+        if (outputManifest != null) {
+            outputManifest.recordSkipped(new File(filename));
+        }
+    }
+
+    /**
+     * Whether only part of the outputs were requested (only models, a list of apis...), in which case files missing from
+     * this run aren't stale.
+     *
+     * @return {@code true} on selective generation
+     */
+    protected boolean isSelectiveGeneration() {
+        if (incrementalDelta != null) {
+            return true;
+        }
+        if (!(isGenerateApis && isGenerateModels && isGenerateSupportingFiles)) {
+            return true;
+        }
+        String supportingFiles = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES);
+        return StringUtils.isNotEmpty(getGeneratorProperty(CodegenConstants.MODELS))
+                || StringUtils.isNotEmpty(getGeneratorProperty(CodegenConstants.APIS))
+                || (StringUtils.isNotEmpty(supportingFiles) && !"true".equalsIgnoreCase(supportingFiles));
+    }
+
+    protected void saveOutputManifest() {
+        if (isSelectiveGeneration()) {
+            outputManifest.retainUntouched();
+        } else {
+            outputManifest.removeStale();
+        }
+        try {
+            outputManifest.save();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + outputManifest.getManifestFile(), e);
+        }
+        LOGGER.info("Files written: {}, unchanged: {}, removed: {}",
+                outputManifest.getWritten(), outputManifest.getUnchanged(), outputManifest.getRemoved());
+    }
+
+    /**
+     * Compares the spec with the fingerprints of the previous run when generating incrementally, so that only the
+     * affected models and apis are rendered. All models and operations are still processed, as configs post process
+     * the models and the operations along with all the others, and the supporting files aggregating them are rendered
+     * again: the output manifest leaves those whose content didn't change untouched. Other runs drop the
+     * fingerprints, which no longer match the outputs.
+     */
+    protected void prepareIncrementalGeneration() {
+        File fingerprintFile = new File(config.outputFolder(), SpecFingerprint.FINGERPRINT_FILE);
+        if (!opts.isIncremental() || isSelectiveGeneration()) {
+            if (fingerprintFile.exists() && !fingerprintFile.delete()) {
+                LOGGER.warn("Could not delete " + fingerprintFile);
+            }
+            if (opts.isIncremental()) {
+                LOGGER.info("Incremental generation isn't supported along with selective generation, generating the selected files");
+            }
+            return;
+        }
+        specFingerprint = SpecFingerprint.compute(swagger, SpecFingerprint.hash(getGeneratorFingerprint()));
+        incrementalDelta = specFingerprint.diff(SpecFingerprint.load(fingerprintFile));
+        if (incrementalDelta != null && incrementalDelta.isEmpty()) {
+            LOGGER.info("No changes since the previous run");
+        }
+    }
+
+    /**
+     * The generator settings which, when changed, require everything to be generated again.
+     *
+     * @return The settings, serialized to compute their fingerprint
+     */
+    protected Map<String, Object> getGeneratorFingerprint() {
+        Map<String, Object> settings = new TreeMap<String, Object>();
+        settings.put("generatorVersion", ImplementationVersion.read());
+        settings.put("generatorClass", config.getClass().getName());
+        settings.put("library", config.getLibrary());
+        settings.put("templateDir", config.templateDir());
+        settings.put("templatesModified", getLastModified(new File(config.templateDir())));
+        settings.put("importMapping", config.importMapping());
+        settings.put("typeMapping", config.typeMapping());
+        settings.put("instantiationTypes", config.instantiationTypes());
+        settings.put("reservedWordsMappings", config.reservedWordsMappings());
+        for (Map.Entry<String, Object> e : config.additionalProperties().entrySet()) {
+            Object value = e.getValue();
+            if ("generatedDate".equals(e.getKey()) || "generatedYear".equals(e.getKey())) {
+                continue;
+            }
+            if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+                settings.put("additionalProperties." + e.getKey(), value);
+            }
+        }
+        String ignoreFile = config.getIgnoreFilePathOverride();
+        if (ignoreFile == null || !new File(ignoreFile).isFile()) {
+            ignoreFile = config.outputFolder() + File.separator + ".swagger-codegen-ignore";
+        }
+        try {
+            settings.put("ignoreFile", FileUtils.readFileToString(new File(ignoreFile), "UTF-8"));
+        } catch (IOException e) {
+            // the default ignore file is about to be written
+            settings.put("ignoreFile", readResourceContents(File.separator + config.getCommonTemplateDir() + File.separator + ".swagger-codegen-ignore"));
+        }
+        return settings;
+    }
+
+    private static long getLastModified(File file) {
+        long lastModified = file.lastModified();
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                lastModified = Math.max(lastModified, getLastModified(child));
+            }
+        }
+        return lastModified;
+    }
+
+    protected void saveSpecFingerprint() {
+        File fingerprintFile = new File(config.outputFolder(), SpecFingerprint.FINGERPRINT_FILE);
+        try {
+            specFingerprint.save(fingerprintFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write " + fingerprintFile, e);
+        }
+    }
+
+    /**
+     * Get the compiled template for a fully resolved template file. The template is read and compiled on first use
+     * only; later calls (for every other model, api or supporting file) are served from the {@link TemplateCache}.
+     *
+     * Partials are loaded the first time the template runs and stay part of it, so the template is cached under the
+     * latest modification time of the whole template dir, see {@link #getTemplatesModified()}. Partials are resolved
+     * without going through this generator or its config, which a shared cache would otherwise keep alive. A subclass
+     * overriding how templates are found or read ({@link #getFullTemplateFile(CodegenConfig, String)},
+     * {@link #getTemplateReader(String)}, {@link #readTemplate(String)} or {@link #readCachedTemplate(String)}) has its
+     * partials resolved through these methods instead, and its templates are cached by this generator only.
+     *
+     * @param templateFile Full template file path, as returned by {@link #getFullTemplateFile(CodegenConfig, String)}
+     * @return The compiled template
+     */
+    protected Template getCompiledTemplate(String templateFile) {
+        final String cacheKey = getTemplateCacheKey(templateFile);
+        final long templatesModified = getTemplatesModified();
+        final boolean loadsTemplatesItself = loadsTemplatesItself();
+        final TemplateCache cache = loadsTemplatesItself ? getOwnTemplateCache() : templateCache;
+        Template tmpl = cache.getTemplate(cacheKey, templatesModified);
+        if (tmpl != null) {
+            return tmpl;
+        }
+        Mustache.Compiler compiler = Mustache.compiler();
+        compiler = config.processCompiler(compiler);
+        tmpl = compiler
+                .withLoader(loadsTemplatesItself ? new GeneratorPartialLoader()
+                        : new PartialLoader(templateCache, config.templateDir(), config.embeddedTemplateDir(),
+                                config.getLibrary(), getClass().getClassLoader()))
+                .defaultValue("")
+                .compile(readCachedTemplate(templateFile));
+        return cache.putTemplate(cacheKey, templatesModified, tmpl);
+    }
+
+    /**
+     * Whether a subclass overrides how templates are found or read, see {@link #getCompiledTemplate(String)}.
+     *
+     * @return true if partials have to be resolved through this generator
+     */
+    private boolean loadsTemplatesItself() {
+        if (loadsTemplatesItself == null) {
+            loadsTemplatesItself = overrides("getFullTemplateFile", CodegenConfig.class, String.class)
+                    || overrides("getTemplateReader", String.class)
+                    || overrides("readTemplate", String.class)
+                    || overrides("readCachedTemplate", String.class);
+        }
+        return loadsTemplatesItself;
+    }
+
+    private boolean overrides(String name, Class<?>... parameterTypes) {
+        for (Class<?> type = getClass(); type != DefaultGenerator.class; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // declared further up
+            }
+        }
+        return false;
+    }
+
+    private TemplateCache getOwnTemplateCache() {
+        if (ownTemplateCache == null) {
+            ownTemplateCache = new TemplateCache();
+        }
+        return ownTemplateCache;
+    }
+
+    /**
+     * Build the key under which a compiled template is cached. Compiled templates depend on the compiler settings of
+     * the config class and on where partials are resolved from (template dir and library), so all of these are part of
+     * the key.
+     *
+     * @param templateFile Full template file path
+     * @return The cache key
+     */
+    protected String getTemplateCacheKey(String templateFile) {
+        return config.getClass().getName()
+                + "|" + config.getLibrary()
+                + "|" + config.templateDir()
+                + "|" + config.embeddedTemplateDir()
+                + "|" + templateFile;
+    }
+
+    /**
+     * The latest modification time of the template dir and of everything in it, read once per run. Embedded templates
+     * can't change, so this covers every template and partial a run can use.
+     *
+     * @return The modification time, or 0 if the template dir isn't on the file system
+     */
+    protected long getTemplatesModified() {
+        if (templatesModified == null) {
+            templatesModified = getLastModified(new File(config.templateDir()));
+        }
+        return templatesModified;
+    }
+
+    protected String readCachedTemplate(String templateFile) {
+        if (loadsTemplatesItself()) {
+            // 0 for embedded templates
+            final long lastModified = new File(templateFile).lastModified();
+            String contents = getOwnTemplateCache().getSource(templateFile, lastModified);
+            if (contents == null) {
+                contents = readTemplate(templateFile);
+                getOwnTemplateCache().putSource(templateFile, lastModified, contents);
+            }
+            return contents;
+        }
+        return readCachedTemplate(templateCache, getClass().getClassLoader(), templateFile);
+    }
+
+    private static String readCachedTemplate(TemplateCache templateCache, ClassLoader classLoader, String templateFile) {
+        // 0 for embedded templates
+        final long lastModified = new File(templateFile).lastModified();
+        String contents = templateCache.getSource(templateFile, lastModified);
+        if (contents == null) {
+            contents = readTemplate(classLoader, templateFile);
+            templateCache.putSource(templateFile, lastModified, contents);
+        }
+        return contents;
+    }
+
+    /**
+     * Loads the partials of a compiled template the way {@link #getFullTemplateFile(CodegenConfig, String)} resolves
+     * templates, from the settings of the config only.
+     */
+    private static class PartialLoader implements Mustache.TemplateLoader {
+        private final TemplateCache templateCache;
+        private final String templateDir;
+        private final String embeddedTemplateDir;
+        private final String library;
+        private final ClassLoader classLoader;
+
+        PartialLoader(TemplateCache templateCache, String templateDir, String embeddedTemplateDir, String library,
+                      ClassLoader classLoader) {
+            this.templateCache = templateCache;
+            this.templateDir = templateDir;
+            this.embeddedTemplateDir = embeddedTemplateDir;
+            this.library = library;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Reader getTemplate(String name) {
+            String templateFile = getFullTemplateFile(templateDir, embeddedTemplateDir, library, name + ".mustache", classLoader);
+            return new StringReader(readCachedTemplate(templateCache, classLoader, templateFile));
+        }
+    }
+
+    /**
+     * Loads the partials of a compiled template through the overridable methods of this generator, for the subclasses
+     * changing how templates are found or read.
+     */
+    private class GeneratorPartialLoader implements Mustache.TemplateLoader {
+        @Override
+        public Reader getTemplate(String name) {
+            return new StringReader(readCachedTemplate(getFullTemplateFile(config, name + ".mustache")));
+        }
+    }
+
+    /**
+     * Render the files of one model or one api. When generating on a single thread the files are rendered right away,
+     * otherwise the task is deferred until {@link #awaitRenders(List, List)} so that all models (or apis) are fully
+     * processed before any template runs concurrently with them.
+     *
+     * @param files The list of generated files
+     * @param deferredRenders Tasks waiting for the render executor
+     * @param render Renders and writes the files, returning the ones written
+     */
+    protected void render(List<File> files, List<Callable<List<File>>> deferredRenders, Callable<List<File>> render) {
+        if (renderExecutor == null) {
+            try {
+                files.addAll(render.call());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        } else {
+            deferredRenders.add(render);
+        }
+    }
+
+    /**
+     * Run the deferred render tasks on the render executor and add the written files in submission order, so that the
+     * result doesn't depend on the number of threads.
+     *
+     * @param files The list of generated files
+     * @param deferredRenders Tasks waiting for the render executor
+     */
+    protected void awaitRenders(List<File> files, List<Callable<List<File>>> deferredRenders) {
+        if (deferredRenders.isEmpty()) {
+            return;
+        }
+        try {
+            for (Future<List<File>> rendered : renderExecutor.invokeAll(deferredRenders)) {
+                files.addAll(rendered.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
     protected static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
         if (mimeTypeList == null || mimeTypeList.isEmpty()) {
             return;
@@ -850,7 +1423,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (operation == null) {
             return;
         }
-        if (System.getProperty("debugOperations") != null) {
+        if (getGeneratorProperty("debugOperations") != null) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
         List<Tag> tags = new ArrayList<Tag>();
@@ -5,7 +5,6 @@ import io.swagger.models.parameters.BodyParameter;
 import io.swagger.models.parameters.Parameter;
 import io.swagger.models.properties.*;
 import io.swagger.models.utils.PropertyModelConverter;
-import io.swagger.util.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,7 +19,11 @@ public class InlineModelResolver {
     static Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
     Map<String, Model> addedModels = new HashMap<String, Model>();
-    Map<String, String> generatedSignature = new HashMap<String, String>();
+    Map<ModelSignature, String> generatedSignature = new HashMap<ModelSignature, String>();
+
+    // a model is usually looked up and then added, only compute its signature once
+    private Model lastSignedModel;
+    private ModelSignature lastSignature;
 
     public void flatten(Swagger swagger) {
         this.swagger = swagger;
@@ -243,15 +246,28 @@ public class InlineModelResolver {
         if (this.skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
+        ModelSignature signature = signature(model);
+        if (signature == null) {
+            return null;
         }
-        return null;
+        return generatedSignature.get(signature);
     }
 
     public void addGenerated(String name, Model model) {
-        generatedSignature.put(Json.pretty(model), name);
+        ModelSignature signature = signature(model);
+        if (signature != null) {
+            generatedSignature.put(signature, name);
+        }
+        // the model may still be modified once added
+        lastSignedModel = null;
+    }
+
+    private ModelSignature signature(Model model) {
+        if (model != lastSignedModel) {
+            lastSignature = ModelSignature.of(model);
+            lastSignedModel = model;
+        }
+        return lastSignature;
     }
 
     public String uniqueName(String key) {
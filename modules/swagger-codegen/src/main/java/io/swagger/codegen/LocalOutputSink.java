@@ -0,0 +1,26 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the generated files to the local file system, creating their directories as needed.
+ */
+public class LocalOutputSink implements OutputSink {
+
+    @Override
+    public OutputStream newOutputStream(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        return new FileOutputStream(file);
+    }
+
+    @Override
+    public boolean exists(File file) {
+        return file.exists();
+    }
+}
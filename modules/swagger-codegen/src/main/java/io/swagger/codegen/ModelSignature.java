@@ -0,0 +1,94 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.models.Model;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Structural signature of a {@link Model}, used by {@link InlineModelResolver} to reuse a generated model for identical
+ * inline schemas.
+ *
+ * Two models have the same signature when they have the same JSON serialization, which is what the resolver used to
+ * compare through {@code Json.pretty(model)}: the same fields are compared, with the same inclusion rules, vendor
+ * extensions and property order. The serialization is streamed into a SHA-256 digest rather than built as a pretty
+ * printed string, and the hash code is computed once.
+ */
+public final class ModelSignature {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelSignature.class);
+
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+
+    private final byte[] digest;
+    private final int hashCode;
+
+    private ModelSignature(byte[] digest) {
+        this.digest = digest;
+        this.hashCode = Arrays.hashCode(digest);
+    }
+
+    /**
+     * @param model The model
+     * @return The signature of the model, or {@code null} if the model can't be serialized
+     */
+    public static ModelSignature of(Model model) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try {
+            WRITER.writeValue(new DigestSink(md), model);
+        } catch (IOException e) {
+            LOGGER.warn("Could not compute the signature of " + model, e);
+            return null;
+        }
+        return new ModelSignature(md.digest());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ModelSignature)) {
+            return false;
+        }
+        ModelSignature that = (ModelSignature) o;
+        return hashCode == that.hashCode && Arrays.equals(digest, that.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Feeds the serialized bytes to the digest without keeping them.
+     */
+    private static class DigestSink extends OutputStream {
+        private final MessageDigest md;
+
+        DigestSink(MessageDigest md) {
+            this.md = md;
+        }
+
+        @Override
+        public void write(int b) {
+            md.update((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            md.update(b, off, len);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records a content hash of every file written by the generator in {@code .swagger-codegen/MANIFEST}, so that
+ * regenerating into the same output directory only writes files whose content actually changed.
+ *
+ * Each line of the manifest holds the SHA-256 of the file content, its size, its modification time and its path
+ * relative to the output directory. A file is considered unchanged, and isn't written again, when the rendered content
+ * has the recorded hash and the file on disk still has the recorded size and modification time. Files without a
+ * matching entry (e.g. edited since the last run) are compared byte for byte before being rewritten.
+ *
+ * Files recorded by a previous run which the current run no longer produces are stale. {@link #removeStale()} deletes
+ * them, unless they have been modified since they were generated.
+ */
+public class OutputManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutputManifest.class);
+
+    public static final String MANIFEST_FILE = ".swagger-codegen" + File.separator + "MANIFEST";
+
+    private final File outputDir;
+    private final File manifestFile;
+    private final Map<String, Entry> previous = new TreeMap<String, Entry>();
+    private final ConcurrentMap<String, Entry> current = new ConcurrentHashMap<String, Entry>();
+    private final Set<String> touched = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    private final AtomicInteger removed = new AtomicInteger();
+
+    public OutputManifest(String outputDir) {
+        this.outputDir = new File(outputDir).getAbsoluteFile();
+        this.manifestFile = new File(this.outputDir, MANIFEST_FILE);
+        load();
+    }
+
+    private void load() {
+        if (!manifestFile.isFile()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ", 4);
+                if (parts.length != 4) {
+                    continue;
+                }
+                try {
+                    previous.put(parts[3], new Entry(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                } catch (NumberFormatException e) {
+                    LOGGER.debug("Ignoring invalid manifest line: " + line);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + manifestFile + ", all files will be rewritten", e);
+            previous.clear();
+        }
+    }
+
+    /**
+     * Determines whether the file already has the given content. If so, the file is kept in the manifest and counted
+     * as unchanged, and doesn't need to be written.
+     *
+     * @param file The output file
+     * @param contents The rendered content
+     * @param hash The hash of the rendered content, see {@link #hash(byte[])}
+     * @return {@code true} if the file doesn't need to be written
+     */
+    public boolean isUnchanged(File file, byte[] contents, String hash) {
+        return isUnchanged(file, hash, contents, null);
+    }
+
+    /**
+     * Same as {@link #isUnchanged(File, byte[], String)}, for content rendered to another file.
+     *
+     * @param file The output file
+     * @param rendered The file holding the rendered content, see {@link StreamingOutputFile}
+     * @param hash The hash of the rendered content
+     * @return {@code true} if the file doesn't need to be written
+     */
+    public boolean isUnchanged(File file, File rendered, String hash) {
+        return isUnchanged(file, hash, null, rendered);
+    }
+
+    private boolean isUnchanged(File file, String hash, byte[] contents, File rendered) {
+        String path = relativize(file);
+        if (path == null || !file.isFile()) {
+            return false;
+        }
+        touched.add(path);
+        Entry entry = previous.get(path);
+        boolean same;
+        if (entry != null && entry.hash.equals(hash) && entry.matches(file)) {
+            same = true;
+        } else if (contents != null) {
+            same = file.length() == contents.length && contentEquals(file, contents);
+        } else {
+            same = file.length() == rendered.length() && contentEquals(file, rendered);
+        }
+        if (same) {
+            current.put(path, new Entry(hash, file.length(), file.lastModified()));
+            unchanged.incrementAndGet();
+        }
+        return same;
+    }
+
+    /**
+     * Records a file which has just been written.
+     *
+     * @param file The output file
+     * @param hash The hash of the written content
+     */
+    public void recordWritten(File file, String hash) {
+        written.incrementAndGet();
+        String path = relativize(file);
+        if (path == null) {
+            return;
+        }
+        touched.add(path);
+        current.put(path, new Entry(hash, file.length(), file.lastModified()));
+    }
+
+    /**
+     * Records a file the generator considered but deliberately didn't write (skipped overwrite, ignore rule, existing
+     * test file...). Such a file isn't stale, and its previous entry is kept.
+     *
+     * @param file The output file
+     */
+    public void recordSkipped(File file) {
+        String path = relativize(file);
+        if (path == null) {
+            return;
+        }
+        touched.add(path);
+        Entry entry = previous.get(path);
+        if (entry != null && !current.containsKey(path)) {
+            current.put(path, entry);
+        }
+    }
+
+    /**
+     * Deletes the files recorded by the previous run which haven't been produced by this run. Files modified since they
+     * were generated are left alone. Must only be called after a complete (not selective) generation.
+     */
+    public void removeStale() {
+        for (Map.Entry<String, Entry> e : previous.entrySet()) {
+            String path = e.getKey();
+            if (touched.contains(path)) {
+                continue;
+            }
+            File file = new File(outputDir, path);
+            if (!file.isFile()) {
+                continue;
+            }
+            if (e.getValue().matches(file) && file.delete()) {
+                LOGGER.info("removed stale file " + file);
+                removed.incrementAndGet();
+            } else {
+                LOGGER.info("Kept " + file + " which is no longer generated, as it has been modified");
+            }
+        }
+    }
+
+    /**
+     * Keeps the previous entries of all files this run didn't consider, e.g. on selective generation.
+     */
+    public void retainUntouched() {
+        for (Map.Entry<String, Entry> e : previous.entrySet()) {
+            if (!touched.contains(e.getKey()) && new File(outputDir, e.getKey()).isFile()) {
+                current.putIfAbsent(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    public void save() throws IOException {
+        File parent = manifestFile.getParentFile();
+        if (!parent.exists()) {
+            parent.mkdirs();
+        }
+        Map<String, Entry> sorted = new TreeMap<String, Entry>(current);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, Entry> e : sorted.entrySet()) {
+                Entry entry = e.getValue();
+                out.write(entry.hash + " " + entry.size + " " + entry.lastModified + " " + e.getKey() + "\n");
+            }
+        }
+    }
+
+    public int getWritten() {
+        return written.get();
+    }
+
+    public int getUnchanged() {
+        return unchanged.get();
+    }
+
+    public int getRemoved() {
+        return removed.get();
+    }
+
+    public File getManifestFile() {
+        return manifestFile;
+    }
+
+    public static String hash(byte[] contents) {
+        try {
+            return toHex(MessageDigest.getInstance("SHA-256").digest(contents));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param digest A SHA-256 digest
+     * @return The digest as recorded in the manifest
+     */
+    public static String toHex(byte[] digest) {
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private String relativize(File file) {
+        String path = outputDir.toURI().relativize(file.getAbsoluteFile().toURI()).getPath();
+        if (path.startsWith("/") || manifestFile.equals(file.getAbsoluteFile())) {
+            // not located under the output directory
+            return null;
+        }
+        return path;
+    }
+
+    private static boolean contentEquals(File file, byte[] contents) {
+        try {
+            return Arrays.equals(Files.readAllBytes(file.toPath()), contents);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean contentEquals(File file, File other) {
+        InputStream in = null;
+        InputStream otherIn = null;
+        try {
+            in = new BufferedInputStream(new FileInputStream(file));
+            otherIn = new BufferedInputStream(new FileInputStream(other));
+            return IOUtils.contentEquals(in, otherIn);
+        } catch (IOException e) {
+            return false;
+        } finally {
+            IOUtils.closeQuietly(in);
+            IOUtils.closeQuietly(otherIn);
+        }
+    }
+
+    private static class Entry {
+        private final String hash;
+        private final long size;
+        private final long lastModified;
+
+        Entry(String hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        boolean matches(File file) {
+            return file.length() == size && file.lastModified() == lastModified;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.swagger.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Where the generator writes the generated files. Files are still named by their path under the output folder of the
+ * {@link CodegenConfig}, which the sink maps to its own storage: the local file system ({@link LocalOutputSink}, the
+ * default) or entries of a zip archive ({@link ZipOutputSink}).
+ *
+ * Files of different models and apis can be written concurrently, see {@link ClientOptInput#threads(int)}.
+ */
+public interface OutputSink {
+
+    /**
+     * Opens a file for writing, replacing any previous content. The file is complete once the stream is closed.
+     *
+     * @param file The generated file
+     * @return The stream of the content
+     * @throws IOException If the file can't be created
+     */
+    OutputStream newOutputStream(File file) throws IOException;
+
+    /**
+     * @param file The generated file
+     * @return {@code true} if the file exists in the sink, e.g. to skip overwriting it
+     */
+    boolean exists(File file);
+}
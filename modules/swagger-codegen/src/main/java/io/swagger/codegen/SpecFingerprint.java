@@ -0,0 +1,416 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Normalized fingerprints of a (flattened) spec, stored in {@code .swagger-codegen/FINGERPRINTS} so that an incremental
+ * run only renders what changed since the previous run.
+ *
+ * Every definition and every operation (keyed by {@code METHOD path}) gets the hash of its JSON serialization with
+ * sorted keys. Everything else in the spec (info, host, security definitions, shared parameters...) and the generator
+ * settings are folded into two more hashes. Operations also record the api groups (tags, usually) they were rendered
+ * in, as grouping is up to the {@link CodegenConfig} and can't be derived from the spec alone.
+ *
+ * {@link #diff(SpecFingerprint)} compares a run against the previous one. Models depending on a changed definition,
+ * through a {@code $ref} or through {@link ComposedModel} inheritance, are affected too, as are the api groups of
+ * changed operations and of operations referencing an affected model.
+ */
+public class SpecFingerprint {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecFingerprint.class);
+
+    public static final String FINGERPRINT_FILE = ".swagger-codegen" + File.separator + "FINGERPRINTS";
+
+    private static final String REF_PREFIX = "#/definitions/";
+    private static final String NO_GROUP = "-";
+
+    private static final ObjectMapper MAPPER = Json.mapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+
+    private String configHash;
+    private String globalHash;
+    private String structureHash;
+    private final Map<String, String> models = new TreeMap<String, String>();
+    private final Map<String, String> operations = new TreeMap<String, String>();
+    private final Map<String, Set<String>> operationGroups = new TreeMap<String, Set<String>>();
+
+    // only known for a computed fingerprint, not for one loaded from disk
+    private final Map<String, Set<String>> modelDependents = new HashMap<String, Set<String>>();
+    private final Map<String, Set<String>> operationRefs = new HashMap<String, Set<String>>();
+
+    private SpecFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of a spec. Must be called once inline models have been resolved, and before operations
+     * are processed (processing adds path level parameters to the operations).
+     *
+     * @param swagger The flattened spec
+     * @param configHash The fingerprint of the generator settings, see {@link #hash(Object)}
+     * @return The fingerprint
+     */
+    public static SpecFingerprint compute(Swagger swagger, String configHash) {
+        SpecFingerprint fingerprint = new SpecFingerprint();
+        fingerprint.configHash = configHash;
+
+        Map<String, Object> global = new LinkedHashMap<String, Object>();
+        global.put("info", swagger.getInfo());
+        global.put("host", swagger.getHost());
+        global.put("basePath", swagger.getBasePath());
+        global.put("schemes", swagger.getSchemes());
+        global.put("consumes", swagger.getConsumes());
+        global.put("produces", swagger.getProduces());
+        global.put("security", swagger.getSecurity());
+        global.put("securityDefinitions", swagger.getSecurityDefinitions());
+        global.put("parameters", swagger.getParameters());
+        global.put("responses", swagger.getResponses());
+        global.put("tags", swagger.getTags());
+        global.put("externalDocs", swagger.getExternalDocs());
+        global.put("vendorExtensions", swagger.getVendorExtensions());
+        fingerprint.globalHash = hash(global);
+
+        // names of all definitions and operations, along with the tags of each operation
+        StringBuilder structure = new StringBuilder();
+        Map<String, Model> definitions = swagger.getDefinitions();
+        if (definitions != null) {
+            for (Map.Entry<String, Model> entry : new TreeMap<String, Model>(definitions).entrySet()) {
+                String name = entry.getKey();
+                JsonNode node = MAPPER.valueToTree(entry.getValue());
+                fingerprint.models.put(name, hash(node));
+                structure.append("model ").append(name).append('\n');
+
+                Set<String> dependencies = collectRefs(node, new HashSet<String>());
+                for (String dependency : dependencies) {
+                    fingerprint.addDependent(dependency, name);
+                }
+                // a parent lists its children (discriminator mappings, sub types...), so it depends on them as well
+                for (String parent : getParents(entry.getValue())) {
+                    fingerprint.addDependent(name, parent);
+                }
+            }
+        }
+        Map<String, Path> paths = swagger.getPaths();
+        if (paths != null) {
+            for (Map.Entry<String, Path> entry : new TreeMap<String, Path>(paths).entrySet()) {
+                Path path = entry.getValue();
+                for (Map.Entry<HttpMethod, Operation> op : path.getOperationMap().entrySet()) {
+                    String key = operationKey(op.getKey().name(), entry.getKey());
+                    Map<String, Object> value = new LinkedHashMap<String, Object>();
+                    value.put("operation", op.getValue());
+                    value.put("pathParameters", path.getParameters());
+                    JsonNode node = MAPPER.valueToTree(value);
+                    fingerprint.operations.put(key, hash(node));
+                    fingerprint.operationRefs.put(key, collectRefs(node, new HashSet<String>()));
+                    structure.append("operation ").append(key).append(' ').append(op.getValue().getTags()).append('\n');
+                }
+            }
+        }
+        fingerprint.structureHash = OutputManifest.hash(structure.toString().getBytes(StandardCharsets.UTF_8));
+        return fingerprint;
+    }
+
+    /**
+     * @param method The http method, in any case
+     * @param path The resource path
+     * @return The key of the operation, e.g. {@code GET /pet/{petId}}
+     */
+    public static String operationKey(String method, String path) {
+        return method.toUpperCase() + " " + path;
+    }
+
+    /**
+     * Hashes the JSON serialization of a value, with map entries and properties sorted so that the hash doesn't depend
+     * on the order of the spec.
+     *
+     * @param value The value to hash
+     * @return The SHA-256 of the normalized serialization
+     */
+    public static String hash(Object value) {
+        try {
+            return OutputManifest.hash(MAPPER.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize " + value, e);
+        }
+    }
+
+    /**
+     * Loads the fingerprint of the previous run.
+     *
+     * @param file The fingerprint file
+     * @return The previous fingerprint, or {@code null} if there isn't a usable one
+     */
+    public static SpecFingerprint load(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        SpecFingerprint fingerprint = new SpecFingerprint();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ", 2);
+                if (parts.length != 2) {
+                    continue;
+                }
+                if ("config".equals(parts[0])) {
+                    fingerprint.configHash = parts[1];
+                } else if ("global".equals(parts[0])) {
+                    fingerprint.globalHash = parts[1];
+                } else if ("structure".equals(parts[0])) {
+                    fingerprint.structureHash = parts[1];
+                } else if ("model".equals(parts[0])) {
+                    String[] model = parts[1].split(" ", 2);
+                    if (model.length == 2) {
+                        fingerprint.models.put(model[1], model[0]);
+                    }
+                } else if ("operation".equals(parts[0])) {
+                    // hash, groups, method and path
+                    String[] operation = parts[1].split(" ", 3);
+                    if (operation.length == 3) {
+                        fingerprint.operations.put(operation[2], operation[0]);
+                        Set<String> groups = new TreeSet<String>();
+                        if (!NO_GROUP.equals(operation[1])) {
+                            groups.addAll(Arrays.asList(operation[1].split(",")));
+                        }
+                        fingerprint.operationGroups.put(operation[2], groups);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + file + ", generating everything", e);
+            return null;
+        }
+        if (fingerprint.configHash == null || fingerprint.globalHash == null || fingerprint.structureHash == null) {
+            return null;
+        }
+        return fingerprint;
+    }
+
+    public void save(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (!parent.exists()) {
+            parent.mkdirs();
+        }
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            out.write("config " + configHash + "\n");
+            out.write("global " + globalHash + "\n");
+            out.write("structure " + structureHash + "\n");
+            for (Map.Entry<String, String> e : models.entrySet()) {
+                out.write("model " + e.getValue() + " " + e.getKey() + "\n");
+            }
+            for (Map.Entry<String, String> e : operations.entrySet()) {
+                Set<String> groups = operationGroups.get(e.getKey());
+                String joined = groups == null || groups.isEmpty() ? NO_GROUP : StringUtils.join(groups, ",");
+                out.write("operation " + e.getValue() + " " + joined + " " + e.getKey() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Records that an operation has been rendered as part of an api group.
+     *
+     * @param operationKey The operation key, see {@link #operationKey(String, String)}
+     * @param group The api group (tag)
+     */
+    public void addGroup(String operationKey, String group) {
+        Set<String> groups = operationGroups.get(operationKey);
+        if (groups == null) {
+            groups = new TreeSet<String>();
+            operationGroups.put(operationKey, groups);
+        }
+        groups.add(group);
+    }
+
+    /**
+     * Compares this run with the previous one.
+     *
+     * @param previous The fingerprint of the previous run, may be {@code null}
+     * @return The changes, or {@code null} if everything has to be generated
+     */
+    public Delta diff(SpecFingerprint previous) {
+        if (previous == null) {
+            LOGGER.info("No fingerprints of a previous run, generating everything");
+            return null;
+        }
+        if (!configHash.equals(previous.configHash)) {
+            LOGGER.info("Generator settings changed since the previous run, generating everything");
+            return null;
+        }
+        if (!globalHash.equals(previous.globalHash) || !structureHash.equals(previous.structureHash)) {
+            // supporting files aggregating all models and apis have to be rendered again
+            LOGGER.info("Definitions, operations or top level spec properties changed, generating everything");
+            return null;
+        }
+
+        Set<String> changedModels = new TreeSet<String>();
+        for (Map.Entry<String, String> e : models.entrySet()) {
+            if (!e.getValue().equals(previous.models.get(e.getKey()))) {
+                changedModels.add(e.getKey());
+            }
+        }
+        Set<String> affectedModels = new TreeSet<String>();
+        Deque<String> queue = new ArrayDeque<String>(changedModels);
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            if (affectedModels.add(name) && modelDependents.containsKey(name)) {
+                queue.addAll(modelDependents.get(name));
+            }
+        }
+
+        Set<String> affectedGroups = new TreeSet<String>();
+        int changedOperations = 0;
+        for (Map.Entry<String, String> e : operations.entrySet()) {
+            String key = e.getKey();
+            boolean changed = !e.getValue().equals(previous.operations.get(key));
+            if (changed) {
+                changedOperations++;
+            }
+            if (changed || !intersection(operationRefs.get(key), affectedModels).isEmpty()) {
+                Set<String> groups = previous.operationGroups.get(key);
+                if (groups != null) {
+                    affectedGroups.addAll(groups);
+                }
+            }
+        }
+        // operations keep the groups they were rendered in, as they aren't processed when nothing changed
+        for (Map.Entry<String, Set<String>> e : previous.operationGroups.entrySet()) {
+            if (operations.containsKey(e.getKey())) {
+                operationGroups.put(e.getKey(), new TreeSet<String>(e.getValue()));
+            }
+        }
+
+        LOGGER.info("Incremental generation: {} changed definitions ({} affected models), {} changed operations ({} affected apis)",
+                changedModels.size(), affectedModels.size(), changedOperations, affectedGroups.size());
+        return new Delta(affectedModels, affectedGroups);
+    }
+
+    private void addDependent(String dependency, String dependent) {
+        Set<String> dependents = modelDependents.get(dependency);
+        if (dependents == null) {
+            dependents = new HashSet<String>();
+            modelDependents.put(dependency, dependents);
+        }
+        dependents.add(dependent);
+    }
+
+    private static Set<String> collectRefs(JsonNode node, Set<String> refs) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if ("$ref".equals(field.getKey()) && field.getValue().isTextual()) {
+                    refs.add(simpleRef(field.getValue().asText()));
+                } else {
+                    collectRefs(field.getValue(), refs);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                collectRefs(element, refs);
+            }
+        }
+        return refs;
+    }
+
+    private static String simpleRef(String ref) {
+        if (ref.startsWith(REF_PREFIX)) {
+            return ref.substring(REF_PREFIX.length());
+        }
+        return ref.substring(ref.lastIndexOf('/') + 1);
+    }
+
+    private static Set<String> getParents(Model model) {
+        Set<String> parents = new HashSet<String>();
+        if (model instanceof ComposedModel) {
+            ComposedModel composed = (ComposedModel) model;
+            if (composed.getParent() instanceof RefModel) {
+                parents.add(((RefModel) composed.getParent()).getSimpleRef());
+            }
+            if (composed.getInterfaces() != null) {
+                for (RefModel interf : composed.getInterfaces()) {
+                    parents.add(interf.getSimpleRef());
+                }
+            }
+        }
+        return parents;
+    }
+
+    private static Set<String> intersection(Collection<String> a, Set<String> b) {
+        Set<String> result = new HashSet<String>();
+        if (a != null) {
+            for (String s : a) {
+                if (b.contains(s)) {
+                    result.add(s);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The models and api groups affected by the changes since the previous run.
+     */
+    public static class Delta {
+        private final Set<String> models;
+        private final Set<String> groups;
+
+        Delta(Set<String> models, Set<String> groups) {
+            this.models = models;
+            this.groups = groups;
+        }
+
+        /**
+         * @return The names of the definitions whose models have to be generated again
+         */
+        public Set<String> getModels() {
+            return models;
+        }
+
+        /**
+         * @return The api groups (tags) which have to be generated again
+         */
+        public Set<String> getGroups() {
+            return groups;
+        }
+
+        public boolean isEmpty() {
+            return models.isEmpty() && groups.isEmpty();
+        }
+    }
+}
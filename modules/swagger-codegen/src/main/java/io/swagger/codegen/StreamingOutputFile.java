@@ -0,0 +1,171 @@
+package io.swagger.codegen;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * An output file written through a buffered writer over a {@link FileChannel}, so that templates are rendered
+ * straight to disk instead of into a string holding the whole file. The SHA-256 of the written bytes, as recorded by
+ * the {@link OutputManifest}, is computed on the way.
+ *
+ * The content can be written to a temporary file next to the target, which {@link #commit()} then moves into place
+ * (atomically when the file system supports it). Readers never see a partially written file, and the previous file
+ * is left untouched when the new content turns out to be the same.
+ *
+ * <pre>
+ * StreamingOutputFile out = new StreamingOutputFile(target, true);
+ * try {
+ *     template.execute(context, out.getWriter());
+ *     String hash = out.finish();
+ *     ...
+ *     out.commit();
+ * } finally {
+ *     out.close();
+ * }
+ * </pre>
+ */
+public class StreamingOutputFile implements Closeable {
+
+    /**
+     * Size in chars of the writer buffer, large enough for the renderer to write whole template fragments at once.
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File target;
+    private final File temporary;
+    private final MessageDigest digest;
+    private final OutputStream out;
+    private final Writer writer;
+    private String hash;
+    private boolean committed;
+
+    /**
+     * Creates the parent directories and opens the file.
+     *
+     * @param target The file to write
+     * @param useTemporaryFile Whether to write to a temporary file moved into place by {@link #commit()}, rather than
+     * directly to the target
+     * @throws IOException If the file can't be created
+     */
+    public StreamingOutputFile(File target, boolean useTemporaryFile) throws IOException {
+        this.target = target;
+        File parent = target.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        // not File.createTempFile, which restricts the permissions of the file to its owner
+        this.temporary = useTemporaryFile ? new File(parent, "." + target.getName() + "." + UUID.randomUUID() + ".tmp") : null;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        FileChannel channel = temporary != null
+                ? FileChannel.open(temporary.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW)
+                : FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.out = new DigestOutputStream(Channels.newOutputStream(channel), digest);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * @return The writer of the content, encoding it in UTF-8.
+     */
+    public Writer getWriter() {
+        return writer;
+    }
+
+    /**
+     * Writes raw bytes, e.g. a supporting file copied as is.
+     *
+     * @param contents The content
+     * @throws IOException If the content can't be written
+     */
+    public void write(byte[] contents) throws IOException {
+        // the encoder has nothing pending once flushed
+        writer.flush();
+        out.write(contents);
+    }
+
+    /**
+     * Closes the file once its content has been written.
+     *
+     * @return The SHA-256 of the content, see {@link OutputManifest#hash(byte[])}
+     * @throws IOException If the content can't be written
+     */
+    public String finish() throws IOException {
+        if (hash == null) {
+            writer.close();
+            hash = OutputManifest.toHex(digest.digest());
+        }
+        return hash;
+    }
+
+    /**
+     * @return The file the content is written to: the temporary file, if any, or the target.
+     */
+    public File getFile() {
+        return temporary != null ? temporary : target;
+    }
+
+    public File getTarget() {
+        return target;
+    }
+
+    /**
+     * Moves the temporary file, if any, into place.
+     *
+     * @return The target file
+     * @throws IOException If the file can't be moved
+     */
+    public File commit() throws IOException {
+        finish();
+        if (temporary != null) {
+            if (target.exists()) {
+                // as if the file had been overwritten, e.g. a script made executable stays executable
+                try {
+                    Files.setPosixFilePermissions(temporary.toPath(), Files.getPosixFilePermissions(target.toPath()));
+                } catch (UnsupportedOperationException e) {
+                    // not a POSIX file system
+                }
+            }
+            try {
+                Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        committed = true;
+        return target;
+    }
+
+    /**
+     * Closes the file, and deletes the temporary file if it hasn't been moved into place.
+     */
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            // the content is discarded anyway
+        }
+        if (temporary != null && !committed) {
+            temporary.delete();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Template;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds compiled mustache templates and raw partial sources so that each template is read and compiled only once.
+ *
+ * Every entry carries a stamp, the modification time of what it was built from. Looking an entry up with another stamp
+ * misses, and storing it again replaces the outdated entry, so a cache shared across runs never serves, nor keeps,
+ * templates built from files edited since.
+ *
+ * By default {@link DefaultGenerator} creates one cache per instance, which covers a whole {@code generate()} run.
+ * Callers running several generations in the same JVM can share {@link #shared()} (or their own instance) across
+ * generators through {@link DefaultGenerator#setTemplateCache(TemplateCache)}.
+ */
+public class TemplateCache {
+
+    private static final TemplateCache SHARED = new TemplateCache();
+
+    private final ConcurrentMap<String, Stamped<Template>> templates = new ConcurrentHashMap<String, Stamped<Template>>();
+    private final ConcurrentMap<String, Stamped<String>> sources = new ConcurrentHashMap<String, Stamped<String>>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @return The JVM-wide cache instance.
+     */
+    public static TemplateCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Looks up a compiled template, counting the lookup as a hit or a miss.
+     *
+     * @param key The cache key, see {@link DefaultGenerator#getTemplateCacheKey(String)}
+     * @param stamp The modification time of the template and its partials
+     * @return The compiled template, or {@code null} if it hasn't been compiled yet with this stamp.
+     */
+    public Template getTemplate(String key, long stamp) {
+        Template template = get(templates, key, stamp);
+        if (template != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return template;
+    }
+
+    /**
+     * Stores a compiled template, replacing one compiled with another stamp. If another thread stored one with the
+     * same stamp first, that one wins.
+     *
+     * @param key The cache key
+     * @param stamp The modification time of the template and its partials
+     * @param template The compiled template
+     * @return The template now associated with the key.
+     */
+    public Template putTemplate(String key, long stamp, Template template) {
+        return put(templates, key, stamp, template);
+    }
+
+    /**
+     * @param templateFile The fully resolved template file
+     * @param stamp The modification time of the file
+     * @return The template contents, or {@code null} if they haven't been read yet with this stamp.
+     */
+    public String getSource(String templateFile, long stamp) {
+        return get(sources, templateFile, stamp);
+    }
+
+    public void putSource(String templateFile, long stamp, String contents) {
+        put(sources, templateFile, stamp, contents);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        sources.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TemplateCache{templates=%d, hits=%d, misses=%d}", templates.size(), hits.get(), misses.get());
+    }
+
+    private static <T> T get(ConcurrentMap<String, Stamped<T>> map, String key, long stamp) {
+        Stamped<T> entry = map.get(key);
+        return entry != null && entry.stamp == stamp ? entry.value : null;
+    }
+
+    private static <T> T put(ConcurrentMap<String, Stamped<T>> map, String key, long stamp, T value) {
+        Stamped<T> entry = new Stamped<T>(stamp, value);
+        Stamped<T> existing = map.putIfAbsent(key, entry);
+        while (existing != null && existing.stamp != stamp) {
+            if (map.replace(key, existing, entry)) {
+                return value;
+            }
+            existing = map.putIfAbsent(key, entry);
+        }
+        return existing != null ? existing.value : value;
+    }
+
+    private static class Stamped<T> {
+        private final long stamp;
+        private final T value;
+
+        Stamped(long stamp, T value) {
+            this.stamp = stamp;
+            this.value = value;
+        }
+    }
+}
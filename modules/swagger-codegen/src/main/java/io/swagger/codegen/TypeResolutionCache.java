@@ -0,0 +1,81 @@
+package io.swagger.codegen;
+
+import io.swagger.models.properties.Property;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Holds the types and values a {@link DefaultCodegen} resolved for each {@link Property} instance, so that a property
+ * met from a model, a parameter and a response is resolved only once.
+ *
+ * Properties are compared by identity: the results of a language depend on everything in the property, which the
+ * {@code equals} implementations of the swagger models don't all cover, and the properties aren't modified once the
+ * spec has been preprocessed and its inline models resolved. {@link DefaultGenerator} sets a new cache on the config
+ * for each {@code generate()} run, see {@link DefaultCodegen#setTypeResolutionCache(TypeResolutionCache)}.
+ */
+public class TypeResolutionCache {
+
+    /**
+     * What is resolved for a property.
+     */
+    public enum Kind {
+        SWAGGER_TYPE, TYPE_DECLARATION, INSTANTIATION_TYPE, DEFAULT_VALUE, EXAMPLE_VALUE
+    }
+
+    /**
+     * Returned by {@link #get(Property, Kind)} when the value hasn't been resolved yet, as {@code null} is a valid
+     * resolution. Compare it by identity.
+     */
+    public static final String UNRESOLVED = new String("<unresolved>");
+
+    private static final int KINDS = Kind.values().length;
+
+    private final Map<Property, String[]> resolutions = new IdentityHashMap<Property, String[]>();
+    private long hits;
+    private long misses;
+
+    /**
+     * Looks up a resolved value, counting the lookup as a hit or a miss.
+     *
+     * @param property The property
+     * @param kind What was resolved
+     * @return The resolved value, or {@link #UNRESOLVED}
+     */
+    public synchronized String get(Property property, Kind kind) {
+        String[] resolved = resolutions.get(property);
+        if (resolved == null || resolved[kind.ordinal()] == UNRESOLVED) {
+            misses++;
+            return UNRESOLVED;
+        }
+        hits++;
+        return resolved[kind.ordinal()];
+    }
+
+    public synchronized void put(Property property, Kind kind, String value) {
+        String[] resolved = resolutions.get(property);
+        if (resolved == null) {
+            resolved = new String[KINDS];
+            for (int i = 0; i < KINDS; i++) {
+                resolved[i] = UNRESOLVED;
+            }
+            resolutions.put(property, resolved);
+        }
+        resolved[kind.ordinal()] = value;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of properties with resolved values.
+     */
+    public synchronized int size() {
+        return resolutions.size();
+    }
+}
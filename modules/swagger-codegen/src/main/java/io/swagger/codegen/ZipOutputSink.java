@@ -0,0 +1,142 @@
+package io.swagger.codegen;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the generated files as entries of a zip archive, streamed to any output (a file, a response...) as they are
+ * generated, so that nothing is written to the output folder.
+ *
+ * Each file is held in memory until it's complete, then compressed into the archive; concurrently generated files are
+ * added one at a time. An entry can't be replaced once written, so when a file is generated twice the first content
+ * is kept.
+ *
+ * <pre>
+ * ZipOutputSink zip = new ZipOutputSink(new File(config.outputFolder()), "java-client", out);
+ * try {
+ *     generator.setOutputSink(zip);
+ *     generator.opts(clientOptInput).generate();
+ * } finally {
+ *     zip.close();
+ * }
+ * </pre>
+ */
+public class ZipOutputSink implements OutputSink, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipOutputSink.class);
+
+    private final Path baseDirectory;
+    private final String entryPrefix;
+    private final ZipOutputStream zip;
+    private final Set<String> entries = new HashSet<String>();
+
+    /**
+     * @param baseDirectory The output folder of the generated files
+     * @param entryPrefix The directory of the entries in the archive, or {@code null} for the root of the archive
+     * @param out The output of the archive, closed along with the sink
+     */
+    public ZipOutputSink(File baseDirectory, String entryPrefix, OutputStream out) {
+        this.baseDirectory = baseDirectory.getAbsoluteFile().toPath().normalize();
+        this.entryPrefix = entryPrefix == null || entryPrefix.isEmpty() ? "" : entryPrefix + "/";
+        this.zip = new ZipOutputStream(out);
+    }
+
+    @Override
+    public OutputStream newOutputStream(File file) throws IOException {
+        final String name = getEntryName(file);
+        if (Thread.currentThread().isInterrupted()) {
+            // e.g. a generation job which was cancelled or timed out
+            throw new InterruptedIOException("Interrupted before writing " + name);
+        }
+        return new ByteArrayOutputStream() {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    addEntry(name, buf, count);
+                }
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean exists(File file) {
+        try {
+            return entries.contains(getEntryName(file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds the files of a directory under the base directory, which weren't generated through the sink (e.g. written
+     * by {@link CodegenConfig#processSwagger(io.swagger.models.Swagger)}).
+     *
+     * @param directory The directory
+     * @throws IOException If a file can't be read or added
+     */
+    public void addDirectory(File directory) throws IOException {
+        for (File file : FileUtils.listFiles(directory, null, true)) {
+            if (exists(file)) {
+                continue;
+            }
+            InputStream in = new FileInputStream(file);
+            try {
+                byte[] contents = IOUtils.toByteArray(in);
+                addEntry(getEntryName(file), contents, contents.length);
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * @return The number of entries written so far.
+     */
+    public synchronized int getEntries() {
+        return entries.size();
+    }
+
+    /**
+     * Completes the archive and closes its output.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        zip.close();
+    }
+
+    private synchronized void addEntry(String name, byte[] contents, int length) throws IOException {
+        if (!entries.add(name)) {
+            LOGGER.warn("{} was already added to the archive, keeping its first content", name);
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(contents, 0, length);
+        zip.closeEntry();
+    }
+
+    private String getEntryName(File file) throws IOException {
+        Path path = file.getAbsoluteFile().toPath().normalize();
+        if (!path.startsWith(baseDirectory)) {
+            throw new IOException(file + " is not under " + baseDirectory);
+        }
+        return entryPrefix + baseDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
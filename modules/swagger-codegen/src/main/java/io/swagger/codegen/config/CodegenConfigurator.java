@@ -2,17 +2,20 @@ package io.swagger.codegen.config;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
+import io.swagger.util.Yaml;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +60,9 @@ public class CodegenConfigurator implements Serializable {
     private String artifactVersion;
     private String library;
     private String ignoreFileOverride;
+    private int threads = 1;
+    private boolean incremental;
+    private boolean atomicWrites;
     private Map<String, String> systemProperties = new HashMap<String, String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
     private Map<String, String> typeMappings = new HashMap<String, String>();
@@ -379,12 +385,49 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public CodegenConfigurator setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public CodegenConfigurator setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    public boolean isAtomicWrites() {
+        return atomicWrites;
+    }
+
+    public CodegenConfigurator setAtomicWrites(boolean atomicWrites) {
+        this.atomicWrites = atomicWrites;
+        return this;
+    }
+
     public ClientOptInput toClientOptInput() {
+        return toClientOptInput(null);
+    }
+
+    /**
+     * Same as {@link #toClientOptInput()}, with a spec read beforehand, e.g. to generate several targets from a single
+     * read of the input spec. The generator modifies the spec, so each target needs its own copy.
+     *
+     * @param swagger the spec read from the input spec, or {@code null} to read it
+     * @return the input of the generator
+     */
+    public ClientOptInput toClientOptInput(Swagger swagger) {
 
         Validate.notEmpty(lang, "language must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
-        setVerboseFlags();
         setSystemProperties();
 
         CodegenConfig config = CodegenConfigLoader.forName(lang);
@@ -424,11 +467,17 @@ public class CodegenConfigurator implements Serializable {
         config.additionalProperties().putAll(additionalProperties);
 
         ClientOptInput input = new ClientOptInput()
-                .config(config);
+                .config(config)
+                .threads(threads)
+                .incremental(incremental)
+                .atomicWrites(atomicWrites)
+                .generatorProperties(toGeneratorProperties());
 
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+        if (swagger == null) {
+            final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
 
-        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
+            swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
+        }
 
         input.opts(new ClientOpts())
                 .swagger(swagger);
@@ -459,9 +508,20 @@ public class CodegenConfigurator implements Serializable {
         }
     }
 
-    private void setVerboseFlags() {
+    /**
+     * @return The system properties which are switches of the generator, along with the verbose flags. They are given
+     * to the generator for this run only, so that runs in the same JVM (e.g. parallel maven builds) don't affect each
+     * other.
+     */
+    private Map<String, String> toGeneratorProperties() {
+        Map<String, String> generatorProperties = new HashMap<String, String>();
+        for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
+            if (DefaultGenerator.PROPERTIES.contains(entry.getKey())) {
+                generatorProperties.put(entry.getKey(), entry.getValue());
+            }
+        }
         if (!verbose) {
-            return;
+            return generatorProperties;
         }
         LOGGER.info("\nVERBOSE MODE: ON. Additional debug options are injected" +
                 "\n - [debugSwagger] prints the swagger specification as interpreted by the codegen" +
@@ -469,15 +529,21 @@ public class CodegenConfigurator implements Serializable {
                 "\n - [debugOperations] prints operations passed to the template engine" +
                 "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
+        generatorProperties.put("debugSwagger", "");
+        generatorProperties.put("debugModels", "");
+        generatorProperties.put("debugOperations", "");
+        generatorProperties.put("debugSupportingFiles", "");
+        return generatorProperties;
     }
 
+    /**
+     * Sets the system properties which aren't switches of the generator, e.g. read by a language, for the whole JVM.
+     */
     private void setSystemProperties() {
         for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
+            if (!DefaultGenerator.PROPERTIES.contains(entry.getKey())) {
+                System.setProperty(entry.getKey(), entry.getValue());
+            }
         }
     }
 
@@ -504,7 +570,9 @@ public class CodegenConfigurator implements Serializable {
 
         if (isNotEmpty(configFile)) {
             try {
-                return Json.mapper().readValue(new File(configFile), CodegenConfigurator.class);
+                String name = configFile.toLowerCase();
+                ObjectMapper mapper = name.endsWith(".yaml") || name.endsWith(".yml") ? Yaml.mapper() : Json.mapper();
+                return mapper.readValue(new File(configFile), CodegenConfigurator.class);
             } catch (IOException e) {
                 LOGGER.error("Unable to deserialize config file: " + configFile, e);
             }
@@ -7,22 +7,45 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Presents a processing utility for parsing and evaluating files containing common ignore patterns. (.swagger-codegen-ignore)
+ *
+ * A file is evaluated against its path relative to the directory of the ignore file:
+ * <ul>
+ * <li>All exclusion rules are evaluated in order, and the file is excluded if any of them matches. A rule matching
+ * everything stops the evaluation.</li>
+ * <li>An excluded file is included again if an inclusion (negated, {@code !pattern}) rule matches it, wherever that rule
+ * is in the ignore file. However, a file excluded by a directory rule ({@code dir/}) can only be included again by a
+ * directory inclusion rule ({@code !dir/}).</li>
+ * </ul>
+ *
+ * Output files are grouped in few directories, so the rules are compiled per directory: the relative path of the
+ * directory, and the rules which may match its files (see {@link Rule#mayMatchIn(String)}), are computed once. Files of a
+ * directory which no exclusion rule may match are allowed without evaluating any rule.
  */
 public class CodegenIgnoreProcessor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
+    // rule prefixes and suffixes are written with '/'
+    private static final boolean SLASH_SEPARATOR = File.separatorChar == '/';
+
     private File ignoreFile = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
 
+    // the rules which may match the files of each directory, by absolute path of the directory
+    private final ConcurrentMap<String, DirectoryRules> directoryRules = new ConcurrentHashMap<>();
+    private URI baseDirectory;
+
     /**
      * Loads the default ignore file (.swagger-codegen-ignore) from the specified path.
      *
@@ -96,6 +119,7 @@ public class CodegenIgnoreProcessor {
                 }
             }
         }
+        directoryRules.clear();
     }
 
     /**
@@ -108,17 +132,41 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if(this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        Boolean directoryExcluded = false;
-        Boolean exclude = false;
         if(exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
+        final File absoluteFile = targetFile.getAbsoluteFile();
+        final String name = absoluteFile.getName();
+        final String parent = absoluteFile.getParent();
+        if (!SLASH_SEPARATOR || parent == null || ".".equals(name) || "..".equals(name)) {
+            // dot names change the normalized path of the directory
+            File file = new File(getBaseDirectory().relativize(targetFile.toURI()).getPath());
+            return allowsFile(file.getPath(), exclusionRules, inclusionRules);
+        }
+
+        DirectoryRules rules = directoryRules.get(parent);
+        if (rules == null) {
+            rules = new DirectoryRules(parent);
+            directoryRules.put(parent, rules);
+        }
+        if (rules.exclusionRules.isEmpty()) {
+            return true;
+        }
+        return allowsFile(rules.directoryPrefix + name, rules.exclusionRules, rules.inclusionRules);
+    }
+
+    private boolean allowsFile(final String relativePath, final List<Rule> exclusionRules, final List<Rule> inclusionRules) {
+        Boolean directoryExcluded = false;
+        Boolean exclude = false;
+
         // NOTE: We *must* process all exclusion rules
         for (int i = 0; i < exclusionRules.size(); i++) {
             Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
+            if (SLASH_SEPARATOR && !current.mayMatch(relativePath)) {
+                continue;
+            }
+            Rule.Operation op = current.evaluate(relativePath);
 
             switch (op){
                 case EXCLUDE:
@@ -144,7 +192,10 @@ public class CodegenIgnoreProcessor {
             // Only need to process inclusion rules if we've been excluded
             for (int i = 0; exclude && i < inclusionRules.size(); i++) {
                 Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
+                if (SLASH_SEPARATOR && !current.mayMatch(relativePath)) {
+                    continue;
+                }
+                Rule.Operation op = current.evaluate(relativePath);
 
                 // At this point exclude=true means the file should be ignored.
                 // op == INCLUDE means we have to flip that flag.
@@ -170,6 +221,13 @@ public class CodegenIgnoreProcessor {
         return Boolean.FALSE.equals(exclude);
     }
 
+    private URI getBaseDirectory() {
+        if (baseDirectory == null) {
+            baseDirectory = this.ignoreFile.getParentFile().toURI();
+        }
+        return baseDirectory;
+    }
+
     /**
      * Allows a consumer to manually inspect explicit "inclusion rules". That is, patterns in the ignore file which have been negated.
      *
@@ -190,4 +248,31 @@ public class CodegenIgnoreProcessor {
     public List<Rule> getExclusionRules() {
         return ImmutableList.copyOf(exclusionRules);
     }
+
+    /**
+     * The relative path of a directory, up to the file names, and the rules which may match its files, in the order of the ignore file.
+     */
+    private class DirectoryRules {
+        private final String directoryPrefix;
+        private final List<Rule> exclusionRules;
+        private final List<Rule> inclusionRules;
+
+        DirectoryRules(String directory) {
+            // as the path of a file in the directory would be relativized, without the file name
+            String relativePath = new File(getBaseDirectory().relativize(new File(directory).toURI()).getPath()).getPath();
+            this.directoryPrefix = relativePath.isEmpty() || relativePath.endsWith("/") ? relativePath : relativePath + "/";
+            this.exclusionRules = candidates(CodegenIgnoreProcessor.this.exclusionRules, directoryPrefix);
+            this.inclusionRules = candidates(CodegenIgnoreProcessor.this.inclusionRules, directoryPrefix);
+        }
+
+        private List<Rule> candidates(List<Rule> rules, String directoryPrefix) {
+            List<Rule> candidates = new ArrayList<>();
+            for (Rule rule : rules) {
+                if (rule.mayMatchIn(directoryPrefix)) {
+                    candidates.add(rule);
+                }
+            }
+            return candidates;
+        }
+    }
 }
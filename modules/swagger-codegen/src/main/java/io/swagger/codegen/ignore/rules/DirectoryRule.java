@@ -22,6 +22,13 @@ public class DirectoryRule extends FileRule {
 
     @Override
     public Boolean matches(String relativePath) {
-        return contentsMatcher.matches(FileSystems.getDefault().getPath(relativePath)) || directoryMatcher.matches(FileSystems.getDefault().getPath(relativePath));
+        Path path = FileSystems.getDefault().getPath(relativePath);
+        return contentsMatcher.matches(path) || directoryMatcher.matches(path);
+    }
+
+    @Override
+    public boolean mayMatch(String relativePath) {
+        // the contents of the directory end with anything
+        return relativePath.startsWith(literalPrefix);
     }
 }
@@ -5,16 +5,49 @@ import java.nio.file.PathMatcher;
 import java.util.List;
 
 public class FileRule extends Rule {
+    // glob characters, after which the pattern no longer is literal text
+    private static final String GLOB_CHARACTERS = "*?[]{},\\";
 
     private PathMatcher matcher = null;
 
+    // text which every matched path starts and ends with
+    protected final String literalPrefix;
+    protected final String literalSuffix;
+
     FileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
-        matcher = FileSystems.getDefault().getPathMatcher("glob:"+this.getPattern());
+        String pattern = this.getPattern();
+        matcher = FileSystems.getDefault().getPathMatcher("glob:"+pattern);
+
+        int prefixEnd = 0;
+        while (prefixEnd < pattern.length() && GLOB_CHARACTERS.indexOf(pattern.charAt(prefixEnd)) < 0) {
+            prefixEnd++;
+        }
+        literalPrefix = pattern.substring(0, prefixEnd);
+        int suffixStart = pattern.length();
+        while (suffixStart > prefixEnd && GLOB_CHARACTERS.indexOf(pattern.charAt(suffixStart - 1)) < 0) {
+            suffixStart--;
+        }
+        // a literal pattern only matches itself
+        literalSuffix = prefixEnd == pattern.length() ? pattern : pattern.substring(suffixStart);
     }
 
     @Override
     public Boolean matches(String relativePath) {
         return matcher.matches(FileSystems.getDefault().getPath(relativePath));
     }
+
+    @Override
+    public boolean mayMatchIn(String directoryPrefix) {
+        if (literalPrefix.length() <= directoryPrefix.length()) {
+            return directoryPrefix.startsWith(literalPrefix);
+        }
+        // the rest of the prefix has to be in the file name
+        return literalPrefix.startsWith(directoryPrefix) && literalPrefix.indexOf('/', directoryPrefix.length()) < 0;
+    }
+
+    @Override
+    public boolean mayMatch(String relativePath) {
+        return relativePath.startsWith(literalPrefix) && relativePath.endsWith(literalSuffix);
+    }
 }
@@ -20,6 +20,16 @@ public class InvalidRule extends Rule {
         return Operation.NOOP;
     }
 
+    @Override
+    public boolean mayMatchIn(String directoryPrefix) {
+        return false;
+    }
+
+    @Override
+    public boolean mayMatch(String relativePath) {
+        return false;
+    }
+
     public String getReason() {
         return reason;
     }
@@ -10,6 +10,8 @@ import java.util.regex.Pattern;
 public class RootedFileRule extends Rule {
     private String definedFilename = null;
     private String definedExtension = null;
+    // compiled on first use
+    private volatile Pattern filenameRegex = null;
 
     RootedFileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -19,6 +21,20 @@ public class RootedFileRule extends Rule {
         definedExtension = getExtensionPart(definition, separatorIndex);
     }
 
+    private Pattern getFilenameRegex() {
+        Pattern regex = filenameRegex;
+        if (regex == null) {
+            // TODO: Evaluate any other escape requirements here.
+            regex = Pattern.compile(
+                    definedFilename
+                            .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
+                            .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
+            );
+            filenameRegex = regex;
+        }
+        return regex;
+    }
+
     private String getFilenamePart(final String input, int stopIndex){
         return input.substring('/' == input.charAt(0) ? 1 : 0, stopIndex > 0 ? stopIndex : input.length());
     }
@@ -41,13 +57,7 @@ public class RootedFileRule extends Rule {
             boolean extensionMatches = definedExtension.equals(extension) || definedExtension.equals(IgnoreLineParser.Token.MATCH_ANY.getPattern());
 
             if(extensionMatches && definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
-                // TODO: Evaluate any other escape requirements here.
-                Pattern regex = Pattern.compile(
-                        definedFilename
-                                .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
-                                .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
-                );
-                return regex.matcher(filename).matches();
+                return getFilenameRegex().matcher(filename).matches();
             }
 
             return extensionMatches && definedFilename.equals(filename);
@@ -55,4 +65,10 @@ public class RootedFileRule extends Rule {
 
         return false;
     }
+
+    @Override
+    public boolean mayMatchIn(String directoryPrefix) {
+        // see isSingleFile
+        return directoryPrefix.isEmpty() || "/".equals(directoryPrefix);
+    }
 }
@@ -58,6 +58,28 @@ public abstract class Rule {
         return this.syntax != null && this.syntax.size() > 0 && this.syntax.get(0).getToken() == IgnoreLineParser.Token.NEGATE;
     }
 
+    /**
+     * Whether the rule may match a file located directly in a directory, e.g. so that rules which can't match any file
+     * of the directory are evaluated only once for it. This is a necessary condition of {@link #matches(String)}: a
+     * rule returning {@code false} never matches a file of that directory.
+     *
+     * @param directoryPrefix The relative path of the file up to and including its last '/', or "" if none
+     * @return {@code false} if the rule can't match any file of the directory, otherwise {@code true}
+     */
+    public boolean mayMatchIn(String directoryPrefix) {
+        return true;
+    }
+
+    /**
+     * A cheap necessary condition of {@link #matches(String)}, checked before evaluating the rule.
+     *
+     * @param relativePath The relative path of the file
+     * @return {@code false} if the rule can't match the file, otherwise {@code true}
+     */
+    public boolean mayMatch(String relativePath) {
+        return true;
+    }
+
     public Operation evaluate(String relativePath) {
         if (Boolean.TRUE.equals(matches(relativePath))) {
             if(Boolean.TRUE.equals(this.getNegated())) {
@@ -22,6 +22,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
                    GzipFeatures
 {
     static final String MEDIA_TYPE = "mediaType";
+    static final String HEADER_ACCEPT = "x-header-accept";
+    static final String HEADER_CONTENT_TYPE = "x-header-content-type";
 
     @SuppressWarnings("hiding")
     private static final Logger LOGGER = LoggerFactory.getLogger(JavaClientCodegen.class);
@@ -33,6 +35,12 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String PLAY_VERSION = "playVersion";
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
+    public static final String GENERATE_TYPE_ADAPTERS = "generateTypeAdapters";
+    public static final String CONNECTION_POOL_SIZE = "connectionPoolSize";
+    public static final String KEEP_ALIVE_DURATION = "keepAliveDuration";
+    public static final String MAX_REQUESTS_PER_HOST = "maxRequestsPerHost";
+    public static final String USE_HTTP2 = "useHttp2";
+    public static final String USE_RESPONSE_COMPRESSION = "useResponseCompression";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
@@ -40,6 +48,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String RETROFIT_1 = "retrofit";
     public static final String RETROFIT_2 = "retrofit2";
     public static final String REST_ASSURED = "rest-assured";
+    public static final String NATIVE = "native";
 
     protected String gradleWrapperPackage = "gradle.wrapper";
     protected boolean useRxJava = false;
@@ -52,6 +61,12 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     protected boolean performBeanValidation = false;
     protected boolean useGzipFeature = false;
     protected boolean useRuntimeException = false;
+    protected boolean generateTypeAdapters = false;
+    protected int connectionPoolSize = 20;
+    protected int keepAliveDuration = 300000;
+    protected int maxRequestsPerHost = 10;
+    protected boolean useHttp2 = true;
+    protected boolean useResponseCompression = true;
 
 
     public JavaClientCodegen() {
@@ -73,18 +88,30 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Perform BeanValidation"));
         cliOptions.add(CliOption.newBoolean(USE_GZIP_FEATURE, "Send gzip-encoded requests"));
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
+        cliOptions.add(CliOption.newBoolean(GENERATE_TYPE_ADAPTERS, "Whether to generate a Gson TypeAdapter for each model rather than relying on reflection, with the okhttp-gson library."));
+        cliOptions.add(CliOption.newString(CONNECTION_POOL_SIZE, "Number of idle connections kept open per client, with the okhttp-gson and resttemplate libraries.")
+                .defaultValue(String.valueOf(connectionPoolSize)));
+        cliOptions.add(CliOption.newString(KEEP_ALIVE_DURATION, "Milliseconds an idle connection is kept in the pool, with the okhttp-gson and resttemplate libraries.")
+                .defaultValue(String.valueOf(keepAliveDuration)));
+        cliOptions.add(CliOption.newString(MAX_REQUESTS_PER_HOST, "Maximum number of asynchronous calls running at once against a host, with the okhttp-gson library.")
+                .defaultValue(String.valueOf(maxRequestsPerHost)));
+        cliOptions.add(CliOption.newBoolean(USE_HTTP2, "Whether to negotiate HTTP/2 with servers that support it, with the okhttp-gson, resttemplate and native libraries.")
+                .defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(USE_RESPONSE_COMPRESSION, "Whether to ask for gzip-encoded responses and decode them transparently, with the okhttp-gson and resttemplate libraries.")
+                .defaultValue(Boolean.TRUE.toString()));
 
         supportedLibraries.put("jersey1", "HTTP client: Jersey client 1.19.4. JSON processing: Jackson 2.10.1. Enable Java6 support using '-DsupportJava6=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put("feign", "HTTP client: OpenFeign 9.4.0. JSON processing: Jackson 2.10.1");
         supportedLibraries.put("jersey2", "HTTP client: Jersey client 2.29.1. JSON processing: Jackson 2.10.1");
-        supportedLibraries.put("okhttp-gson", "HTTP client: OkHttp 2.7.5. JSON processing: Gson 2.8.1. Enable Parcelable models on Android using '-DparcelableModel=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
+        supportedLibraries.put("okhttp-gson", "HTTP client: OkHttp 2.7.5. JSON processing: Gson 2.8.1. Enable Parcelable models on Android using '-DparcelableModel=true'. Enable generated Gson type adapters using '-DgenerateTypeAdapters=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put(RETROFIT_1, "HTTP client: OkHttp 2.7.5. JSON processing: Gson 2.3.1 (Retrofit 1.9.0). IMPORTANT NOTE: retrofit1.x is no longer actively maintained so please upgrade to 'retrofit2' instead.");
         supportedLibraries.put(RETROFIT_2, "HTTP client: OkHttp 3.8.0. JSON processing: Gson 2.6.1 (Retrofit 2.3.0). Enable the RxJava adapter using '-DuseRxJava[2]=true'. (RxJava 1.x or 2.x)");
-        supportedLibraries.put("resttemplate", "HTTP client: Spring RestTemplate 4.3.9-RELEASE. JSON processing: Jackson 2.10.1");
+        supportedLibraries.put("resttemplate", "HTTP client: Spring RestTemplate 4.3.9-RELEASE over a pooled OkHttp 3.8.0 client. JSON processing: Jackson 2.10.1");
         supportedLibraries.put("resteasy", "HTTP client: Resteasy client 3.1.3.Final. JSON processing: Jackson 2.10.1");
         supportedLibraries.put("vertx", "HTTP client: VertX client 3.2.4. JSON processing: Jackson 2.10.1");
         supportedLibraries.put("google-api-client", "HTTP client: Google API client 1.23.0. JSON processing: Jackson 2.10.1");
         supportedLibraries.put("rest-assured", "HTTP client: rest-assured : 3.1.0. JSON processing: Gson 2.6.1. Only for Java8");
+        supportedLibraries.put(NATIVE, "HTTP client: Java 11 HttpClient (java.net.http), non-blocking with CompletableFuture returns. JSON processing: Jackson 2.10.1. Only for Java11+");
 
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
         libraryOption.setEnum(supportedLibraries);
@@ -112,6 +139,11 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 
     @Override
     public void processOpts() {
+        // the native library needs Java 11 anyway, so default to the java.time classes before the common java options
+        if (NATIVE.equals(getLibrary()) && !additionalProperties.containsKey(DATE_LIBRARY)) {
+            setDateLibrary("java8");
+        }
+
         super.processOpts();
 
         if (additionalProperties.containsKey(USE_RX_JAVA) && additionalProperties.containsKey(USE_RX_JAVA2)) {
@@ -157,6 +189,23 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             this.setUseRuntimeException(convertPropertyToBooleanAndWriteBack(USE_RUNTIME_EXCEPTION));
         }
 
+        if (additionalProperties.containsKey(GENERATE_TYPE_ADAPTERS)) {
+            this.setGenerateTypeAdapters(convertPropertyToBooleanAndWriteBack(GENERATE_TYPE_ADAPTERS));
+        }
+
+        // connection settings the generated ApiClient starts with, all written back for the templates
+        this.setConnectionPoolSize(convertPropertyToIntAndWriteBack(CONNECTION_POOL_SIZE, connectionPoolSize));
+        this.setKeepAliveDuration(convertPropertyToIntAndWriteBack(KEEP_ALIVE_DURATION, keepAliveDuration));
+        this.setMaxRequestsPerHost(convertPropertyToIntAndWriteBack(MAX_REQUESTS_PER_HOST, maxRequestsPerHost));
+        if (additionalProperties.containsKey(USE_HTTP2)) {
+            this.setUseHttp2(convertPropertyToBooleanAndWriteBack(USE_HTTP2));
+        }
+        additionalProperties.put(USE_HTTP2, useHttp2);
+        if (additionalProperties.containsKey(USE_RESPONSE_COMPRESSION)) {
+            this.setUseResponseCompression(convertPropertyToBooleanAndWriteBack(USE_RESPONSE_COMPRESSION));
+        }
+        additionalProperties.put(USE_RESPONSE_COMPRESSION, useResponseCompression);
+
         final String invokerFolder = (sourceFolder + '/' + invokerPackage).replace(".", "/");
         final String authFolder = (sourceFolder + '/' + invokerPackage + ".auth").replace(".", "/");
         final String apiFolder = (sourceFolder + '/' + apiPackage).replace(".", "/");
@@ -222,6 +271,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             supportingFiles.add(new SupportingFile("ProgressResponseBody.mustache", invokerFolder, "ProgressResponseBody.java"));
             supportingFiles.add(new SupportingFile("GzipRequestInterceptor.mustache", invokerFolder, "GzipRequestInterceptor.java"));
             additionalProperties.put("gson", "true");
+            if (generateTypeAdapters) {
+                importMapping.put("Gson", "com.google.gson.Gson");
+                importMapping.put("JsonToken", "com.google.gson.stream.JsonToken");
+                importMapping.put("TypeToken", "com.google.gson.reflect.TypeToken");
+                importMapping.put("JsonElement", "com.google.gson.JsonElement");
+                importMapping.put("JsonParseException", "com.google.gson.JsonParseException");
+                importMapping.put("JsonTreeReader", "com.google.gson.internal.bind.JsonTreeReader");
+            }
         } else if (usesAnyRetrofitLibrary()) {
             supportingFiles.add(new SupportingFile("auth/OAuthOkHttpClient.mustache", authFolder, "OAuthOkHttpClient.java"));
             supportingFiles.add(new SupportingFile("CollectionFormats.mustache", invokerFolder, "CollectionFormats.java"));
@@ -250,6 +307,11 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             apiTemplateFiles.put("apiImpl.mustache", "Impl.java");
             apiTemplateFiles.put("rxApiImpl.mustache", ".java");
             supportingFiles.remove(new SupportingFile("manifest.mustache", projectFolder, "AndroidManifest.xml"));
+        } else if (NATIVE.equals(getLibrary())) {
+            supportingFiles.add(new SupportingFile("ApiResponse.mustache", invokerFolder, "ApiResponse.java"));
+            setJava8Mode(true);
+            additionalProperties.put("java8", "true");
+            additionalProperties.put("jackson", "true");
         } else if ("google-api-client".equals(getLibrary())) {
             additionalProperties.put("jackson", "true");
 
@@ -310,6 +372,31 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         }
     }
 
+    /**
+     * Parses a positive integer option, falling back to the default when it is missing or invalid, and writes the
+     * value back to additionalProperties.
+     */
+    private int convertPropertyToIntAndWriteBack(String propertyKey, int defaultValue) {
+        int value = defaultValue;
+        if (additionalProperties.containsKey(propertyKey)) {
+            try {
+                value = Integer.parseInt(additionalProperties.get(propertyKey).toString().trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring the invalid " + propertyKey + " option (" + additionalProperties.get(propertyKey) + "), using " + defaultValue);
+            }
+            if (value <= 0) {
+                LOGGER.warn("Ignoring the invalid " + propertyKey + " option (" + value + "), using " + defaultValue);
+                value = defaultValue;
+            }
+        }
+        additionalProperties.put(propertyKey, value);
+        return value;
+    }
+
+    private boolean usesTypeAdapters() {
+        return generateTypeAdapters && ("okhttp-gson".equals(getLibrary()) || StringUtils.isEmpty(getLibrary()));
+    }
+
     private boolean usesAnyRetrofitLibrary() {
         return getLibrary() != null && getLibrary().contains(RETROFIT_1);
     }
@@ -366,6 +453,22 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 
         }
 
+        // select the Accept and Content-Type headers now rather than in ApiClient at every call
+        if ("okhttp-gson".equals(getLibrary()) || "jersey2".equals(getLibrary()) || NATIVE.equals(getLibrary())) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                if (op.vendorExtensions == null) {
+                    op.vendorExtensions = new HashMap<String, Object>();
+                }
+                String accept = selectHeaderAccept(op.produces);
+                if (accept != null) {
+                    op.vendorExtensions.put(HEADER_ACCEPT, accept);
+                }
+                op.vendorExtensions.put(HEADER_CONTENT_TYPE, selectHeaderContentType(op.consumes, "okhttp-gson".equals(getLibrary())));
+            }
+        }
+
         // camelize path variables for Feign client
         if ("feign".equals(getLibrary())) {
             Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
@@ -439,6 +542,48 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return prioritizedContentTypes;
     }
 
+    /**
+     * Selects the Accept header of an operation like ApiClient.selectHeaderAccept of the generated client:
+     * the first JSON media type if any, otherwise all of them.
+     *
+     * @param produces produces mime-type list
+     * @return the Accept header, null if the operation doesn't produce any mime-type
+     */
+    static String selectHeaderAccept(List<Map<String, String>> produces) {
+        if (produces == null || produces.isEmpty()) {
+            return null;
+        }
+        List<String> mediaTypes = new ArrayList<>(produces.size());
+        for (Map<String, String> produce : produces) {
+            String mediaType = produce.get(MEDIA_TYPE);
+            if (isClientJsonMime(mediaType)) {
+                return mediaType;
+            }
+            mediaTypes.add(mediaType);
+        }
+        return StringUtils.join(mediaTypes, ",");
+    }
+
+    /**
+     * Selects the Content-Type header of an operation like ApiClient.selectHeaderContentType of the generated client:
+     * the first JSON media type if any, otherwise the first one.
+     *
+     * @param consumes consumes mime-type list
+     * @param anyAsJson whether a list starting with "* / *" sends JSON, as the okhttp-gson client does
+     * @return the Content-Type header, JSON if the operation doesn't consume any mime-type
+     */
+    static String selectHeaderContentType(List<Map<String, String>> consumes, boolean anyAsJson) {
+        if (consumes == null || consumes.isEmpty() || (anyAsJson && "*/*".equals(consumes.get(0).get(MEDIA_TYPE)))) {
+            return "application/json";
+        }
+        for (Map<String, String> consume : consumes) {
+            if (isClientJsonMime(consume.get(MEDIA_TYPE))) {
+                return consume.get(MEDIA_TYPE);
+            }
+        }
+        return consumes.get(0).get(MEDIA_TYPE);
+    }
+
     private static boolean isMultipartType(List<Map<String, String>> consumes) {
         Map<String, String> firstType = consumes.get(0);
         if (firstType != null) {
@@ -467,6 +612,9 @@ public class JavaClientCodegen extends AbstractJavaCodegen
                 model.imports.add("JsonWriter");
                 model.imports.add("IOException");
             }
+            if (usesTypeAdapters() && property.isContainer) {
+                model.imports.add("TypeToken");
+            }
         } else { // enum class
             //Needed imports for Jackson's JsonCreator
             if(additionalProperties.containsKey("jackson")) {
@@ -492,9 +640,66 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             }
             additionalProperties.put("parent", modelInheritanceSupportInGson(allModels));
         }
+        if (usesTypeAdapters()) {
+            List<String> typeAdapters = new ArrayList<String>();
+            for (String name : allProcessedModels.keySet()) {
+                Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(name);
+                for (Object _mo : (List<Object>) models.get("models")) {
+                    Map<String, Object> mo = (Map<String, Object>) _mo;
+                    CodegenModel cm = (CodegenModel) mo.get("model");
+                    if (hasTypeAdapter(cm)) {
+                        addTypeAdapter(cm, (List<Map<String, String>>) models.get("imports"));
+                        typeAdapters.add(cm.classname);
+                    }
+                }
+            }
+            additionalProperties.put("gsonTypeAdapters", typeAdapters);
+        }
         return allProcessedModels;
     }
 
+    /**
+     * Plain models get a generated adapter, as well as models extending them. Enums already have one, while array
+     * and map models are handled by the collection adapters of Gson.
+     */
+    private static boolean hasTypeAdapter(CodegenModel cm) {
+        if (cm.isEnum || cm.isArrayModel) {
+            return false;
+        }
+        if (cm.parent == null) {
+            return true;
+        }
+        return cm.parentModel != null && hasTypeAdapter(cm.parentModel);
+    }
+
+    private void addTypeAdapter(CodegenModel cm, List<Map<String, String>> imports) {
+        if (cm.vendorExtensions == null) {
+            cm.vendorExtensions = new HashMap<String, Object>();
+        }
+        cm.vendorExtensions.put("x-gson-type-adapter", true);
+        // added here rather than per property, as models without properties of their own get an adapter too
+        List<String> names = new ArrayList<String>(Arrays.asList("Gson", "TypeAdapter", "JsonReader", "JsonToken", "JsonWriter", "IOException"));
+        // a model with a discriminator reads the subtype named by it
+        if (cm.discriminator != null && cm.children != null && !cm.children.isEmpty()) {
+            cm.vendorExtensions.put("x-gson-subtypes", true);
+            names.addAll(Arrays.asList("JsonElement", "JsonParseException", "JsonTreeReader"));
+        }
+        // kept sorted, as processModels lists them
+        Set<String> sorted = new TreeSet<String>();
+        for (Map<String, String> item : imports) {
+            sorted.add(item.get("import"));
+        }
+        for (String name : names) {
+            sorted.add(importMapping.get(name));
+        }
+        imports.clear();
+        for (String className : sorted) {
+            Map<String, String> item = new HashMap<String, String>();
+            item.put("import", className);
+            imports.add(item);
+        }
+    }
+
     @Override
     public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -587,7 +792,32 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         this.useRuntimeException = useRuntimeException;
     }
 
+    public void setGenerateTypeAdapters(boolean generateTypeAdapters) {
+        this.generateTypeAdapters = generateTypeAdapters;
+    }
+
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    public void setKeepAliveDuration(int keepAliveDuration) {
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public void setUseHttp2(boolean useHttp2) {
+        this.useHttp2 = useHttp2;
+    }
+
+    public void setUseResponseCompression(boolean useResponseCompression) {
+        this.useResponseCompression = useResponseCompression;
+    }
+
     final private static Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)application\\/json(;.*)?");
+    final private static Pattern CLIENT_JSON_MIME_PATTERN = Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
     final private static Pattern JSON_VENDOR_MIME_PATTERN = Pattern.compile("(?i)application\\/vnd.(.*)+json(;.*)?");
 
     /**
@@ -601,6 +831,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return mime != null && ( JSON_MIME_PATTERN.matcher(mime).matches());
     }
 
+    /**
+     * Check if the given MIME is a JSON MIME the way ApiClient.isJsonMime of the generated client does:
+     * vendor and structured syntax suffix types included, "* / *" as well.
+     */
+    static boolean isClientJsonMime(String mime) {
+        return mime != null && (CLIENT_JSON_MIME_PATTERN.matcher(mime).matches() || mime.equals("*/*"));
+    }
+
     /**
      * Check if the given MIME is a JSON Vendor MIME.
      * JSON MIME examples:
@@ -0,0 +1,379 @@
+package io.swagger.codegen.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single pass implementations of the naming helpers of {@link io.swagger.codegen.DefaultCodegen}, which are called
+ * several times for every model, property, parameter and operation name.
+ *
+ * The results are the same as those of the original regex based implementations. The few inputs on which those
+ * depended on regex replacement quirks (backslashes, {@code $} after a separator, line terminators) still go through
+ * them, with precompiled patterns.
+ *
+ * Results can also be memoized for the duration of a generation, see {@link #enableCache()}.
+ */
+public final class Naming {
+
+    private static final Pattern SLASH = Pattern.compile("\\/(.?)");
+    private static final Pattern CLASS_NAME = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern UNDERSCORE = Pattern.compile("(_)(.)");
+    private static final Pattern HYPHEN = Pattern.compile("(-)(.)");
+    private static final Pattern UNICODE_NON_WORD = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS);
+
+    private static final ThreadLocal<Cache> CACHE = new ThreadLocal<Cache>();
+
+    private Naming() {
+    }
+
+    /**
+     * Memoizes the results of the naming helpers on the current thread, until {@link #disableCache()}.
+     */
+    public static void enableCache() {
+        CACHE.set(new Cache());
+    }
+
+    public static void disableCache() {
+        CACHE.remove();
+    }
+
+    /**
+     * @return The cache of the current thread, or {@code null} if caching isn't enabled.
+     */
+    public static Cache getCache() {
+        return CACHE.get();
+    }
+
+    /**
+     * @see io.swagger.codegen.DefaultCodegen#camelize(String, boolean)
+     */
+    public static String camelize(String word, boolean lowercaseFirstLetter) {
+        Cache cache = CACHE.get();
+        if (cache == null) {
+            return doCamelize(word, lowercaseFirstLetter);
+        }
+        Map<String, String> results = lowercaseFirstLetter ? cache.lowerCamelized : cache.camelized;
+        String result = results.get(word);
+        if (result == null) {
+            cache.misses++;
+            result = doCamelize(word, lowercaseFirstLetter);
+            results.put(word, result);
+        } else {
+            cache.hits++;
+        }
+        return result;
+    }
+
+    /**
+     * @see io.swagger.codegen.DefaultCodegen#underscore(String)
+     */
+    public static String underscore(String word) {
+        Cache cache = CACHE.get();
+        if (cache == null) {
+            return doUnderscore(word);
+        }
+        String result = cache.underscored.get(word);
+        if (result == null) {
+            cache.misses++;
+            result = doUnderscore(word);
+            cache.underscored.put(word, result);
+        } else {
+            cache.hits++;
+        }
+        return result;
+    }
+
+    /**
+     * Replaces brackets, parentheses, dots, hyphens and spaces and removes the other non word characters.
+     *
+     * @see io.swagger.codegen.DefaultCodegen#sanitizeName(String)
+     * @param name The name, not {@code null}
+     * @param allowUnicodeIdentifiers Whether non ASCII letters and digits are kept
+     * @return The sanitized name
+     */
+    public static String sanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        Cache cache = CACHE.get();
+        if (cache == null) {
+            return doSanitizeName(name, allowUnicodeIdentifiers);
+        }
+        Map<String, String> results = allowUnicodeIdentifiers ? cache.unicodeSanitized : cache.sanitized;
+        String result = results.get(name);
+        if (result == null) {
+            cache.misses++;
+            result = doSanitizeName(name, allowUnicodeIdentifiers);
+            results.put(name, result);
+        } else {
+            cache.hits++;
+        }
+        return result;
+    }
+
+    static String doCamelize(String word, boolean lowercaseFirstLetter) {
+        String camelized = camelizeSinglePass(word);
+        if (camelized == null) {
+            camelized = camelizeWithPatterns(word);
+        }
+        if (lowercaseFirstLetter && camelized.length() > 0) {
+            camelized = camelized.substring(0, 1).toLowerCase() + camelized.substring(1);
+        }
+        return camelized;
+    }
+
+    /**
+     * @return The camelized word, or {@code null} if the word has to go through {@link #camelizeWithPatterns(String)}
+     */
+    private static String camelizeSinglePass(String word) {
+        final int length = word.length();
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c == '\\' || isLineTerminator(c) || (c == '/' && i + 1 < length && word.charAt(i + 1) == '$')) {
+                return null;
+            }
+        }
+
+        // slashes and dots are package separators: remove them and uppercase the first letter of each part
+        StringBuilder sb = new StringBuilder(length);
+        boolean partStart = true;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+            } else {
+                sb.append(partStart ? Character.toUpperCase(c) : c);
+                partStart = false;
+            }
+        }
+
+        // uppercase the class name, i.e. the first word character
+        for (int i = 0; i < sb.length(); i++) {
+            char c = sb.charAt(i);
+            if (isWordChar(c)) {
+                String upperCase = String.valueOf(c).toUpperCase();
+                if (upperCase.length() == 1) {
+                    sb.setCharAt(i, upperCase.charAt(0));
+                } else {
+                    sb.replace(i, i + 1, upperCase);
+                }
+                break;
+            }
+        }
+
+        // remove underscores, uppercasing the next character (underscore_case to CamelCase)
+        StringBuilder result = new StringBuilder(sb.length());
+        int i = 0;
+        while (i < sb.length()) {
+            char c = sb.charAt(i);
+            if (c != '_' || i + 1 == sb.length()) {
+                result.append(c);
+                i++;
+                continue;
+            }
+            int next = Character.charCount(Character.codePointAt(sb, i + 1));
+            String original = sb.substring(i + 1, i + 1 + next);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                // only the underscore is removed, the next character may be an underscore itself
+                i++;
+            } else {
+                result.append(upperCase);
+                i += 1 + next;
+            }
+        }
+
+        // remove hyphens, uppercasing the next character (hyphen-case to CamelCase)
+        sb.setLength(0);
+        i = 0;
+        while (i < result.length()) {
+            char c = result.charAt(i);
+            if (c != '-' || i + 1 == result.length()) {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            char following = result.charAt(i + 1);
+            if (following == '-') {
+                // "--" is replaced by "-", which applies to the next character in turn
+                i++;
+                continue;
+            }
+            if (following == '$') {
+                return null;
+            }
+            int next = Character.charCount(Character.codePointAt(result, i + 1));
+            sb.append(result.substring(i + 1, i + 1 + next).toUpperCase());
+            i += 1 + next;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The original implementation, for the words {@link #camelizeSinglePass(String)} doesn't handle.
+     */
+    private static String camelizeWithPatterns(String word) {
+        // Replace all slashes with dots (package separator)
+        Matcher m = SLASH.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1));
+            m = SLASH.matcher(word);
+        }
+
+        // case out dots
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = SLASH.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = SLASH.matcher(word);
+        }
+
+        // Uppercase the class name.
+        m = CLASS_NAME.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        // Remove all underscores (underscore_case to camelCase)
+        m = UNDERSCORE.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = UNDERSCORE.matcher(word);
+        }
+
+        // Remove all hyphens (hyphen-case to camelCase)
+        m = HYPHEN.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = HYPHEN.matcher(word);
+        }
+        return word;
+    }
+
+    static String doUnderscore(String word) {
+        final int length = word.length();
+        StringBuilder sb = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            switch (c) {
+                case '.':
+                    // package separator
+                    sb.append('/');
+                    break;
+                case '$':
+                    // inner classes
+                    sb.append("__");
+                    break;
+                case '-':
+                case ' ':
+                    sb.append('_');
+                    break;
+                default:
+                    if (isAsciiUpperCase(c) && sb.length() > 0) {
+                        char previous = sb.charAt(sb.length() - 1);
+                        // "aB" => "a_B", and "ABc" => "A_Bc" (end of an acronym)
+                        if (isAsciiLowerCase(previous) || isAsciiDigit(previous)
+                                || (isAsciiUpperCase(previous) && i + 1 < length && isAsciiLowerCase(word.charAt(i + 1)))) {
+                            sb.append('_');
+                        }
+                    }
+                    sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase();
+    }
+
+    static String doSanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        final int length = name.length();
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            switch (c) {
+                case '[':
+                    if (i + 1 < length && name.charAt(i + 1) == ']') {
+                        // input[] => input
+                        i++;
+                    } else {
+                        // input[a][b] => input_a_b
+                        sb.append('_');
+                    }
+                    break;
+                case '(':
+                case '.':
+                case '-':
+                case ' ':
+                    // input(a)(b) => input_a_b, input.name-and age => input_name_and_age
+                    sb.append('_');
+                    break;
+                case ']':
+                case ')':
+                    break;
+                default:
+                    // remove everything else other than word, number and _
+                    if (allowUnicodeIdentifiers || isWordChar(c)) {
+                        sb.append(c);
+                    }
+            }
+        }
+        if (allowUnicodeIdentifiers) {
+            return UNICODE_NON_WORD.matcher(sb).replaceAll("");
+        }
+        return sb.toString();
+    }
+
+    private static boolean isWordChar(char c) {
+        return isAsciiLowerCase(c) || isAsciiUpperCase(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    private static boolean isAsciiLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isAsciiUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Memoized results of the naming helpers.
+     */
+    public static class Cache {
+        private final Map<String, String> camelized = new HashMap<String, String>();
+        private final Map<String, String> lowerCamelized = new HashMap<String, String>();
+        private final Map<String, String> underscored = new HashMap<String, String>();
+        private final Map<String, String> sanitized = new HashMap<String, String>();
+        private final Map<String, String> unicodeSanitized = new HashMap<String, String>();
+        private long hits;
+        private long misses;
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+    }
+}
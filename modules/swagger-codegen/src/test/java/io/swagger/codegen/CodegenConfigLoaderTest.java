@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Set;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
 public class CodegenConfigLoaderTest {
@@ -55,4 +57,30 @@ public class CodegenConfigLoaderTest {
 
 
     }
+
+    @Test(dataProvider = "codegenConfig")
+    public void testLoadReturnsNewInstances(CodegenConfig codegenConfig) throws Exception {
+        final CodegenConfig first = CodegenConfigLoader.forName(codegenConfig.getName());
+        final CodegenConfig second = CodegenConfigLoader.forName(codegenConfig.getName());
+
+        assertNotSame(first, second);
+        assertTrue(CodegenConfigLoader.getNames().contains(codegenConfig.getName()));
+    }
+
+    @Test
+    public void testGetAll() throws Exception {
+        List<CodegenConfig> first = CodegenConfigLoader.getAll();
+        List<CodegenConfig> second = CodegenConfigLoader.getAll();
+
+        assertEquals(first.size(), CodegenConfigLoader.getNames().size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getClass(), second.get(i).getClass());
+            assertNotSame(first.get(i), second.get(i));
+        }
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void testLoadUnknownName() throws Exception {
+        CodegenConfigLoader.forName("no-such-language");
+    }
 }
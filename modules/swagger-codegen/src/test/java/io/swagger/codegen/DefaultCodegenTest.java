@@ -1,5 +1,7 @@
 package io.swagger.codegen;
 
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -33,4 +35,40 @@ public class DefaultCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.HIDE_GENERATION_TIMESTAMP), Boolean.FALSE);
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
+
+    @Test
+    public void testTypeResolutionCache() throws Exception {
+        final int[] typeDeclarations = new int[1];
+        final DefaultCodegen codegen = new DefaultCodegen() {
+            @Override
+            public String getTypeDeclaration(Property p) {
+                typeDeclarations[0]++;
+                return super.getTypeDeclaration(p);
+            }
+        };
+        final RefProperty pet = new RefProperty("Pet");
+
+        final CodegenProperty uncached = codegen.fromProperty("pet", pet);
+        codegen.fromProperty("pet", pet);
+        Assert.assertEquals(typeDeclarations[0], 2);
+
+        final TypeResolutionCache cache = new TypeResolutionCache();
+        codegen.setTypeResolutionCache(cache);
+        typeDeclarations[0] = 0;
+        final CodegenProperty first = codegen.fromProperty("pet", pet);
+        final CodegenProperty second = codegen.fromProperty("body", pet);
+        Assert.assertEquals(typeDeclarations[0], 1);
+        Assert.assertEquals(first.datatype, uncached.datatype);
+        Assert.assertEquals(second.datatype, uncached.datatype);
+        Assert.assertEquals(second.baseType, uncached.baseType);
+        Assert.assertEquals(second.defaultValue, uncached.defaultValue);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getMisses(), 4);
+        Assert.assertEquals(cache.getHits(), 4);
+
+        // another instance is resolved on its own, even with the same contents
+        codegen.fromProperty("pet", new RefProperty("Pet"));
+        Assert.assertEquals(typeDeclarations[0], 2);
+        Assert.assertEquals(cache.size(), 2);
+    }
 }
@@ -1,24 +1,35 @@
 package io.swagger.codegen;
 
+import com.google.gson.Gson;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
 import io.swagger.codegen.config.CodegenConfigurator;
 import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.languages.JavascriptClientCodegen;
 import io.swagger.codegen.languages.SpringCodegen;
+import io.swagger.codegen.languages.StaticHtmlGenerator;
+import io.swagger.annotations.ApiModel;
 import io.swagger.models.ExternalDocs;
 import io.swagger.models.Swagger;
 import io.swagger.models.Tag;
 import io.swagger.parser.SwaggerParser;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.rules.TemporaryFolder;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static io.swagger.codegen.CodegenConstants.TEMPLATE_DIR;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -33,6 +44,7 @@ public class DefaultGeneratorTest {
     private static final String TEST_SKIP_OVERWRITE = "testSkipOverwrite";
     private static final String POM_FILE = "pom.xml";
     private static final String MODEL_ORDER_FILE = "/src/main/java/io/swagger/client/model/Order.java";
+    private static final String MANIFEST_MODIFICATION_TIME = "(?m)^(\\w+ \\d+) \\d+ ";
     private static final String API_CLIENT_FILE = "/src/main/java/io/swagger/client/ApiClient.java";
     private static final String BUILD_GRADLE_FILE = "build.gradle";
 
@@ -310,6 +322,508 @@ public class DefaultGeneratorTest {
         assertFalse(containsSearchStrings(defaultApi,"RelativeRefnesteddirectorydefinitionsphotosYmldefinitionsPhoto"));
     }
 
+    @Test
+    public void testTemplateCacheReusedAcrossFilesAndRuns() throws Exception {
+        final File output = folder.getRoot();
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+
+        TemplateCache templateCache = new TemplateCache();
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setTemplateCache(templateCache);
+        generator.opts(clientOptInput).generate();
+
+        // model.mustache and friends are compiled once and reused for every other model
+        assertTrue(templateCache.getHits() > 0);
+        final long misses = templateCache.getMisses();
+        assertEquals(templateCache.size(), misses);
+
+        // a second run sharing the cache doesn't compile anything
+        DefaultGenerator secondGenerator = new DefaultGenerator();
+        secondGenerator.setTemplateCache(templateCache);
+        secondGenerator.opts(clientOptInput).generate();
+        assertEquals(templateCache.getMisses(), misses);
+        assertTrue(new File(output, MODEL_ORDER_FILE).exists());
+    }
+
+    @Test
+    public void testSharedTemplateCacheReloadsEditedPartials() throws Exception {
+        final File output = folder.newFolder("output");
+        final File templateDir = folder.newFolder("templates");
+        // model.mustache stays the embedded one, only its licenseInfo partial is overridden
+        final File partial = new File(templateDir, "licenseInfo.mustache");
+        FileUtils.writeStringToFile(partial, "// first revision", UTF_8);
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        Map<String, String> generatorProperties = new HashMap<>();
+        generatorProperties.put(CodegenConstants.MODELS, "Order");
+        generatorProperties.put(CodegenConstants.MODEL_TESTS, "false");
+        generatorProperties.put(CodegenConstants.MODEL_DOCS, "false");
+        TemplateCache templateCache = new TemplateCache();
+
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(TEMPLATE_DIR, templateDir.getAbsolutePath());
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setTemplateCache(templateCache);
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generatorProperties(generatorProperties)).generate();
+        final File order = new File(output, MODEL_ORDER_FILE);
+        assertTrue(FileUtils.readFileToString(order, UTF_8).startsWith("// first revision"));
+
+        FileUtils.writeStringToFile(partial, "// second revision", UTF_8);
+        assertTrue(partial.setLastModified(partial.lastModified() + 10000));
+
+        codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(TEMPLATE_DIR, templateDir.getAbsolutePath());
+        generator = new DefaultGenerator();
+        generator.setTemplateCache(templateCache);
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generatorProperties(generatorProperties)).generate();
+        assertTrue(FileUtils.readFileToString(order, UTF_8).startsWith("// second revision"));
+        // the outdated template has been replaced, not kept next to the new one
+        assertEquals(templateCache.size(), 1);
+    }
+
+    @Test
+    public void testPartialsAreReadThroughAnOverriddenTemplateReader() throws Exception {
+        final File output = folder.getRoot();
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        Map<String, String> generatorProperties = new HashMap<>();
+        generatorProperties.put(CodegenConstants.MODELS, "Order");
+        generatorProperties.put(CodegenConstants.MODEL_TESTS, "false");
+        generatorProperties.put(CodegenConstants.MODEL_DOCS, "false");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        TemplateCache templateCache = new TemplateCache();
+
+        DefaultGenerator generator = new DefaultGenerator() {
+            @Override
+            public Reader getTemplateReader(String name) {
+                if (name.endsWith("licenseInfo.mustache")) {
+                    return new StringReader("// licensed by the subclass");
+                }
+                return super.getTemplateReader(name);
+            }
+        };
+        generator.setTemplateCache(templateCache);
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generatorProperties(generatorProperties)).generate();
+
+        final File order = new File(output, MODEL_ORDER_FILE);
+        assertTrue(FileUtils.readFileToString(order, UTF_8).startsWith("// licensed by the subclass"));
+        // templates bound to the generator aren't shared with other generators
+        assertEquals(templateCache.size(), 0);
+    }
+
+    @Test
+    public void testGeneratorPropertiesTakePrecedenceOverSystemProperties() throws Exception {
+        final File output = folder.getRoot();
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+
+        Map<String, String> generatorProperties = new HashMap<>();
+        generatorProperties.put(CodegenConstants.MODELS, "Order");
+        generatorProperties.put(CodegenConstants.MODEL_TESTS, "false");
+        generatorProperties.put(CodegenConstants.MODEL_DOCS, "false");
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger)
+                .config(codegenConfig).generatorProperties(generatorProperties);
+
+        final String modelsBackup = System.setProperty(CodegenConstants.MODELS, "Pet");
+        try {
+            new DefaultGenerator().opts(clientOptInput).generate();
+        } finally {
+            if (modelsBackup != null) {
+                System.setProperty(CodegenConstants.MODELS, modelsBackup);
+            } else {
+                System.clearProperty(CodegenConstants.MODELS);
+            }
+        }
+
+        assertTrue(new File(output, MODEL_ORDER_FILE).exists());
+        assertFalse(new File(output, "/src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(output, "/src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertFalse(new File(output, API_CLIENT_FILE).exists());
+    }
+
+    @Test
+    public void testGsonTypeAdapters() throws Exception {
+        final File output = folder.getRoot();
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "true");
+
+        Map<String, String> generatorProperties = new HashMap<>();
+        generatorProperties.put(CodegenConstants.MODELS, "");
+        generatorProperties.put(CodegenConstants.MODEL_TESTS, "false");
+        generatorProperties.put(CodegenConstants.MODEL_DOCS, "false");
+        generatorProperties.put(CodegenConstants.SUPPORTING_FILES, "JSON.java");
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger)
+                .config(codegenConfig).generatorProperties(generatorProperties);
+
+        new DefaultGenerator().opts(clientOptInput).generate();
+
+        final String modelFolder = "/src/main/java/io/swagger/client/model/";
+        String pet = FileUtils.readFileToString(new File(output, modelFolder + "Pet.java"), UTF_8);
+        assertTrue(pet.contains("public static class GsonAdapter extends TypeAdapter<Pet> {"));
+        assertTrue(pet.contains("tagsAdapter = gson.getAdapter(new TypeToken<List<Tag>>() {});"));
+        assertTrue(pet.contains("case \"photoUrls\":"));
+        assertTrue(pet.contains("import com.google.gson.stream.JsonToken;"));
+
+        String animal = FileUtils.readFileToString(new File(output, modelFolder + "Animal.java"), UTF_8);
+        assertTrue(animal.contains("tree.getAsJsonObject().get(\"className\")"));
+        assertTrue(animal.contains("return gson.getAdapter(Cat.class).fromJsonTree(tree);"));
+        String cat = FileUtils.readFileToString(new File(output, modelFolder + "Cat.java"), UTF_8);
+        assertTrue(cat.contains("superclassAdapter = new Animal.GsonAdapter(gson);"));
+        assertTrue(cat.contains("return superclassAdapter.readField(in, name, value);"));
+
+        // enums have their own adapter, array models use the collection one of Gson
+        assertFalse(FileUtils.readFileToString(new File(output, modelFolder + "EnumClass.java"), UTF_8).contains("GsonAdapter"));
+        assertFalse(FileUtils.readFileToString(new File(output, modelFolder + "AnimalFarm.java"), UTF_8).contains("GsonAdapter"));
+
+        String json = FileUtils.readFileToString(new File(output, "/src/main/java/io/swagger/client/JSON.java"), UTF_8);
+        assertTrue(json.contains("builder.registerTypeAdapterFactory(new ModelTypeAdapterFactory());"));
+        assertTrue(json.contains("return (TypeAdapter<T>) new Pet.GsonAdapter(gson);"));
+        assertFalse(json.contains("new AnimalFarm.GsonAdapter(gson)"));
+    }
+
+    @Test
+    public void testGsonTypeAdaptersCompile() throws Exception {
+        final File output = folder.newFolder("output");
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/gsonTypeAdapters.yaml");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "true");
+
+        Map<String, String> generatorProperties = new HashMap<>();
+        generatorProperties.put(CodegenConstants.MODELS, "");
+        generatorProperties.put(CodegenConstants.MODEL_TESTS, "false");
+        generatorProperties.put(CodegenConstants.MODEL_DOCS, "false");
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger)
+                .config(codegenConfig).generatorProperties(generatorProperties)).generate();
+
+        // models without properties of their own still get an adapter
+        final File modelDir = new File(output, "src/main/java/io/swagger/client/model");
+        assertTrue(FileUtils.readFileToString(new File(modelDir, "Dog.java"), UTF_8).contains("class GsonAdapter"));
+        assertTrue(FileUtils.readFileToString(new File(modelDir, "Empty.java"), UTF_8).contains("class GsonAdapter"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "the generated models are compiled, run the test on a JDK");
+        List<String> args = new ArrayList<>();
+        args.add("-proc:none");
+        args.add("-d");
+        args.add(folder.newFolder("classes").getAbsolutePath());
+        args.add("-cp");
+        args.add(classPathOf(Gson.class) + File.pathSeparator + classPathOf(ApiModel.class));
+        for (File source : FileUtils.listFiles(modelDir, new String[]{"java"}, false)) {
+            args.add(source.getAbsolutePath());
+        }
+        assertEquals(compiler.run(null, null, null, args.toArray(new String[args.size()])), 0);
+    }
+
+    private static String classPathOf(Class<?> type) throws Exception {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath();
+    }
+
+    @Test
+    public void testParallelRenderingIsDeterministic() throws Exception {
+        final File serialOutput = folder.newFolder("serial");
+        final File parallelOutput = folder.newFolder("parallel");
+
+        List<File> serialFiles = generatePetstore(serialOutput, 1);
+        List<File> parallelFiles = generatePetstore(parallelOutput, 4);
+
+        assertEquals(parallelFiles.size(), serialFiles.size());
+        for (int i = 0; i < serialFiles.size(); i++) {
+            String serialPath = serialOutput.toURI().relativize(serialFiles.get(i).toURI()).getPath();
+            String parallelPath = parallelOutput.toURI().relativize(parallelFiles.get(i).toURI()).getPath();
+            assertEquals(parallelPath, serialPath);
+        }
+        assertEquals(FileUtils.readFileToString(new File(parallelOutput, MODEL_ORDER_FILE), UTF_8),
+                FileUtils.readFileToString(new File(serialOutput, MODEL_ORDER_FILE), UTF_8));
+    }
+
+    @Test
+    public void testUnchangedFilesAreNotRewritten() throws Exception {
+        final File output = folder.getRoot();
+        generatePetstore(output, 1);
+
+        final File order = new File(output, MODEL_ORDER_FILE);
+        final File manifest = new File(output, OutputManifest.MANIFEST_FILE);
+        assertTrue(manifest.exists());
+        assertTrue(FileUtils.readFileToString(manifest, UTF_8).contains("src/main/java/io/swagger/client/model/Order.java"));
+
+        final long lastModified = 1000000000000L;
+        assertTrue(order.setLastModified(lastModified));
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)).generate();
+
+        assertEquals(order.lastModified(), lastModified);
+        assertTrue(generator.outputManifest.getUnchanged() > 0);
+        assertEquals(generator.outputManifest.getRemoved(), 0);
+    }
+
+    @Test
+    public void testAtomicWritesProduceTheSameFiles() throws Exception {
+        final File directOutput = folder.newFolder("direct");
+        final File atomicOutput = folder.newFolder("atomic");
+
+        List<File> directFiles = generatePetstore(directOutput, 1);
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(atomicOutput.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).atomicWrites(true);
+        List<File> atomicFiles = new DefaultGenerator().opts(clientOptInput).generate();
+
+        assertEquals(relativePaths(atomicOutput, atomicFiles), relativePaths(directOutput, directFiles));
+        for (File file : FileUtils.listFiles(atomicOutput, null, true)) {
+            assertFalse(file.getName().endsWith(".tmp"), file.getPath());
+        }
+        assertEquals(FileUtils.readFileToString(new File(atomicOutput, MODEL_ORDER_FILE), UTF_8),
+                FileUtils.readFileToString(new File(directOutput, MODEL_ORDER_FILE), UTF_8));
+        // same hashes and sizes
+        assertEquals(FileUtils.readFileToString(new File(atomicOutput, OutputManifest.MANIFEST_FILE), UTF_8).replaceAll(MANIFEST_MODIFICATION_TIME, "$1 "),
+                FileUtils.readFileToString(new File(directOutput, OutputManifest.MANIFEST_FILE), UTF_8).replaceAll(MANIFEST_MODIFICATION_TIME, "$1 "));
+    }
+
+    @Test
+    public void testZipOutputSinkProducesTheSameFiles() throws Exception {
+        final File diskOutput = folder.newFolder("disk");
+        final File zipOutput = folder.newFolder("zip");
+
+        List<File> diskFiles = generatePetstore(diskOutput, 1);
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(zipOutput.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        ByteArrayOutputStream bundle = new ByteArrayOutputStream();
+        ZipOutputSink zip = new ZipOutputSink(zipOutput, "petstore", bundle);
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setOutputSink(zip);
+        List<File> zipFiles = generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).threads(2)).generate();
+        zip.close();
+
+        assertEquals(zipOutput.list().length, 0);
+        Set<String> paths = relativePaths(diskOutput, diskFiles);
+        assertEquals(relativePaths(zipOutput, zipFiles), paths);
+        Set<String> entries = new HashSet<String>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bundle.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                String path = entry.getName().substring("petstore/".length());
+                entries.add(path);
+                assertEquals(IOUtils.toByteArray(in), FileUtils.readFileToByteArray(new File(diskOutput, path)), path);
+            }
+        }
+        assertEquals(entries, paths);
+    }
+
+    @Test
+    public void testFailedTemplateIsNotAddedToTheArchive() throws Exception {
+        final File output = folder.getRoot();
+        ZipOutputSink zip = new ZipOutputSink(output, null, new ByteArrayOutputStream());
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setOutputSink(zip);
+
+        Template template = Mustache.compiler().compile("partial content {{#broken}}{{/broken}}");
+        Map<String, Object> context = new HashMap<>();
+        context.put("broken", new Mustache.Lambda() {
+            @Override
+            public void execute(Template.Fragment frag, Writer out) {
+                throw new IllegalStateException("broken template");
+            }
+        });
+        try {
+            generator.writeTemplateToFile(new File(output, "Broken.java").getAbsolutePath(), template, context);
+            fail("the template should have failed");
+        } catch (RuntimeException e) {
+            // expected
+        }
+        assertEquals(zip.getEntries(), 0);
+        assertFalse(zip.exists(new File(output, "Broken.java")));
+    }
+
+    @Test
+    public void testFailedTemplateLeavesTheExistingFileUntouched() throws Exception {
+        final File output = folder.getRoot();
+        final File existing = new File(output, "Broken.java");
+        FileUtils.writeStringToFile(existing, "previous content", UTF_8);
+        DefaultGenerator generator = new DefaultGenerator();
+
+        Template template = Mustache.compiler().compile("partial content {{#broken}}{{/broken}}");
+        Map<String, Object> context = new HashMap<>();
+        context.put("broken", new Mustache.Lambda() {
+            @Override
+            public void execute(Template.Fragment frag, Writer out) {
+                throw new IllegalStateException("broken template");
+            }
+        });
+        try {
+            generator.writeTemplateToFile(existing.getAbsolutePath(), template, context);
+            fail("the template should have failed");
+        } catch (RuntimeException e) {
+            // expected
+        }
+        assertEquals(FileUtils.readFileToString(existing, UTF_8), "previous content");
+        assertEquals(output.list(), new String[]{"Broken.java"});
+    }
+
+    @Test
+    public void testStaleFilesAreRemoved() throws Exception {
+        final File output = folder.getRoot();
+        generatePetstore(output, 1);
+        final File order = new File(output, MODEL_ORDER_FILE);
+        assertTrue(order.exists());
+
+        // Order is no longer generated once it's mapped to an existing class
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        codegenConfig.importMapping().put("Order", "com.example.Order");
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)).generate();
+
+        assertFalse(order.exists());
+        assertTrue(generator.outputManifest.getRemoved() > 0);
+        assertFalse(FileUtils.readFileToString(new File(output, OutputManifest.MANIFEST_FILE), UTF_8).contains("model/Order.java"));
+    }
+
+    @Test
+    public void testIncrementalGenerationOnlyRendersAffectedFiles() throws Exception {
+        final File output = folder.getRoot();
+        List<File> files = generatePetstoreIncrementally(output, null);
+        assertTrue(new File(output, SpecFingerprint.FINGERPRINT_FILE).exists());
+        assertTrue(relativePaths(output, files).contains("src/main/java/io/swagger/client/ApiClient.java"));
+
+        // nothing changed
+        files = generatePetstoreIncrementally(output, null);
+        assertTrue(files.isEmpty());
+
+        // Pet refers to Category, and the pet api to Pet
+        final File apiClient = new File(output, "src/main/java/io/swagger/client/ApiClient.java");
+        assertTrue(apiClient.setLastModified(0));
+        files = generatePetstoreIncrementally(output, "Category");
+        Set<String> generated = relativePaths(output, files);
+        assertTrue(generated.contains("src/main/java/io/swagger/client/model/Category.java"));
+        assertTrue(generated.contains("src/main/java/io/swagger/client/model/Pet.java"));
+        assertTrue(generated.contains("src/main/java/io/swagger/client/api/PetApi.java"));
+        assertFalse(generated.contains("src/main/java/io/swagger/client/model/Order.java"));
+        assertFalse(generated.contains("src/main/java/io/swagger/client/api/StoreApi.java"));
+        // supporting files are rendered again, but only written when they changed
+        assertEquals(apiClient.lastModified(), 0);
+        assertTrue(FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/model/Category.java"), UTF_8)
+                .contains("changed description"));
+
+        // files of the previous runs are kept in the manifest
+        assertTrue(FileUtils.readFileToString(new File(output, OutputManifest.MANIFEST_FILE), UTF_8).contains("model/Order.java"));
+        assertTrue(new File(output, MODEL_ORDER_FILE).exists());
+    }
+
+    @Test
+    public void testIncrementalApisMatchFullGeneration() throws Exception {
+        final File incrementalOutput = folder.newFolder("incremental");
+        final File fullOutput = folder.newFolder("full");
+        generateJavascriptPetstore(incrementalOutput, false, true);
+        // the api tests render the model returned by each operation, they aren't overwritten though
+        final String storeApiTest = "test/api/StoreApi.spec.js";
+        assertTrue(new File(incrementalOutput, storeApiTest).delete());
+
+        Set<String> generated = relativePaths(incrementalOutput, generateJavascriptPetstore(incrementalOutput, true, true));
+        generateJavascriptPetstore(fullOutput, true, false);
+
+        assertTrue(generated.contains("src/api/StoreApi.js"));
+        assertTrue(generated.contains(storeApiTest));
+        assertFalse(generated.contains("src/model/Order.js"));
+        for (String path : generated) {
+            assertEquals(FileUtils.readFileToString(new File(incrementalOutput, path), UTF_8),
+                    FileUtils.readFileToString(new File(fullOutput, path), UTF_8), path);
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationRendersSupportingFilesAgain() throws Exception {
+        final File output = folder.getRoot();
+        generateHtmlPetstoreIncrementally(output, null);
+        final File index = new File(output, "index.html");
+        assertFalse(FileUtils.readFileToString(index, UTF_8).contains("changed description"));
+
+        generateHtmlPetstoreIncrementally(output, "Category");
+        assertTrue(FileUtils.readFileToString(index, UTF_8).contains("changed description"));
+    }
+
+    private static List<File> generateHtmlPetstoreIncrementally(File output, String changedDefinition) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        if (changedDefinition != null) {
+            swagger.getDefinitions().get(changedDefinition).setDescription("changed description");
+        }
+        CodegenConfig codegenConfig = new StaticHtmlGenerator();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).incremental(true);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
+    private static List<File> generateJavascriptPetstore(File output, boolean changeOperation, boolean incremental) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        if (changeOperation) {
+            swagger.getPath("/store/order/{orderId}").getGet().setSummary("changed summary");
+        }
+        CodegenConfig codegenConfig = new JavascriptClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).incremental(incremental);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
+    private static List<File> generatePetstoreIncrementally(File output, String changedDefinition) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        if (changedDefinition != null) {
+            swagger.getDefinitions().get(changedDefinition).setDescription("changed description");
+        }
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).incremental(true);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
+    private static Set<String> relativePaths(File output, List<File> files) {
+        Set<String> paths = new HashSet<String>();
+        for (File file : files) {
+            paths.add(output.toURI().relativize(file.getAbsoluteFile().toURI()).getPath());
+        }
+        return paths;
+    }
+
+    private static List<File> generatePetstore(File output, int threads) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).threads(threads);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
     private boolean containsSearchStrings(File file, String ...search) throws IOException {
         for (String line : Files.readAllLines(file.toPath(), Charset.defaultCharset())) {
             if (StringUtils.containsAny(line, search)) {
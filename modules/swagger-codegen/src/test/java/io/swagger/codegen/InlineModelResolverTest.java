@@ -128,6 +128,39 @@ public class InlineModelResolverTest {
         assertNull(duplicateAddress);
     }        
 
+    @Test
+    public void testModelSignatureMatchesJsonEquality() {
+        Model model = new ModelImpl()
+                .description("an address")
+                .property("street", new StringProperty())
+                .property("city", new StringProperty());
+        Model same = new ModelImpl()
+                .description("an address")
+                .property("street", new StringProperty())
+                .property("city", new StringProperty());
+        Model reordered = new ModelImpl()
+                .description("an address")
+                .property("city", new StringProperty())
+                .property("street", new StringProperty());
+        Model described = new ModelImpl()
+                .description("another address")
+                .property("street", new StringProperty())
+                .property("city", new StringProperty());
+
+        assertEquals(Json.pretty(model), Json.pretty(same));
+        assertEquals(ModelSignature.of(model), ModelSignature.of(same));
+        assertEquals(ModelSignature.of(model).hashCode(), ModelSignature.of(same).hashCode());
+        assertFalse(Json.pretty(model).equals(Json.pretty(reordered)));
+        assertFalse(ModelSignature.of(model).equals(ModelSignature.of(reordered)));
+        assertFalse(ModelSignature.of(model).equals(ModelSignature.of(described)));
+
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.setSkipMatches(false);
+        resolver.addGenerated("Address", model);
+        assertEquals("Address", resolver.matchGenerated(same));
+        assertNull(resolver.matchGenerated(reordered));
+    }
+
     @Test
     public void resolveInlineModel2DifferentInnerModelsWIthSameTitle() throws Exception {
         Swagger swagger = new Swagger();
@@ -53,18 +53,18 @@ public class CodegenConfiguratorTest {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
+        new Expectations(System.class) {{
+            System.setProperty(anyString, anyString);
+            times = 0;
         }};
 
-        setupAndRunGenericTest(configurator);
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        final Map<String, String> generatorProperties = clientOptInput.getGeneratorProperties();
+        assertValueInMap(generatorProperties, "debugSwagger", "");
+        assertValueInMap(generatorProperties, "debugModels", "");
+        assertValueInMap(generatorProperties, "debugOperations", "");
+        assertValueInMap(generatorProperties, "debugSupportingFiles", "");
     }
 
     @Test
@@ -95,6 +95,26 @@ public class CodegenConfiguratorTest {
         setupAndRunGenericTest(configurator);
     }
 
+    @SuppressWarnings("unused")
+    @Test
+    public void testGeneratorProperties() throws Exception {
+
+        configurator.addSystemProperty(CodegenConstants.MODELS, "Pet")
+                .addSystemProperty("hello", "world");
+
+        new Expectations(System.class) {{
+            System.setProperty("hello", "world");
+            times = 1;
+            System.setProperty(CodegenConstants.MODELS, anyString);
+            times = 0;
+        }};
+
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        assertValueInMap(clientOptInput.getGeneratorProperties(), CodegenConstants.MODELS, "Pet");
+        assertFalse(clientOptInput.getGeneratorProperties().containsKey("hello"));
+    }
+
     @Test
     public void testSkipOverwrite() throws Exception {
         CodegenConfigurator configurator1 = new CodegenConfigurator();
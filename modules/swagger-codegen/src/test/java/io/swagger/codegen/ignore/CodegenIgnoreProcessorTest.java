@@ -152,7 +152,14 @@ public class CodegenIgnoreProcessorTest {
                 new CodegenIgnoreProcessorTest("docs/1/2/3/SomeFile.txt", "**/*.{java,md}", "A file when matching against grouped subpatterns for extension when non-matching should be allowed.").allowed(),
 
                 new CodegenIgnoreProcessorTest("docs/1/2/3/foo.c", "**/*.?", "A file when matching against required single-character extension when matching should be ignored.").ignored(),
-                new CodegenIgnoreProcessorTest("docs/1/2/3/foo.cc", "**/*.?", "A file when matching against required single-character extension when non-matching should be allowed.").allowed()
+                new CodegenIgnoreProcessorTest("docs/1/2/3/foo.cc", "**/*.?", "A file when matching against required single-character extension when non-matching should be allowed.").allowed(),
+
+                // Rules only evaluated in the directories they may match
+                new CodegenIgnoreProcessorTest("src/main/build.sh", "src/main/*.sh", "A file when matching a rule of its directory should be ignored.").ignored(),
+                new CodegenIgnoreProcessorTest("src/test/build.sh", "src/main/*.sh", "A file when matching a rule of another directory should be allowed.").allowed(),
+                new CodegenIgnoreProcessorTest("src/main/build.sh", "src/main/", "A file when in an ignored directory should be ignored.").ignored(),
+                new CodegenIgnoreProcessorTest("src/mainly/build.sh", "src/main/", "A file when in a directory with the prefix of an ignored directory should be allowed.").allowed(),
+                new CodegenIgnoreProcessorTest("docs/api/README.md", "**/*.md\n!docs/**/README.md", "A pattern negating a previous ignore FILE rule in a nested directory should be allowed.").allowed()
 
         };
     }
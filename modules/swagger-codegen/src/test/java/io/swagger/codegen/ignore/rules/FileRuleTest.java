@@ -106,4 +106,32 @@ public class FileRuleTest {
         // Assert
         assertFalse(actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMayMatch() throws Exception {
+        Rule rule = Rule.create("docs/**/*.md");
+
+        assertFalse(rule.mayMatchIn(""));
+        assertTrue(rule.mayMatchIn("docs/"));
+        assertTrue(rule.mayMatchIn("docs/1/2/"));
+        assertFalse(rule.mayMatchIn("src/"));
+        assertFalse(rule.mayMatchIn("src/docs/"));
+
+        assertTrue(rule.mayMatch("docs/1/README.md"));
+        assertFalse(rule.mayMatch("docs/1/README.txt"));
+        assertFalse(rule.mayMatch("src/README.md"));
+    }
+
+    @Test
+    public void testMayMatchLiteral() throws Exception {
+        Rule rule = Rule.create("src/main/build.sh");
+
+        assertFalse(rule.mayMatchIn("src/"));
+        assertTrue(rule.mayMatchIn("src/main/"));
+        assertFalse(rule.mayMatchIn("src/main/java/"));
+        assertFalse(rule.mayMatchIn("src/test/"));
+
+        assertTrue(rule.mayMatch("src/main/build.sh"));
+        assertFalse(rule.mayMatch("src/main/build.shx"));
+    }
+}
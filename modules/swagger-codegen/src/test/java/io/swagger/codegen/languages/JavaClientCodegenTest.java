@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableMap;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.CodegenOperation;
 import io.swagger.codegen.CodegenParameter;
+import io.swagger.codegen.SupportingFile;
 
 public class JavaClientCodegenTest {
 
@@ -84,6 +85,49 @@ public class JavaClientCodegenTest {
         Assert.assertNull(priContentTypes.get(3).get("hasMore"));
     }
 
+    @Test
+    public void testHeaderSelection() {
+        Assert.assertNull(JavaClientCodegen.selectHeaderAccept(null));
+        Assert.assertEquals(JavaClientCodegen.selectHeaderAccept(mediaTypes(XML_MIME_TYPE, JSON_MIME_TYPE)), JSON_MIME_TYPE);
+        Assert.assertEquals(JavaClientCodegen.selectHeaderAccept(mediaTypes(XML_MIME_TYPE, VENDOR_MIME_TYPE)), VENDOR_MIME_TYPE);
+        Assert.assertEquals(JavaClientCodegen.selectHeaderAccept(mediaTypes(XML_MIME_TYPE, TEXT_MIME_TYPE)), "application/xml,text/plain");
+
+        Assert.assertEquals(JavaClientCodegen.selectHeaderContentType(null, true), JSON_MIME_TYPE);
+        Assert.assertEquals(JavaClientCodegen.selectHeaderContentType(mediaTypes(XML_MIME_TYPE, JSON_MIME_TYPE), false), JSON_MIME_TYPE);
+        Assert.assertEquals(JavaClientCodegen.selectHeaderContentType(mediaTypes(XML_MIME_TYPE, TEXT_MIME_TYPE), false), XML_MIME_TYPE);
+        Assert.assertEquals(JavaClientCodegen.selectHeaderContentType(mediaTypes("*/*"), true), JSON_MIME_TYPE);
+        Assert.assertEquals(JavaClientCodegen.selectHeaderContentType(mediaTypes("*/*"), false), "*/*");
+    }
+
+    @Test
+    public void testHeadersAreSelectedAtGenerationTime() {
+        JavaClientCodegen javaClientCodegen = new JavaClientCodegen();
+        javaClientCodegen.setLibrary("okhttp-gson");
+
+        CodegenOperation withMediaTypes = new CodegenOperation();
+        withMediaTypes.produces = mediaTypes(XML_MIME_TYPE, JSON_MIME_TYPE);
+        withMediaTypes.consumes = mediaTypes(TEXT_MIME_TYPE);
+        CodegenOperation withoutMediaTypes = new CodegenOperation();
+        Map<String, Object> operations = ImmutableMap.<String, Object>of("operation", Arrays.asList(withMediaTypes, withoutMediaTypes));
+
+        javaClientCodegen.postProcessOperations(ImmutableMap.of("operations", operations, "imports", new ArrayList<Map<String, String>>()));
+
+        Assert.assertEquals(withMediaTypes.vendorExtensions.get(JavaClientCodegen.HEADER_ACCEPT), JSON_MIME_TYPE);
+        Assert.assertEquals(withMediaTypes.vendorExtensions.get(JavaClientCodegen.HEADER_CONTENT_TYPE), TEXT_MIME_TYPE);
+        Assert.assertFalse(withoutMediaTypes.vendorExtensions.containsKey(JavaClientCodegen.HEADER_ACCEPT));
+        Assert.assertEquals(withoutMediaTypes.vendorExtensions.get(JavaClientCodegen.HEADER_CONTENT_TYPE), JSON_MIME_TYPE);
+    }
+
+    private static List<Map<String, String>> mediaTypes(String... mediaTypes) {
+        List<Map<String, String>> result = new ArrayList<>();
+        for (String mediaType : mediaTypes) {
+            Map<String, String> map = new HashMap<>();
+            map.put(JavaClientCodegen.MEDIA_TYPE, mediaType);
+            result.add(map);
+        }
+        return result;
+    }
+
     @Test
     public void testParametersAreCorrectlyOrderedWhenUsingRetrofit(){
         JavaClientCodegen javaClientCodegen = new JavaClientCodegen();
@@ -164,6 +208,62 @@ public class JavaClientCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.INVOKER_PACKAGE), "xyz.yyyyy.zzzzzzz.iiii.invoker");
     }
 
+    @Test
+    public void testNativeLibraryDefaultsToJavaTime() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.NATIVE);
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get("java8"), "true");
+        Assert.assertEquals(codegen.additionalProperties().get("jackson"), "true");
+        Assert.assertEquals(codegen.typeMapping().get("DateTime"), "OffsetDateTime");
+        Assert.assertEquals(codegen.importMapping().get("OffsetDateTime"), "java.time.OffsetDateTime");
+        boolean apiResponse = false;
+        for (SupportingFile supportingFile : codegen.supportingFiles()) {
+            apiResponse |= "ApiResponse.java".equals(supportingFile.destinationFilename);
+        }
+        Assert.assertTrue(apiResponse);
+    }
+
+    @Test
+    public void testNativeLibraryKeepsRequestedDateLibrary() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.NATIVE);
+        codegen.additionalProperties().put(JavaClientCodegen.DATE_LIBRARY, "joda");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.importMapping().get("DateTime"), "org.joda.time.DateTime");
+    }
+
+    @Test
+    public void testConnectionSettingsDefaults() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.CONNECTION_POOL_SIZE), 20);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.KEEP_ALIVE_DURATION), 300000);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.MAX_REQUESTS_PER_HOST), 10);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_HTTP2), Boolean.TRUE);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_RESPONSE_COMPRESSION), Boolean.TRUE);
+    }
+
+    @Test
+    public void testConnectionSettingsAreWrittenBack() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(JavaClientCodegen.CONNECTION_POOL_SIZE, "50");
+        codegen.additionalProperties().put(JavaClientCodegen.KEEP_ALIVE_DURATION, "not a number");
+        codegen.additionalProperties().put(JavaClientCodegen.MAX_REQUESTS_PER_HOST, "0");
+        codegen.additionalProperties().put(JavaClientCodegen.USE_HTTP2, "false");
+        codegen.additionalProperties().put(JavaClientCodegen.USE_RESPONSE_COMPRESSION, "false");
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.CONNECTION_POOL_SIZE), 50);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.KEEP_ALIVE_DURATION), 300000);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.MAX_REQUESTS_PER_HOST), 10);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_HTTP2), Boolean.FALSE);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.USE_RESPONSE_COMPRESSION), Boolean.FALSE);
+    }
+
     @Test
     public void testPackageNamesSetInvokerDerivedFromApi() throws Exception {
         final JavaClientCodegen codegen = new JavaClientCodegen();
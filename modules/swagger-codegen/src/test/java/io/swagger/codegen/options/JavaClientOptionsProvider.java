@@ -26,6 +26,12 @@ public class JavaClientOptionsProvider extends JavaOptionsProvider {
         options.put(JavaClientCodegen.PERFORM_BEANVALIDATION, PERFORM_BEANVALIDATION);
         options.put(JavaClientCodegen.USE_GZIP_FEATURE, "false");
         options.put(JavaClientCodegen.USE_RUNTIME_EXCEPTION, "false");
+        options.put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "false");
+        options.put(JavaClientCodegen.CONNECTION_POOL_SIZE, "20");
+        options.put(JavaClientCodegen.KEEP_ALIVE_DURATION, "300000");
+        options.put(JavaClientCodegen.MAX_REQUESTS_PER_HOST, "10");
+        options.put(JavaClientCodegen.USE_HTTP2, "true");
+        options.put(JavaClientCodegen.USE_RESPONSE_COMPRESSION, "true");
         options.put(JavaClientCodegen.JAVA8_MODE, "false");
         return options;
     }
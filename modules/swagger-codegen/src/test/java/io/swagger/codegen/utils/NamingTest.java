@@ -0,0 +1,259 @@
+package io.swagger.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.*;
+
+/**
+ * Compares the naming helpers with the regex based implementations they replaced, on the identifiers of the bundled
+ * specs and on random strings made of the characters they treat specially.
+ */
+public class NamingTest {
+
+    @AfterMethod
+    public void disableCache() {
+        Naming.disableCache();
+    }
+
+    @Test
+    public void sameResultsOnSpecIdentifiers() throws Exception {
+        Set<String> identifiers = new TreeSet<String>();
+        collectIdentifiers(new File("src/test/resources"), identifiers);
+        assertTrue(identifiers.size() > 1000, "identifiers found in the test specs: " + identifiers.size());
+        for (String identifier : identifiers) {
+            assertSameResults(identifier);
+        }
+    }
+
+    @Test
+    public void sameResultsOnSpecialCharacters() {
+        for (String word : Arrays.asList("", "_", "-", "$", ".", "/", "__", "--", "a_", "a-", "_a", "-a", "a__b", "a--b",
+                "a_-b", "a-_b", "/$", "-$", "a/$b", "a-$b", "a\\b", "a\nb", "a.b/c", "..a..b", "$ref", "$a.b",
+                "input[]", "input[a][b]", "[[]]", "input(a)(b)", "input.name-and age", "ABCDe", "ABcDe", "URLPath",
+                "httpStatus2XX", "a1B2c", "\u0131nt_\u0131d", "\u0130d_x", "\u00df_\u00df", "stra\u00dfe", "\u00fcber-gro\u00dfe", "\u01c5_\u01c6", "\u0149_x", "\ufb00-\ufb01",
+                "\ud835\udc00_\ud835\udc01", "\u00e9_\u00e9")) {
+            assertSameResults(word);
+        }
+
+        String alphabet = "aAbZz09_-./$\\ []()#:\u00df\u00e9\u00c9\u0131\u0130\u01c5\u0149\ufb00\n\ud835\udc00";
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            int length = random.nextInt(12);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertSameResults(sb.toString());
+        }
+    }
+
+    @Test
+    public void cache() {
+        Naming.enableCache();
+        assertEquals(Naming.camelize("pet_id", false), "PetId");
+        assertEquals(Naming.camelize("pet_id", true), "petId");
+        assertEquals(Naming.camelize("pet_id", false), "PetId");
+        assertEquals(Naming.underscore("PetId"), "pet_id");
+        assertEquals(Naming.sanitizeName("pet-id", false), "pet_id");
+        assertEquals(Naming.sanitizeName("pet-id", false), "pet_id");
+        assertEquals(Naming.getCache().getHits(), 2);
+        assertEquals(Naming.getCache().getMisses(), 4);
+
+        Naming.disableCache();
+        assertNull(Naming.getCache());
+        assertEquals(Naming.camelize("pet_id", false), "PetId");
+    }
+
+    private static void assertSameResults(String word) {
+        assertEquals(result(word, "camelize"), legacyResult(word, "camelize"), "camelize(" + word + ")");
+        assertEquals(result(word, "lowerCamelize"), legacyResult(word, "lowerCamelize"), "camelize(" + word + ", true)");
+        assertEquals(result(word, "underscore"), legacyResult(word, "underscore"), "underscore(" + word + ")");
+        if (!"$".equals(word)) {
+            assertEquals(result(word, "sanitize"), legacyResult(word, "sanitize"), "sanitizeName(" + word + ")");
+            assertEquals(result(word, "unicodeSanitize"), legacyResult(word, "unicodeSanitize"), "sanitizeName(" + word + ") with unicode");
+        }
+    }
+
+    private static String result(String word, String function) {
+        try {
+            if ("camelize".equals(function)) {
+                return Naming.doCamelize(word, false);
+            } else if ("lowerCamelize".equals(function)) {
+                return Naming.doCamelize(word, true);
+            } else if ("underscore".equals(function)) {
+                return Naming.doUnderscore(word);
+            } else {
+                return Naming.doSanitizeName(word, "unicodeSanitize".equals(function));
+            }
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static String legacyResult(String word, String function) {
+        try {
+            if ("camelize".equals(function)) {
+                return legacyCamelize(word, false);
+            } else if ("lowerCamelize".equals(function)) {
+                return legacyCamelize(word, true);
+            } else if ("underscore".equals(function)) {
+                return legacyUnderscore(word);
+            } else {
+                return legacySanitizeName(word, "unicodeSanitize".equals(function));
+            }
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static void collectIdentifiers(File file, Set<String> identifiers) throws Exception {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    collectIdentifiers(child, identifiers);
+                }
+            }
+            return;
+        }
+        ObjectMapper mapper;
+        if (file.getName().endsWith(".json")) {
+            mapper = Json.mapper();
+        } else if (file.getName().endsWith(".yaml") || file.getName().endsWith(".yml")) {
+            mapper = Yaml.mapper();
+        } else {
+            return;
+        }
+        JsonNode node;
+        try {
+            node = mapper.readTree(file);
+        } catch (Exception e) {
+            // not every resource is a spec, and some are invalid on purpose
+            return;
+        }
+        collectIdentifiers(node, identifiers);
+    }
+
+    private static void collectIdentifiers(JsonNode node, Set<String> identifiers) {
+        if (node == null) {
+            return;
+        }
+        if (node.isTextual()) {
+            identifiers.add(node.asText());
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            identifiers.add(field.getKey());
+            collectIdentifiers(field.getValue(), identifiers);
+        }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                collectIdentifiers(element, identifiers);
+            }
+        }
+    }
+
+    private static String legacyUnderscore(String word) {
+        String firstPattern = "([A-Z]+)([A-Z][a-z])";
+        String secondPattern = "([a-z\\d])([A-Z])";
+        String replacementPattern = "$1_$2";
+        word = word.replaceAll("\\.", "/");
+        word = word.replaceAll("\\$", "__");
+        word = word.replaceAll(firstPattern, replacementPattern);
+        word = word.replaceAll(secondPattern, replacementPattern);
+        word = word.replace('-', '_');
+        word = word.replace(' ', '_');
+        word = word.toLowerCase();
+        return word;
+    }
+
+    private static String legacyCamelize(String word, boolean lowercaseFirstLetter) {
+        Pattern p = Pattern.compile("\\/(.?)");
+        Matcher m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1));
+            m = p.matcher(word);
+        }
+
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        m = p.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        p = Pattern.compile("(_)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(-)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = p.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+        return word;
+    }
+
+    private static String legacySanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_");
+        name = name.replaceAll("\\]", "");
+        name = name.replaceAll("\\(", "_");
+        name = name.replaceAll("\\)", "");
+        name = name.replaceAll("\\.", "_");
+        name = name.replaceAll("-", "_");
+        name = name.replaceAll(" ", "_");
+        if (allowUnicodeIdentifiers) {
+            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        } else {
+            name = name.replaceAll("\\W", "");
+        }
+        return name;
+    }
+}
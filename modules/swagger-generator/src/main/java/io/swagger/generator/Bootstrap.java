@@ -14,6 +14,7 @@
 
 package io.swagger.generator;
 
+import io.swagger.generator.resource.SwaggerResource;
 import org.apache.commons.io.IOUtils;
 
 import javax.servlet.ServletConfig;
@@ -51,4 +52,9 @@ public class Bootstrap extends HttpServlet {
         bc.setResourcePackage("io.swagger.generator.resource");
         bc.setScan(true);
     }
+
+    @Override
+    public void destroy() {
+        SwaggerResource.shutdown();
+    }
 }
@@ -0,0 +1,79 @@
+package io.swagger.generator.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class JobStatus {
+    private String id;
+    private String state;
+    private String message;
+    private String code;
+    private String link;
+    private long waitMillis;
+    private long runMillis;
+
+    @ApiModelProperty(value = "Job id", example = "8f5c3f4e-2a4c-4d61-9a8e-0b6f2f3f1c2d")
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @ApiModelProperty(value = "State of the job",
+            allowableValues = "QUEUED,RUNNING,SUCCEEDED,FAILED,CANCELLED,TIMED_OUT")
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    @ApiModelProperty(value = "Reason of the failure of the job")
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @ApiModelProperty(value = "File download code, once the job succeeded",
+            example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    @ApiModelProperty(value = "URL for fetching the generated file, once the job succeeded",
+            example = "http://generator.swagger.io:80/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+
+    @ApiModelProperty(value = "Time spent waiting for a worker, in milliseconds")
+    public long getWaitMillis() {
+        return waitMillis;
+    }
+
+    public void setWaitMillis(long waitMillis) {
+        this.waitMillis = waitMillis;
+    }
+
+    @ApiModelProperty(value = "Time spent generating, in milliseconds")
+    public long getRunMillis() {
+        return runMillis;
+    }
+
+    public void setRunMillis(long runMillis) {
+        this.runMillis = runMillis;
+    }
+}
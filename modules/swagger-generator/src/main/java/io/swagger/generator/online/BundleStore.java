@@ -0,0 +1,211 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.model.Generated;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The generated bundles waiting to be downloaded, by file id.
+ *
+ * Bundles expire after a while, and the oldest ones are evicted when there are too many of them or when they take too
+ * much space; either way their folder is deleted. Bundles being downloaded have been removed from the store, so they
+ * are never deleted under a download.
+ */
+public class BundleStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BundleStore.class);
+
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // in insertion order, so the oldest bundles come first
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>();
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param timeToLiveMillis How long a bundle is kept, or 0 to keep bundles until they're evicted or downloaded
+     * @param maxEntries The maximum number of bundles, or 0 for no limit
+     * @param maxBytes The maximum total size of the bundles, or 0 for no limit
+     */
+    public BundleStore(long timeToLiveMillis, int maxEntries, long maxBytes) {
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Adds a bundle, evicting expired bundles and then the oldest ones until the new one fits. A bundle with the same
+     * id is replaced, leaving its folder to the caller.
+     *
+     * @param fileId The id of the bundle
+     * @param generated The bundle
+     */
+    public void put(String fileId, Generated generated) {
+        long size = new File(generated.getFilename()).length();
+        List<Entry> evicted = new ArrayList<Entry>();
+        synchronized (this) {
+            Entry previous = entries.remove(fileId);
+            if (previous != null) {
+                bytes -= previous.size;
+            }
+            removeExpired(evicted);
+            while (!entries.isEmpty() && ((maxEntries > 0 && entries.size() >= maxEntries)
+                    || (maxBytes > 0 && bytes + size > maxBytes))) {
+                evicted.add(evictOldest());
+            }
+            entries.put(fileId, new Entry(generated, size, currentTimeMillis()));
+            bytes += size;
+        }
+        delete(evicted);
+    }
+
+    /**
+     * @param fileId The id of the bundle
+     * @return The bundle, or {@code null} if there is no such bundle or it has expired
+     */
+    public Generated get(String fileId) {
+        List<Entry> evicted = new ArrayList<Entry>();
+        Generated generated = null;
+        synchronized (this) {
+            removeExpired(evicted);
+            Entry entry = entries.get(fileId);
+            if (entry != null) {
+                hits++;
+                generated = entry.generated;
+            } else {
+                misses++;
+            }
+        }
+        delete(evicted);
+        return generated;
+    }
+
+    /**
+     * Removes a bundle, leaving its folder to the caller, e.g. to delete it once downloaded.
+     *
+     * @param fileId The id of the bundle
+     * @return The bundle, or {@code null} if it was already removed or evicted
+     */
+    public synchronized Generated remove(String fileId) {
+        Entry entry = entries.remove(fileId);
+        if (entry == null) {
+            return null;
+        }
+        bytes -= entry.size;
+        return entry.generated;
+    }
+
+    /**
+     * Evicts the expired bundles. This happens on every access, so it's only needed when the store is idle.
+     */
+    public void evictExpired() {
+        List<Entry> evicted = new ArrayList<Entry>();
+        synchronized (this) {
+            removeExpired(evicted);
+        }
+        delete(evicted);
+    }
+
+    public synchronized int getEntries() {
+        return entries.size();
+    }
+
+    /**
+     * @return The total size of the bundles in the store.
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of bundles which expired or were evicted to make room for others.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return The metrics of the store, by name.
+     */
+    public synchronized Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<String, Long>();
+        metrics.put("bundles.entries", (long) entries.size());
+        metrics.put("bundles.bytes", bytes);
+        metrics.put("bundles.hits", hits);
+        metrics.put("bundles.misses", misses);
+        metrics.put("bundles.evictions", evictions);
+        return metrics;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private void removeExpired(List<Entry> evicted) {
+        if (timeToLiveMillis <= 0) {
+            return;
+        }
+        long expiredBefore = currentTimeMillis() - timeToLiveMillis;
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.created > expiredBefore) {
+                break;
+            }
+            it.remove();
+            bytes -= entry.size;
+            evictions++;
+            evicted.add(entry);
+        }
+    }
+
+    private Entry evictOldest() {
+        Iterator<Entry> it = entries.values().iterator();
+        Entry entry = it.next();
+        it.remove();
+        bytes -= entry.size;
+        evictions++;
+        return entry;
+    }
+
+    private static void delete(List<Entry> evicted) {
+        for (Entry entry : evicted) {
+            File folder = new File(entry.generated.getFilename()).getParentFile();
+            LOGGER.debug("deleting evicted bundle " + entry.generated.getFilename());
+            if (folder != null) {
+                FileUtils.deleteQuietly(folder);
+            }
+        }
+    }
+
+    private static class Entry {
+        private final Generated generated;
+        private final long size;
+        private final long created;
+
+        Entry(Generated generated, long size, long created) {
+            this.generated = generated;
+            this.size = size;
+            this.created = created;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package io.swagger.generator.online;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs generation jobs on a bounded pool of workers, so that large specs can't take all the threads of the server.
+ *
+ * Jobs wait for a worker in a bounded queue, and are rejected when it's full. A running job is interrupted when it's
+ * cancelled or exceeds its timeout; generators notice it the next time they write a file. Such a job is finished right
+ * away, but counts as running until its worker actually returns, which a blocking read of a remote spec may delay.
+ * Finished jobs are kept for a while so that their state can be polled, unless they are removed beforehand.
+ */
+public class GenerationJobs {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED, TIMED_OUT
+    }
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledThreadPoolExecutor timer;
+    private final long timeoutMillis;
+    private final long retentionMillis;
+
+    // in submission order
+    private final LinkedHashMap<String, Job> jobs = new LinkedHashMap<String, Job>();
+    private int running;
+    private long submitted;
+    private long rejected;
+    private long succeeded;
+    private long failed;
+    private long cancelled;
+    private long timedOut;
+    private long started;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+    private long finished;
+    private long totalRunMillis;
+    private long maxRunMillis;
+
+    /**
+     * @param workers The number of jobs run at the same time
+     * @param maxQueued The maximum number of jobs waiting for a worker
+     * @param timeoutMillis How long a job may run, or 0 for no limit
+     * @param retentionMillis How long a finished job is kept
+     */
+    public GenerationJobs(int workers, int maxQueued, long timeoutMillis, long retentionMillis) {
+        BlockingQueue<Runnable> queue = maxQueued > 0
+                ? new ArrayBlockingQueue<Runnable>(maxQueued) : new SynchronousQueue<Runnable>();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, queue,
+                new DaemonThreadFactory("generator-worker-"));
+        this.timer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("generator-job-timer-"));
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.timeoutMillis = timeoutMillis;
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Queues a job.
+     *
+     * @param task The job, returning its result
+     * @return The job
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public Job submit(Callable<String> task) {
+        Job job = new Job(UUID.randomUUID().toString(), task, currentTimeMillis());
+        synchronized (this) {
+            removeExpired();
+            jobs.put(job.getId(), job);
+            submitted++;
+        }
+        try {
+            workers.execute(job);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                jobs.remove(job.getId());
+                submitted--;
+                rejected++;
+            }
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * @param id The id of the job
+     * @return The job, or {@code null} if there is no such job or it was removed
+     */
+    public synchronized Job get(String id) {
+        removeExpired();
+        return jobs.get(id);
+    }
+
+    /**
+     * Cancels a job, interrupting it if it's running.
+     *
+     * @param id The id of the job
+     * @return The job, or {@code null} if there is no such job or it was removed
+     */
+    public Job cancel(String id) {
+        Job job = get(id);
+        if (job != null && job.cancel(State.CANCELLED)) {
+            workers.remove(job);
+        }
+        return job;
+    }
+
+    /**
+     * Forgets a job, e.g. once its result was handed out.
+     *
+     * @param id The id of the job
+     */
+    public synchronized void remove(String id) {
+        jobs.remove(id);
+    }
+
+    /**
+     * @return The number of jobs waiting for a worker.
+     */
+    public int getQueued() {
+        return workers.getQueue().size();
+    }
+
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    /**
+     * @return The metrics of the jobs, by name.
+     */
+    public synchronized Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<String, Long>();
+        metrics.put("jobs.queued", (long) getQueued());
+        metrics.put("jobs.running", (long) running);
+        metrics.put("jobs.submitted", submitted);
+        metrics.put("jobs.rejected", rejected);
+        metrics.put("jobs.succeeded", succeeded);
+        metrics.put("jobs.failed", failed);
+        metrics.put("jobs.cancelled", cancelled);
+        metrics.put("jobs.timedOut", timedOut);
+        metrics.put("jobs.wait.avgMillis", started == 0 ? 0 : totalWaitMillis / started);
+        metrics.put("jobs.wait.maxMillis", maxWaitMillis);
+        metrics.put("jobs.run.avgMillis", finished == 0 ? 0 : totalRunMillis / finished);
+        metrics.put("jobs.run.maxMillis", maxRunMillis);
+        return metrics;
+    }
+
+    /**
+     * Runs a housekeeping task periodically on the timer of the jobs, until they're shut down.
+     *
+     * @param task The task; a failure is logged, and doesn't stop the next runs
+     * @param periodMillis The time between two runs
+     */
+    public void schedule(final Runnable task, long periodMillis) {
+        timer.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("housekeeping task failed", e);
+                }
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the workers, interrupting the running jobs, and the housekeeping tasks.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+        timer.shutdownNow();
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private synchronized void onStarted(Job job) {
+        running++;
+        started++;
+        long waitMillis = job.getWaitMillis();
+        totalWaitMillis += waitMillis;
+        maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+    }
+
+    private synchronized void onStopped(Job job) {
+        running--;
+        finished++;
+        long runMillis = job.getRunMillis();
+        totalRunMillis += runMillis;
+        maxRunMillis = Math.max(maxRunMillis, runMillis);
+    }
+
+    private synchronized void onFinished(Job job) {
+        switch (job.getState()) {
+            case SUCCEEDED:
+                succeeded++;
+                break;
+            case FAILED:
+                failed++;
+                break;
+            case TIMED_OUT:
+                timedOut++;
+                break;
+            default:
+                cancelled++;
+                break;
+        }
+    }
+
+    private void removeExpired() {
+        long expiredBefore = currentTimeMillis() - retentionMillis;
+        Iterator<Job> it = jobs.values().iterator();
+        while (it.hasNext()) {
+            Job job = it.next();
+            if (job.finishedMillis > 0 && job.finishedMillis <= expiredBefore) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * A generation job, whose result is the one of its task.
+     */
+    public class Job extends FutureTask<String> {
+        private final String id;
+        private final long submittedMillis;
+        private volatile long startedMillis;
+        // when the outcome is known, and when the worker returned
+        private volatile long finishedMillis;
+        private volatile long stoppedMillis;
+        private volatile State state = State.QUEUED;
+        private volatile State cancelState = State.CANCELLED;
+        private volatile String result;
+        private volatile Throwable failure;
+        private ScheduledFuture<?> timeout;
+
+        Job(String id, Callable<String> task, long submittedMillis) {
+            super(task);
+            this.id = id;
+            this.submittedMillis = submittedMillis;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public State getState() {
+            if (isCancelled()) {
+                // even before done() updated the state
+                return cancelState;
+            }
+            return state;
+        }
+
+        /**
+         * @return The result of the job, once it succeeded
+         */
+        public String getResult() {
+            return result;
+        }
+
+        /**
+         * @return The reason of the failure of the job, once it failed
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        /**
+         * @return How long the job waited for a worker, so far
+         */
+        public long getWaitMillis() {
+            long end = startedMillis > 0 ? startedMillis : finishedMillis > 0 ? finishedMillis : currentTimeMillis();
+            return end - submittedMillis;
+        }
+
+        /**
+         * @return How long the job held a worker, so far
+         */
+        public long getRunMillis() {
+            if (startedMillis == 0) {
+                return 0;
+            }
+            return (stoppedMillis > 0 ? stoppedMillis : currentTimeMillis()) - startedMillis;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+                startedMillis = currentTimeMillis();
+                state = State.RUNNING;
+                if (timeoutMillis > 0) {
+                    timeout = timer.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (cancel(State.TIMED_OUT)) {
+                                LOGGER.warn("job " + id + " timed out after " + timeoutMillis + " ms");
+                            }
+                        }
+                    }, timeoutMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            onStarted(this);
+            try {
+                super.run();
+            } finally {
+                // a cancelled job is done before its task notices the interrupt
+                stoppedMillis = currentTimeMillis();
+                onStopped(this);
+            }
+        }
+
+        boolean cancel(State reason) {
+            synchronized (this) {
+                if (isDone()) {
+                    return false;
+                }
+                cancelState = reason;
+            }
+            return cancel(true);
+        }
+
+        @Override
+        protected void done() {
+            synchronized (this) {
+                finishedMillis = currentTimeMillis();
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                if (isCancelled()) {
+                    state = cancelState;
+                } else {
+                    try {
+                        result = get();
+                        state = State.SUCCEEDED;
+                    } catch (ExecutionException e) {
+                        failure = e.getCause();
+                        state = State.FAILED;
+                    } catch (InterruptedException e) {
+                        // can't happen, the job is done
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            onFinished(this);
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -6,15 +6,19 @@ import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.model.GeneratorInput;
 import io.swagger.generator.model.InputOption;
-import io.swagger.generator.util.ZipUtil;
+import io.swagger.generator.util.Environment;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,6 +27,16 @@ import java.util.Map;
 public class Generator {
     static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
 
+    /**
+     * Environment variables of the number of bundles (100 by default, 0 disables the cache) and of the total size of
+     * the bundles (512 MiB by default, 0 is unlimited) kept by the result cache, and of the directory where they are
+     * kept across restarts (a temporary directory by default).
+     */
+    static final String RESULT_CACHE_ENTRIES = "GENERATOR_RESULT_CACHE_ENTRIES";
+    static final String RESULT_CACHE_BYTES = "GENERATOR_RESULT_CACHE_BYTES";
+    static final String RESULT_CACHE_DIR = "GENERATOR_RESULT_CACHE_DIR";
+    private static ResultCache resultCache = createResultCache();
+
     public static Map<String, CliOption> getOptions(String language) throws ApiException {
         CodegenConfig config = null;
         try {
@@ -71,6 +85,26 @@ public class Generator {
             LOGGER.debug("ignoring empty spec");
             node = null;
         }
+
+        String destPath = null;
+
+        if (opts != null && opts.getOptions() != null) {
+            destPath = opts.getOptions().get("outputFolder");
+        }
+        if (destPath == null) {
+            destPath = language + "-" + type.getTypeName();
+        }
+
+        String cacheKey = null;
+        if (node != null && resultCache.isEnabled() && !ResultCache.hasRemoteReferences(node)) {
+            // the request holds the whole spec, so a cached bundle is found without even parsing it
+            cacheKey = ResultCache.key(node, language, type.getTypeName(), opts.getOptions());
+            String cached = getCachedBundle(cacheKey, destPath);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         Swagger swagger;
         if (node == null) {
             if (opts.getSwaggerUrl() != null) {
@@ -98,14 +132,13 @@ public class Generator {
         if (swagger == null) {
             throw new BadRequestException("The swagger specification supplied was not valid");
         }
-
-        String destPath = null;
-
-        if (opts != null && opts.getOptions() != null) {
-            destPath = opts.getOptions().get("outputFolder");
-        }
-        if (destPath == null) {
-            destPath = language + "-" + type.getTypeName();
+        if (cacheKey == null && resultCache.isEnabled()) {
+            // the documents behind urls may change, so the key is computed from what was read
+            cacheKey = ResultCache.key(Json.mapper().convertValue(swagger, JsonNode.class), language, type.getTypeName(), opts.getOptions());
+            String cached = getCachedBundle(cacheKey, destPath);
+            if (cached != null) {
+                return cached;
+            }
         }
 
         ClientOptInput clientOptInput = new ClientOptInput();
@@ -133,36 +166,74 @@ public class Generator {
 
         clientOptInput.setConfig(codegenConfig);
 
+        // the files are generated straight into the bundle
+        File bundle = new File(outputFilename);
+        ZipOutputSink zip = null;
         try {
-            List<File> files = new Codegen().opts(clientOptInput).generate();
+            bundle.getParentFile().mkdirs();
+            zip = new ZipOutputSink(new File(outputFolder), new File(outputFolder).getName(),
+                    new BufferedOutputStream(new FileOutputStream(bundle)));
+            Codegen codegen = new Codegen();
+            codegen.setOutputSink(zip);
+            List<File> files = codegen.opts(clientOptInput).generate();
             if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<File>();
-                LOGGER.debug("adding to " + outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
+                // some targets write files directly to the output folder
+                File folder = new File(outputFolder);
+                if (folder.isDirectory()) {
+                    LOGGER.debug("adding to " + outputFolder);
+                    zip.addDirectory(folder);
+                    FileUtils.deleteQuietly(folder);
+                }
+                zip.close();
             } else {
                 throw new BadRequestException(
                         "A target generation was attempted, but no files were created!");
             }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath());
-                }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder);
-            }
         } catch (Exception e) {
+            IOUtils.closeQuietly(zip);
+            FileUtils.deleteQuietly(new File(outputFolder));
+            if (!bundle.delete()) {
+                LOGGER.error("unable to delete bundle " + outputFilename);
+            }
             throw new BadRequestException("Unable to build target: " + e.getMessage());
         }
+        if (cacheKey != null) {
+            resultCache.put(cacheKey, bundle);
+        }
         return outputFilename;
     }
 
+    /**
+     * @return The cache of the bundles of previous requests.
+     */
+    public static ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    private static String getCachedBundle(String cacheKey, String destPath) {
+        File folder = getTmpFolder();
+        File bundle = new File(folder.getAbsolutePath() + File.separator + destPath + "-bundle.zip");
+        bundle.getParentFile().mkdirs();
+        if (resultCache.copyTo(cacheKey, bundle)) {
+            LOGGER.debug("using cached bundle " + cacheKey);
+            return bundle.getAbsolutePath();
+        }
+        FileUtils.deleteQuietly(folder);
+        return null;
+    }
+
+    private static ResultCache createResultCache() {
+        String directory = Environment.getString(RESULT_CACHE_DIR);
+        File cacheDirectory;
+        if (directory != null) {
+            cacheDirectory = new File(directory);
+        } else {
+            cacheDirectory = getTmpFolder();
+        }
+        return new ResultCache(cacheDirectory, (int) Environment.getLong(RESULT_CACHE_ENTRIES, 100),
+                Environment.getLong(RESULT_CACHE_BYTES, 512L * 1024 * 1024));
+    }
+
     public static InputOption clientOptions(@SuppressWarnings("unused") String language) {
         return null;
     }
@@ -0,0 +1,286 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.codegen.utils.ImplementationVersion;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The bundles generated for previous requests, by a hash of everything the bundle depends on: the spec, the language,
+ * the options and the version of the generator (see {@link #key(JsonNode, String, String, Map)}). Identical requests
+ * get a copy of the bundle instead of generating it again.
+ *
+ * The bundles are kept as {@code <key>.zip} files in a directory, and handed out as hard links when possible. The least
+ * recently used ones are evicted when there are too many of them or when they take too much space. Bundles already in
+ * the directory are loaded on startup, so a directory which isn't temporary persists the cache across restarts.
+ */
+public class ResultCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultCache.class);
+    private static final String EXTENSION = ".zip";
+    private static final ObjectMapper MAPPER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final File directory;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // in access order, so the least recently used bundles come first
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<String, Long>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param directory The directory of the cached bundles, created if needed
+     * @param maxEntries The maximum number of bundles, or 0 to disable the cache
+     * @param maxBytes The maximum total size of the bundles, or 0 for no limit
+     */
+    public ResultCache(File directory, int maxEntries, long maxBytes) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        if (isEnabled()) {
+            load();
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Computes the key of a request. Maps are compared regardless of the order of their keys, so the same spec with
+     * reordered properties has the same key.
+     *
+     * @param spec The spec
+     * @param language The target language
+     * @param type The type of target (client or server)
+     * @param options The generation options, or {@code null}
+     * @return The key
+     */
+    public static String key(JsonNode spec, String language, String type, Map<String, String> options) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, ImplementationVersion.read());
+            update(digest, type);
+            update(digest, language);
+            update(digest, MAPPER.writeValueAsString(options == null ? new TreeMap<String, String>() : new TreeMap<String, String>(options)));
+            // through maps, as nodes keep the order of their fields
+            digest.update(MAPPER.writeValueAsBytes(MAPPER.convertValue(spec, Object.class)));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to serialize the spec", e);
+        }
+    }
+
+    /**
+     * @param spec The spec
+     * @return {@code true} if the spec refers to other documents, whose content is only known once the spec is parsed
+     */
+    public static boolean hasRemoteReferences(JsonNode spec) {
+        if (spec == null) {
+            return false;
+        }
+        JsonNode ref = spec.get("$ref");
+        if (ref != null && ref.isTextual() && !ref.asText().startsWith("#")) {
+            return true;
+        }
+        for (JsonNode child : spec) {
+            if (hasRemoteReferences(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies the cached bundle of a request, if any.
+     *
+     * @param key The key of the request
+     * @param target The file of the copy
+     * @return {@code true} on a hit
+     */
+    public synchronized boolean copyTo(String key, File target) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (sizes.get(key) == null) {
+            misses++;
+            return false;
+        }
+        File cached = getFile(key);
+        try {
+            link(cached, target);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to copy cached bundle " + cached, e);
+            remove(key);
+            misses++;
+            return false;
+        }
+        cached.setLastModified(System.currentTimeMillis());
+        hits++;
+        return true;
+    }
+
+    /**
+     * Adds the bundle of a request, unless it's already cached or too large.
+     *
+     * @param key The key of the request
+     * @param bundle The generated bundle, which the cache doesn't take over
+     */
+    public synchronized void put(String key, File bundle) {
+        if (!isEnabled() || sizes.containsKey(key)) {
+            return;
+        }
+        long size = bundle.length();
+        if (maxBytes > 0 && size > maxBytes) {
+            return;
+        }
+        File cached = getFile(key);
+        File temporary = new File(directory, "." + key + "." + UUID.randomUUID() + ".tmp");
+        try {
+            link(bundle, temporary);
+            Files.move(temporary.toPath(), cached.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to cache bundle " + bundle, e);
+            FileUtils.deleteQuietly(temporary);
+            return;
+        }
+        sizes.put(key, size);
+        bytes += size;
+        evict();
+    }
+
+    public synchronized int getEntries() {
+        return sizes.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return The metrics of the cache, by name.
+     */
+    public synchronized Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<String, Long>();
+        metrics.put("cache.entries", (long) sizes.size());
+        metrics.put("cache.bytes", bytes);
+        metrics.put("cache.hits", hits);
+        metrics.put("cache.misses", misses);
+        metrics.put("cache.evictions", evictions);
+        return metrics;
+    }
+
+    private void load() {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            LOGGER.warn("Unable to create the cache directory " + directory);
+            return;
+        }
+        File[] files = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(File file) {
+                return file.isFile();
+            }
+        });
+        if (files == null) {
+            return;
+        }
+        // least recently used first
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.valueOf(a.lastModified()).compareTo(b.lastModified());
+            }
+        });
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith(".") || !name.endsWith(EXTENSION)) {
+                // interrupted puts
+                FileUtils.deleteQuietly(file);
+                continue;
+            }
+            long size = file.length();
+            sizes.put(name.substring(0, name.length() - EXTENSION.length()), size);
+            bytes += size;
+        }
+        evict();
+        LOGGER.info("Loaded {} cached bundles from {}", sizes.size(), directory);
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> it = sizes.entrySet().iterator();
+        while (it.hasNext() && (sizes.size() > maxEntries || (maxBytes > 0 && bytes > maxBytes))) {
+            Map.Entry<String, Long> eldest = it.next();
+            it.remove();
+            bytes -= eldest.getValue();
+            evictions++;
+            FileUtils.deleteQuietly(getFile(eldest.getKey()));
+        }
+    }
+
+    private void remove(String key) {
+        Long size = sizes.remove(key);
+        if (size != null) {
+            bytes -= size;
+            FileUtils.deleteQuietly(getFile(key));
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + EXTENSION);
+    }
+
+    private static void link(File source, File target) throws IOException {
+        try {
+            Files.createLink(target.toPath(), source.toPath());
+        } catch (IOException e) {
+            // e.g. on another file system
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (UnsupportedOperationException e) {
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
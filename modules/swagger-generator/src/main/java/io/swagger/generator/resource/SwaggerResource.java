@@ -7,21 +7,43 @@ import io.swagger.codegen.CliOption;
 import io.swagger.codegen.Codegen;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenType;
+import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.model.ApiResponse;
 import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
+import io.swagger.generator.model.JobStatus;
 import io.swagger.generator.model.ResponseCode;
+import io.swagger.generator.online.BundleStore;
+import io.swagger.generator.online.GenerationJobs;
 import io.swagger.generator.online.Generator;
+import io.swagger.generator.util.Environment;
+import io.swagger.generator.util.InFlightBytes;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.glassfish.jersey.server.CloseableService;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Path("/gen")
 @Api(value = "/gen", description = "Resource for generating swagger components")
@@ -29,9 +51,47 @@ import java.util.*;
 public class SwaggerResource {
     static List<String> clients = new ArrayList<String>();
     static List<String> servers = new ArrayList<String>();
-    private static Map<String, Generated> fileMap = new HashMap<String, Generated>();
+    /**
+     * Environment variable of the maximum number of bundle bytes downloaded at the same time, unlimited by default.
+     */
+    static final String MAX_IN_FLIGHT_BYTES = "GENERATOR_MAX_IN_FLIGHT_BYTES";
+    /**
+     * Environment variables of how long generated bundles are kept (an hour by default), and of how many bundles and
+     * bundle bytes are kept (1000 bundles and 1 GiB by default) before the oldest ones are evicted. 0 is unlimited.
+     */
+    static final String BUNDLE_TTL_SECONDS = "GENERATOR_BUNDLE_TTL_SECONDS";
+    static final String MAX_BUNDLES = "GENERATOR_MAX_BUNDLES";
+    static final String MAX_BUNDLE_BYTES = "GENERATOR_MAX_BUNDLE_BYTES";
+    /**
+     * Environment variables of the number of generations run at the same time (the number of processors by default),
+     * of how many more may wait for a worker (100 by default) and of how long a generation may run (5 minutes by
+     * default, 0 is unlimited). Finished jobs are kept as long as bundles.
+     */
+    static final String WORKERS = "GENERATOR_WORKERS";
+    static final String MAX_QUEUED_JOBS = "GENERATOR_MAX_QUEUED_JOBS";
+    static final String JOB_TIMEOUT_SECONDS = "GENERATOR_JOB_TIMEOUT_SECONDS";
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+    private static final String RETRY_AFTER_SECONDS = "5";
+    private static InFlightBytes downloads = new InFlightBytes(Environment.getLong(MAX_IN_FLIGHT_BYTES, 0));
+    private static BundleStore bundles = new BundleStore(
+            TimeUnit.SECONDS.toMillis(Environment.getLong(BUNDLE_TTL_SECONDS, TimeUnit.HOURS.toSeconds(1))),
+            (int) Environment.getLong(MAX_BUNDLES, 1000),
+            Environment.getLong(MAX_BUNDLE_BYTES, 1024L * 1024 * 1024));
+    private static GenerationJobs jobs = new GenerationJobs(
+            (int) Math.max(1, Environment.getLong(WORKERS, Runtime.getRuntime().availableProcessors())),
+            (int) Environment.getLong(MAX_QUEUED_JOBS, 100),
+            TimeUnit.SECONDS.toMillis(Environment.getLong(JOB_TIMEOUT_SECONDS, TimeUnit.MINUTES.toSeconds(5))),
+            TimeUnit.SECONDS.toMillis(Environment.getLong(BUNDLE_TTL_SECONDS, TimeUnit.HOURS.toSeconds(1))));
 
     static {
+        // bundles expire on access, so the ones of an idle server would otherwise be kept on disk
+        jobs.schedule(new Runnable() {
+            @Override
+            public void run() {
+                bundles.evictExpired();
+            }
+        }, TimeUnit.MINUTES.toMillis(1));
+
         List<CodegenConfig> extensions = Codegen.getExtensions();
         for (CodegenConfig config : extensions) {
             if (config.getTag().equals(CodegenType.CLIENT)
@@ -54,28 +114,50 @@ public class SwaggerResource {
             notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST "
                     + "operations.  The fileId code can be used just once, after which a new `fileId` will need to "
                     + "be requested.", response = String.class, tags = {"clients", "servers"})
-    public Response downloadFile(@PathParam("fileId") String fileId) throws Exception {
-        Generated g = fileMap.get(fileId);
+    public Response downloadFile(@PathParam("fileId") String fileId,
+                                 @Context CloseableService closeables) throws Exception {
+        Generated g = bundles.get(fileId);
         System.out.println("looking for fileId " + fileId);
+        final File file = g != null && g.getFilename() != null ? new File(g.getFilename()) : null;
+        if (file == null || !file.isFile()) {
+            return Response.status(404).build();
+        }
         System.out.println("got filename " + g.getFilename());
-        if (g.getFilename() != null) {
-            File file = new java.io.File(g.getFilename());
-            byte[] bytes = org.apache.commons.io.FileUtils.readFileToByteArray(file);
-
-            try {
-                FileUtils.deleteDirectory(file.getParentFile());
-            } catch (Exception e) {
-                System.out.println("failed to delete file " + file.getAbsolutePath());
-            }
 
-            return Response
-                    .ok(bytes, "application/zip")
-                    .header("Content-Disposition",
-                            "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
-                    .header("Accept-Range", "bytes").header("Content-Length", bytes.length).build();
-        } else {
+        final long length = file.length();
+        if (!downloads.tryAcquire(length)) {
+            // the bundle stays available
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", RETRY_AFTER_SECONDS).build();
+        }
+        if (bundles.remove(fileId) == null) {
+            // downloaded or evicted meanwhile
+            downloads.release(length);
             return Response.status(404).build();
         }
+        // the entity may never be written (HEAD requests, failures before the response is committed), so the bytes
+        // and the bundle are released once the request completes rather than at the end of the copy
+        closeables.add(new DownloadCleanup(downloads, length, file.getParentFile()));
+
+        // the bundle is copied to the response through a fixed size buffer instead of being loaded in memory
+        StreamingOutput stream = new StreamingOutput() {
+            @Override
+            public void write(OutputStream output) throws IOException {
+                InputStream in = null;
+                try {
+                    in = new FileInputStream(file);
+                    IOUtils.copyLarge(in, output, new byte[DOWNLOAD_BUFFER_SIZE]);
+                    output.flush();
+                } finally {
+                    IOUtils.closeQuietly(in);
+                }
+            }
+        };
+        return Response
+                .ok(stream, "application/zip")
+                .header("Content-Disposition",
+                        "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
+                .header("Accept-Range", "bytes").header("Content-Length", length).build();
     }
 
     @POST
@@ -90,28 +172,16 @@ public class SwaggerResource {
             @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts)
             throws Exception {
 
-        String filename = Generator.generateClient(language, opts);
-        String host = System.getenv("GENERATOR_HOST");
-
-        if (StringUtils.isBlank(host)) {
-            String scheme = request.getHeader("X-SSL");
-            String port = "";
-            if ("1".equals(scheme)) {
-                scheme = "https";
-            } else {
-                scheme = request.getScheme();
-                port = ":" + request.getServerPort();
-            }
-            host = scheme + "://" + request.getServerName() + port;
+        GenerationJobs.Job job;
+        try {
+            job = submit(language, opts, Generator.Type.CLIENT);
+        } catch (RejectedExecutionException e) {
+            return tooBusy();
         }
+        String code = await(job);
+        String host = getHost(request);
 
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(language + "-client");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
+        if (code != null) {
             String link = host + "/api/gen/download/" + code;
             return Response.ok().entity(new ResponseCode(code, link)).build();
         } else {
@@ -157,6 +227,75 @@ public class SwaggerResource {
         }
     }
 
+    @POST
+    @Path("/jobs/clients/{language}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(
+            value = "Queues the generation of a client library",
+            notes = "Accepts the same input as `/clients/{language}`, and returns right away a job to poll with "
+                    + "`/jobs/{jobId}` until it provides the download link.",
+            response = JobStatus.class, tags = {"clients", "jobs"})
+    public Response submitClientJob(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "The target language for the client library", required = true) @PathParam("language") String language,
+            @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts) {
+        return submitJob(request, language, opts, Generator.Type.CLIENT);
+    }
+
+    @POST
+    @Path("/jobs/servers/{framework}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(
+            value = "Queues the generation of a server library",
+            notes = "Accepts the same input as `/servers/{framework}`, and returns right away a job to poll with "
+                    + "`/jobs/{jobId}` until it provides the download link.",
+            response = JobStatus.class, tags = {"servers", "jobs"})
+    public Response submitServerJob(
+            @Context HttpServletRequest request,
+            @ApiParam(value = "framework", required = true) @PathParam("framework") String framework,
+            @ApiParam(value = "parameters", required = true) GeneratorInput opts) {
+        return submitJob(request, framework, opts, Generator.Type.SERVER);
+    }
+
+    @GET
+    @Path("/jobs/{jobId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Returns the state of a generation job", response = JobStatus.class, tags = "jobs")
+    public Response getJob(@Context HttpServletRequest request, @PathParam("jobId") String jobId) {
+        GenerationJobs.Job job = jobs.get(jobId);
+        if (job == null) {
+            return Response.status(404).build();
+        }
+        return Response.ok().entity(toStatus(job, getHost(request))).build();
+    }
+
+    @DELETE
+    @Path("/jobs/{jobId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Cancels a generation job", response = JobStatus.class, tags = "jobs")
+    public Response cancelJob(@Context HttpServletRequest request, @PathParam("jobId") String jobId) {
+        GenerationJobs.Job job = jobs.cancel(jobId);
+        if (job == null) {
+            return Response.status(404).build();
+        }
+        return Response.ok().entity(toStatus(job, getHost(request))).build();
+    }
+
+    @GET
+    @Path("/metrics")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Returns metrics of the generator service", response = Long.class,
+            responseContainer = "map", tags = "metrics")
+    public Response metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<String, Long>();
+        metrics.putAll(bundles.getMetrics());
+        metrics.putAll(Generator.getResultCache().getMetrics());
+        metrics.putAll(jobs.getMetrics());
+        metrics.put("downloads.bytes", downloads.getInFlight());
+        metrics.put("downloads.rejected", downloads.getRejected());
+        return Response.ok().entity(metrics).build();
+    }
+
     @GET
     @Path("/clients")
     @ApiOperation(value = "Gets languages supported by the client generator",
@@ -189,24 +328,172 @@ public class SwaggerResource {
         if (framework == null) {
             throw new BadRequestException("Framework is required");
         }
-        String filename = Generator.generateServer(framework, opts);
-        System.out.println("generated name: " + filename);
+        GenerationJobs.Job job;
+        try {
+            job = submit(framework, opts, Generator.Type.SERVER);
+        } catch (RejectedExecutionException e) {
+            return tooBusy();
+        }
+        String code = await(job);
 
         String host =
                 request.getScheme() + "://" + request.getServerName() + ":"
                         + request.getServerPort();
 
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(framework + "-server");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
+        if (code != null) {
             String link = host + "/api/gen/download/" + code;
             return Response.ok().entity(new ResponseCode(code, link)).build();
         } else {
             return Response.status(500).build();
         }
     }
+
+    private static Response submitJob(HttpServletRequest request, String language, GeneratorInput opts,
+                                      Generator.Type type) {
+        GenerationJobs.Job job;
+        try {
+            job = submit(language, opts, type);
+        } catch (RejectedExecutionException e) {
+            return tooBusy();
+        }
+        String host = getHost(request);
+        return Response.status(Response.Status.ACCEPTED)
+                .location(URI.create(host + "/api/gen/jobs/" + job.getId()))
+                .entity(toStatus(job, host)).build();
+    }
+
+    /**
+     * Stops the generation jobs and the eviction of the expired bundles, when the application is stopped.
+     */
+    public static void shutdown() {
+        jobs.shutdown();
+    }
+
+    private static GenerationJobs.Job submit(final String language, final GeneratorInput opts,
+                                             final Generator.Type type) {
+        return jobs.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                String filename = type == Generator.Type.CLIENT
+                        ? Generator.generateClient(language, opts) : Generator.generateServer(language, opts);
+                if (filename == null) {
+                    return null;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    // cancelled or timed out after the bundle was written, no one will download it
+                    FileUtils.deleteQuietly(new File(filename).getParentFile());
+                    return null;
+                }
+                String code = String.valueOf(UUID.randomUUID().toString());
+                Generated g = new Generated();
+                g.setFilename(filename);
+                g.setFriendlyName(language + (type == Generator.Type.CLIENT ? "-client" : "-server"));
+                bundles.put(code, g);
+                System.out.println(code + ", " + filename);
+                return code;
+            }
+        });
+    }
+
+    /**
+     * Waits for a job on the request thread, for the synchronous endpoints.
+     */
+    private static String await(GenerationJobs.Job job) throws Exception {
+        try {
+            return job.get();
+        } catch (InterruptedException e) {
+            jobs.cancel(job.getId());
+            throw e;
+        } catch (CancellationException e) {
+            if (job.getState() == GenerationJobs.State.TIMED_OUT) {
+                throw new WebApplicationException("Generation timed out", Response.Status.GATEWAY_TIMEOUT);
+            }
+            throw new WebApplicationException("Generation was cancelled", Response.Status.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            jobs.remove(job.getId());
+        }
+    }
+
+    private static JobStatus toStatus(GenerationJobs.Job job, String host) {
+        JobStatus status = new JobStatus();
+        status.setId(job.getId());
+        status.setState(job.getState().name());
+        status.setWaitMillis(job.getWaitMillis());
+        status.setRunMillis(job.getRunMillis());
+        switch (job.getState()) {
+            case SUCCEEDED:
+                if (job.getResult() != null) {
+                    status.setCode(job.getResult());
+                    status.setLink(host + "/api/gen/download/" + job.getResult());
+                }
+                break;
+            case FAILED:
+                status.setMessage(job.getFailure() instanceof ApiException
+                        ? job.getFailure().getMessage() : "Unable to generate");
+                break;
+            case TIMED_OUT:
+                status.setMessage("Generation timed out");
+                break;
+            default:
+                break;
+        }
+        return status;
+    }
+
+    private static Response tooBusy() {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header("Retry-After", RETRY_AFTER_SECONDS)
+                .entity(new ApiResponse(ApiResponse.TOO_BUSY, "Too many generations in progress")).build();
+    }
+
+    private static String getHost(HttpServletRequest request) {
+        String host = System.getenv("GENERATOR_HOST");
+
+        if (StringUtils.isBlank(host)) {
+            String scheme = request.getHeader("X-SSL");
+            String port = "";
+            if ("1".equals(scheme)) {
+                scheme = "https";
+            } else {
+                scheme = request.getScheme();
+                port = ":" + request.getServerPort();
+            }
+            host = scheme + "://" + request.getServerName() + port;
+        }
+        return host;
+    }
+
+    /**
+     * Releases the in flight bytes of a downloaded bundle and deletes its directory, once.
+     */
+    static class DownloadCleanup implements Closeable {
+        private final InFlightBytes downloads;
+        private final long length;
+        private final File dir;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        DownloadCleanup(InFlightBytes downloads, long length, File dir) {
+            this.downloads = downloads;
+            this.length = length;
+            this.dir = dir;
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            downloads.release(length);
+            try {
+                FileUtils.deleteDirectory(dir);
+            } catch (Exception e) {
+                System.out.println("failed to delete directory " + dir.getAbsolutePath());
+            }
+        }
+    }
 }
@@ -0,0 +1,42 @@
+package io.swagger.generator.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the settings of the service from environment variables.
+ */
+public final class Environment {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Environment.class);
+
+    private Environment() {
+    }
+
+    /**
+     * @param name The name of the variable
+     * @param defaultValue The value if the variable isn't set or isn't a number
+     * @return The value of the variable
+     */
+    public static long getLong(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("ignoring invalid " + name + " " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * @param name The name of the variable
+     * @return The value of the variable, or {@code null} if it isn't set
+     */
+    public static String getString(String name) {
+        String value = System.getenv(name);
+        return StringUtils.isBlank(value) ? null : value.trim();
+    }
+}
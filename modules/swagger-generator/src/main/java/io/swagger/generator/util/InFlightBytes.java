@@ -0,0 +1,55 @@
+package io.swagger.generator.util;
+
+/**
+ * Bounds the number of bytes of the bundles being downloaded at the same time, so that a burst of downloads of large
+ * bundles can't take all the disk and network bandwidth of the service.
+ *
+ * A bundle larger than the limit is let through when nothing else is being downloaded, as it would never be
+ * otherwise.
+ */
+public class InFlightBytes {
+    private final long limit;
+    private long inFlight;
+    private long rejected;
+
+    /**
+     * @param limit The maximum number of bytes in flight, or 0 for no limit
+     */
+    public InFlightBytes(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Reserves bytes for a download, to be released once it's complete.
+     *
+     * @param bytes The size of the download
+     * @return {@code true} if the bytes were reserved, {@code false} if the download would exceed the limit
+     */
+    public synchronized boolean tryAcquire(long bytes) {
+        if (limit > 0 && inFlight > 0 && inFlight + bytes > limit) {
+            rejected++;
+            return false;
+        }
+        inFlight += bytes;
+        return true;
+    }
+
+    public synchronized void release(long bytes) {
+        inFlight -= bytes;
+    }
+
+    public synchronized long getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return The number of downloads which exceeded the limit.
+     */
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+}
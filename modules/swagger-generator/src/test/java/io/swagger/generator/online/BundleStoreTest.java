@@ -0,0 +1,102 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.model.Generated;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class BundleStoreTest {
+    private File root;
+    private long now;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("bundle-store").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void bundlesExpire() throws IOException {
+        BundleStore store = newStore(1000, 0, 0);
+        Generated first = bundle("first", 10);
+        store.put("first", first);
+        now += 500;
+        store.put("second", bundle("second", 20));
+        assertEquals(store.getBytes(), 30);
+
+        now += 600;
+        assertNull(store.get("first"));
+        assertNotNull(store.get("second"));
+        assertFalse(new File(first.getFilename()).getParentFile().exists());
+        assertEquals(store.getEntries(), 1);
+        assertEquals(store.getBytes(), 20);
+        assertEquals(store.getEvictions(), 1);
+        assertEquals(store.getHits(), 1);
+        assertEquals(store.getMisses(), 1);
+    }
+
+    @Test
+    public void oldestBundlesAreEvicted() throws IOException {
+        BundleStore store = newStore(0, 2, 100);
+        Generated first = bundle("first", 10);
+        store.put("first", first);
+        store.put("second", bundle("second", 10));
+        store.put("third", bundle("third", 10));
+        assertNull(store.get("first"));
+        assertFalse(new File(first.getFilename()).exists());
+
+        store.put("large", bundle("large", 95));
+        assertEquals(store.getEntries(), 1);
+        assertEquals(store.getBytes(), 95);
+        assertEquals(store.getEvictions(), 3);
+    }
+
+    @Test
+    public void removedBundlesAreKept() throws IOException {
+        BundleStore store = newStore(1000, 0, 0);
+        Generated generated = bundle("downloaded", 10);
+        store.put("downloaded", generated);
+        assertEquals(store.remove("downloaded"), generated);
+        assertNull(store.remove("downloaded"));
+
+        now += 2000;
+        store.evictExpired();
+        assertTrue(new File(generated.getFilename()).exists());
+        assertEquals(store.getBytes(), 0);
+        assertEquals(store.getEvictions(), 0);
+    }
+
+    private BundleStore newStore(long timeToLiveMillis, int maxEntries, long maxBytes) {
+        return new BundleStore(timeToLiveMillis, maxEntries, maxBytes) {
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    private Generated bundle(String name, int size) throws IOException {
+        File folder = new File(root, name);
+        File file = new File(folder, name + "-bundle.zip");
+        FileUtils.writeByteArrayToFile(file, new byte[size]);
+        Generated generated = new Generated();
+        generated.setFilename(file.getAbsolutePath());
+        generated.setFriendlyName(name);
+        return generated;
+    }
+}
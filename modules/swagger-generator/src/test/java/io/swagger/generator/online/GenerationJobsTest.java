@@ -0,0 +1,233 @@
+package io.swagger.generator.online;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GenerationJobsTest {
+    private GenerationJobs jobs;
+
+    @AfterMethod
+    public void tearDown() {
+        if (jobs != null) {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void jobsSucceedOrFail() throws Exception {
+        jobs = new GenerationJobs(1, 10, 0, 60000);
+        GenerationJobs.Job succeeding = jobs.submit(result("code"));
+        GenerationJobs.Job failing = jobs.submit(new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                throw new IllegalStateException("broken spec");
+            }
+        });
+
+        assertEquals(succeeding.get(), "code");
+        try {
+            failing.get();
+            fail("the job should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        awaitState(succeeding, GenerationJobs.State.SUCCEEDED);
+        awaitState(failing, GenerationJobs.State.FAILED);
+        assertEquals(succeeding.getResult(), "code");
+        assertEquals(failing.getFailure().getMessage(), "broken spec");
+        assertSame(jobs.get(succeeding.getId()), succeeding);
+
+        jobs.remove(succeeding.getId());
+        assertNull(jobs.get(succeeding.getId()));
+        awaitMetric("jobs.succeeded", 1);
+        awaitMetric("jobs.failed", 1);
+    }
+
+    @Test
+    public void fullQueueRejectsJobs() throws Exception {
+        jobs = new GenerationJobs(1, 1, 0, 60000);
+        CountDownLatch release = new CountDownLatch(1);
+        GenerationJobs.Job running = jobs.submit(blocking(new CountDownLatch(1), release));
+        awaitState(running, GenerationJobs.State.RUNNING);
+        GenerationJobs.Job queued = jobs.submit(result("queued"));
+        try {
+            jobs.submit(result("rejected"));
+            fail("the queue should be full");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(queued.getState(), GenerationJobs.State.QUEUED);
+        assertEquals(jobs.getQueued(), 1);
+        assertEquals(jobs.getRunning(), 1);
+        awaitMetric("jobs.rejected", 1);
+
+        release.countDown();
+        assertEquals(queued.get(), "queued");
+    }
+
+    @Test
+    public void jobsCanBeCancelled() throws Exception {
+        jobs = new GenerationJobs(1, 10, 0, 60000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        GenerationJobs.Job running = jobs.submit(blocking(started, interrupted));
+        GenerationJobs.Job queued = jobs.submit(result("queued"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertSame(jobs.cancel(queued.getId()), queued);
+        assertEquals(queued.getState(), GenerationJobs.State.CANCELLED);
+        assertEquals(jobs.getQueued(), 0);
+        jobs.cancel(running.getId());
+        assertEquals(running.getState(), GenerationJobs.State.CANCELLED);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertNull(jobs.cancel("unknown"));
+        awaitMetric("jobs.cancelled", 2);
+    }
+
+    @Test
+    public void cancelledJobsRunUntilTheirTaskReturns() throws Exception {
+        jobs = new GenerationJobs(1, 10, 0, 60000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GenerationJobs.Job job = jobs.submit(uninterruptible(started, release));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        jobs.cancel(job.getId());
+        assertEquals(job.getState(), GenerationJobs.State.CANCELLED);
+        awaitMetric("jobs.cancelled", 1);
+        // the worker is still busy
+        assertEquals(jobs.getRunning(), 1);
+        assertEquals(jobs.getMetrics().get("jobs.running"), Long.valueOf(1));
+
+        release.countDown();
+        awaitMetric("jobs.running", 0);
+    }
+
+    @Test
+    public void jobsTimeOut() throws Exception {
+        jobs = new GenerationJobs(1, 10, 50, 60000);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        GenerationJobs.Job job = jobs.submit(blocking(new CountDownLatch(1), interrupted));
+        try {
+            job.get(5, TimeUnit.SECONDS);
+            fail("the job should time out");
+        } catch (CancellationException e) {
+            // expected
+        }
+        assertEquals(job.getState(), GenerationJobs.State.TIMED_OUT);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        awaitState(job, GenerationJobs.State.TIMED_OUT);
+        awaitMetric("jobs.timedOut", 1);
+    }
+
+    @Test
+    public void finishedJobsExpire() throws Exception {
+        final long[] now = {1000};
+        jobs = new GenerationJobs(1, 10, 0, 1000) {
+            @Override
+            protected long currentTimeMillis() {
+                return now[0];
+            }
+        };
+        GenerationJobs.Job job = jobs.submit(result("code"));
+        job.get();
+        awaitState(job, GenerationJobs.State.SUCCEEDED);
+        now[0] += 500;
+        assertSame(jobs.get(job.getId()), job);
+        now[0] += 1000;
+        assertNull(jobs.get(job.getId()));
+    }
+
+    private static Callable<String> result(final String result) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                return result;
+            }
+        };
+    }
+
+    /**
+     * A job which runs until it's interrupted, or released.
+     */
+    private static Callable<String> blocking(final CountDownLatch started, final CountDownLatch interruptedOrReleased) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                started.countDown();
+                try {
+                    interruptedOrReleased.await();
+                } catch (InterruptedException e) {
+                    interruptedOrReleased.countDown();
+                }
+                return "blocking";
+            }
+        };
+    }
+
+    /**
+     * A job which ignores interrupts, like a blocking read, until it's released.
+     */
+    private static Callable<String> uninterruptible(final CountDownLatch started, final CountDownLatch released) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                started.countDown();
+                while (true) {
+                    try {
+                        released.await();
+                        return "uninterruptible";
+                    } catch (InterruptedException e) {
+                        // keeps going
+                    }
+                }
+            }
+        };
+    }
+
+    @Test
+    public void housekeepingTasksRunUntilShutdown() throws Exception {
+        jobs = new GenerationJobs(1, 10, 0, 60000);
+        final CountDownLatch runs = new CountDownLatch(3);
+        jobs.schedule(new Runnable() {
+            @Override
+            public void run() {
+                runs.countDown();
+                throw new IllegalStateException("keeps running anyway");
+            }
+        }, 10);
+
+        assertTrue(runs.await(5, TimeUnit.SECONDS));
+        jobs.shutdown();
+    }
+
+    private void awaitMetric(String name, long value) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (jobs.getMetrics().get(name) != value && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(jobs.getMetrics().get(name), Long.valueOf(value));
+    }
+
+    private static void awaitState(GenerationJobs.Job job, GenerationJobs.State state) throws InterruptedException {
+        // the state of a finished job is updated right after the result is handed out
+        long deadline = System.currentTimeMillis() + 5000;
+        while (job.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(job.getState(), state);
+    }
+}
@@ -0,0 +1,112 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ResultCacheTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private File root;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("result-cache").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void keyIgnoresTheOrderOfFields() throws IOException {
+        JsonNode spec = MAPPER.readTree("{\"swagger\":\"2.0\",\"info\":{\"title\":\"t\",\"version\":\"1\"},\"paths\":{}}");
+        JsonNode reordered = MAPPER.readTree("{\"paths\":{},\"info\":{\"version\":\"1\",\"title\":\"t\"},\"swagger\":\"2.0\"}");
+        Map<String, String> options = Collections.singletonMap("modelPackage", "com.example");
+
+        String key = ResultCache.key(spec, "java", "client", options);
+        assertEquals(ResultCache.key(reordered, "java", "client", options), key);
+        assertNotEquals(ResultCache.key(spec, "java", "server", options), key);
+        assertNotEquals(ResultCache.key(spec, "python", "client", options), key);
+        assertNotEquals(ResultCache.key(spec, "java", "client", null), key);
+    }
+
+    @Test
+    public void remoteReferences() throws IOException {
+        assertFalse(ResultCache.hasRemoteReferences(MAPPER.readTree("{\"definitions\":{\"A\":{\"$ref\":\"#/definitions/B\"}}}")));
+        assertTrue(ResultCache.hasRemoteReferences(MAPPER.readTree("{\"definitions\":{\"A\":{\"$ref\":\"common.json#/B\"}}}")));
+        assertTrue(ResultCache.hasRemoteReferences(MAPPER.readTree("{\"paths\":{\"/a\":{\"get\":{\"parameters\":[{\"$ref\":\"http://example.com/p.json\"}]}}}}")));
+    }
+
+    @Test
+    public void hitsCopyTheCachedBundle() throws IOException {
+        ResultCache cache = new ResultCache(new File(root, "cache"), 10, 0);
+        File target = new File(root, "request/bundle.zip");
+        target.getParentFile().mkdirs();
+        assertFalse(cache.copyTo("key", target));
+
+        File bundle = bundle("generated", 10);
+        cache.put("key", bundle);
+        FileUtils.deleteQuietly(bundle);
+        assertTrue(cache.copyTo("key", target));
+        assertEquals(FileUtils.readFileToByteArray(target), new byte[10]);
+        assertEquals(cache.getHits(), 1);
+        assertEquals(cache.getMisses(), 1);
+        assertEquals(cache.getBytes(), 10);
+    }
+
+    @Test
+    public void leastRecentlyUsedBundlesAreEvicted() throws IOException {
+        ResultCache cache = new ResultCache(new File(root, "cache"), 2, 25);
+        File target = new File(root, "bundle.zip");
+        cache.put("a", bundle("a", 10));
+        cache.put("b", bundle("b", 10));
+        assertTrue(cache.copyTo("a", target));
+        cache.put("c", bundle("c", 10));
+
+        assertFalse(cache.copyTo("b", target));
+        assertTrue(cache.copyTo("a", target));
+        assertEquals(cache.getEntries(), 2);
+        assertEquals(cache.getEvictions(), 1);
+
+        // larger than the cache
+        cache.put("d", bundle("d", 30));
+        assertFalse(cache.copyTo("d", target));
+
+        cache.put("e", bundle("e", 20));
+        assertEquals(cache.getEntries(), 1);
+        assertEquals(cache.getBytes(), 20);
+        assertEquals(cache.getEvictions(), 3);
+    }
+
+    @Test
+    public void bundlesArePersisted() throws IOException {
+        File directory = new File(root, "cache");
+        new ResultCache(directory, 10, 0).put("key", bundle("generated", 10));
+
+        ResultCache cache = new ResultCache(directory, 10, 0);
+        assertEquals(cache.getEntries(), 1);
+        assertTrue(cache.copyTo("key", new File(root, "bundle.zip")));
+    }
+
+    private File bundle(String name, int size) throws IOException {
+        File file = new File(root, name + "-bundle.zip");
+        FileUtils.writeByteArrayToFile(file, new byte[size]);
+        return file;
+    }
+}
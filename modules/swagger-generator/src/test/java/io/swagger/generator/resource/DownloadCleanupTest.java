@@ -0,0 +1,31 @@
+package io.swagger.generator.resource;
+
+import io.swagger.generator.util.InFlightBytes;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DownloadCleanupTest {
+
+    @Test
+    public void releasesTheBytesAndDeletesTheBundleOnce() throws Exception {
+        File dir = Files.createTempDirectory("bundle").toFile();
+        assertTrue(new File(dir, "petstore-generated.zip").createNewFile());
+        InFlightBytes downloads = new InFlightBytes(0);
+        assertTrue(downloads.tryAcquire(100));
+        assertTrue(downloads.tryAcquire(10));
+
+        SwaggerResource.DownloadCleanup cleanup = new SwaggerResource.DownloadCleanup(downloads, 100, dir);
+        cleanup.close();
+        assertEquals(downloads.getInFlight(), 10);
+        assertFalse(dir.exists());
+
+        cleanup.close();
+        assertEquals(downloads.getInFlight(), 10);
+    }
+}
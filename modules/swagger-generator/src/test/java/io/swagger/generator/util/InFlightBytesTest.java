@@ -0,0 +1,42 @@
+package io.swagger.generator.util;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class InFlightBytesTest {
+
+    @Test
+    public void rejectsDownloadsOverTheLimit() {
+        InFlightBytes downloads = new InFlightBytes(100);
+        assertTrue(downloads.tryAcquire(60));
+        assertTrue(downloads.tryAcquire(40));
+        assertFalse(downloads.tryAcquire(1));
+        assertEquals(downloads.getRejected(), 1);
+
+        downloads.release(60);
+        assertTrue(downloads.tryAcquire(50));
+        assertEquals(downloads.getInFlight(), 90);
+    }
+
+    @Test
+    public void letsLargeBundlesThroughAlone() {
+        InFlightBytes downloads = new InFlightBytes(100);
+        assertTrue(downloads.tryAcquire(500));
+        assertFalse(downloads.tryAcquire(10));
+
+        downloads.release(500);
+        assertTrue(downloads.tryAcquire(10));
+        assertFalse(downloads.tryAcquire(500));
+    }
+
+    @Test
+    public void unlimited() {
+        InFlightBytes downloads = new InFlightBytes(0);
+        assertTrue(downloads.tryAcquire(Integer.MAX_VALUE));
+        assertTrue(downloads.tryAcquire(Integer.MAX_VALUE));
+        assertEquals(downloads.getRejected(), 0);
+    }
+}
@@ -1,8 +0,0 @@
-/*___Generated_by_IDEA___*/
-
-package io.swagger.client;
-
-/* This stub is only used by the IDE. It is NOT the BuildConfig class actually packed into the APK */
-public final class BuildConfig {
-  public final static boolean DEBUG = Boolean.parseBoolean(null);
-}
\ No newline at end of file
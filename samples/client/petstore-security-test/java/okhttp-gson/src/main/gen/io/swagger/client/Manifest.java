@@ -1,7 +0,0 @@
-/*___Generated_by_IDEA___*/
-
-package io.swagger.client;
-
-/* This stub is only used by the IDE. It is NOT the Manifest class actually packed into the APK */
-public final class Manifest {
-}
\ No newline at end of file
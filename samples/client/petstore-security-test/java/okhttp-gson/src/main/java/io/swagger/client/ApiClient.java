@@ -13,6 +13,7 @@
 
 package io.swagger.client;
 
+import com.google.gson.JsonIOException;
 import com.squareup.okhttp.*;
 import com.squareup.okhttp.internal.http.HttpMethod;
 import com.squareup.okhttp.logging.HttpLoggingInterceptor;
@@ -27,6 +28,7 @@ import javax.net.ssl.*;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Type;
 import java.net.URLConnection;
@@ -52,6 +54,8 @@ import io.swagger.client.auth.OAuth;
 
 public class ApiClient {
 
+    private static final Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
+
     private String basePath = "https://petstore.swagger.io *_/ ' \" =end -- \\r\\n \\n \\r/v2 *_/ ' \" =end -- \\r\\n \\n \\r";
     private boolean debugging = false;
     private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
@@ -78,6 +82,10 @@ public class ApiClient {
      */
     public ApiClient() {
         httpClient = new OkHttpClient();
+        setConnectionPool(20, 300000);
+        setMaxRequestsPerHost(10);
+        setHttp2Enabled(true);
+        setResponseCompression(true);
 
 
         verifyingSsl = true;
@@ -482,6 +490,81 @@ public class ApiClient {
         return this;
     }
 
+    /**
+     * Replace the connection pool of the HTTP client. Connections are reused across calls
+     * until they stayed idle longer than the keep-alive duration.
+     *
+     * @param maxIdleConnections Number of idle connections kept open
+     * @param keepAliveDuration Keep-alive duration of an idle connection in milliseconds
+     * @return Api client
+     */
+    public ApiClient setConnectionPool(int maxIdleConnections, long keepAliveDuration) {
+        httpClient.setConnectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration));
+        return this;
+    }
+
+    /**
+     * Get the maximum number of asynchronous calls running at once against a host.
+     *
+     * @return Maximum number of requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return httpClient.getDispatcher().getMaxRequestsPerHost();
+    }
+
+    /**
+     * Set the maximum number of asynchronous calls running at once against a host,
+     * further calls are queued until one completes.
+     *
+     * @param maxRequestsPerHost Maximum number of requests per host
+     * @return Api client
+     */
+    public ApiClient setMaxRequestsPerHost(int maxRequestsPerHost) {
+        httpClient.getDispatcher().setMaxRequestsPerHost(maxRequestsPerHost);
+        return this;
+    }
+
+    /**
+     * Check whether HTTP/2 is negotiated with the servers that support it.
+     *
+     * @return True if HTTP/2 is enabled
+     */
+    public boolean isHttp2Enabled() {
+        return httpClient.getProtocols().contains(Protocol.HTTP_2);
+    }
+
+    /**
+     * Enable/disable HTTP/2, which multiplexes the calls to a host over a single connection.
+     * HTTP/1.1 is always kept as the fallback.
+     *
+     * @param http2Enabled True to enable HTTP/2
+     * @return Api client
+     */
+    public ApiClient setHttp2Enabled(boolean http2Enabled) {
+        if (http2Enabled) {
+            httpClient.setProtocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        } else {
+            httpClient.setProtocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        return this;
+    }
+
+    /**
+     * Enable/disable response compression. When enabled the responses are requested
+     * gzip-encoded and decoded transparently by the HTTP client.
+     *
+     * @param responseCompression True to enable response compression
+     * @return Api client
+     */
+    public ApiClient setResponseCompression(boolean responseCompression) {
+        if (responseCompression) {
+            defaultHeaderMap.remove("Accept-Encoding");
+        } else {
+            addDefaultHeader("Accept-Encoding", "identity");
+        }
+        return this;
+    }
+
     /**
      * Format the given parameter object into string.
      *
@@ -601,8 +684,7 @@ public class ApiClient {
      * @return True if the given MIME is JSON, false otherwise.
      */
     public boolean isJsonMime(String mime) {
-      String jsonMime = "(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$";
-      return mime != null && (mime.matches(jsonMime) || mime.equals("*/*"));
+      return mime != null && (JSON_MIME_PATTERN.matcher(mime).matches() || mime.equals("*/*"));
     }
 
     /**
@@ -690,12 +772,35 @@ public class ApiClient {
             return (T) downloadFileFromResponse(response);
         }
 
+        if (response.body() == null) {
+            return null;
+        }
+
+        String contentType = response.headers().get("Content-Type");
+        if (contentType == null) {
+            // ensuring a default content type
+            contentType = "application/json";
+        }
+        if (isJsonMime(contentType) && !returnType.equals(String.class)) {
+            // Parse the JSON as it is read, rather than from a copy of the whole body as a String.
+            // An empty body is deserialized to null.
+            try {
+                Reader reader = response.body().charStream();
+                try {
+                    return json.deserialize(reader, returnType);
+                } finally {
+                    response.body().close();
+                }
+            } catch (IOException e) {
+                throw new ApiException(e);
+            } catch (JsonIOException e) {
+                throw new ApiException(e);
+            }
+        }
+
         String respBody;
         try {
-            if (response.body() != null)
-                respBody = response.body().string();
-            else
-                respBody = null;
+            respBody = response.body().string();
         } catch (IOException e) {
             throw new ApiException(e);
         }
@@ -704,12 +809,8 @@ public class ApiClient {
             return null;
         }
 
-        String contentType = response.headers().get("Content-Type");
-        if (contentType == null) {
-            // ensuring a default content type
-            contentType = "application/json";
-        }
         if (isJsonMime(contentType)) {
+            // String return type: the raw body is returned when it isn't a JSON string
             return json.deserialize(respBody, returnType);
         } else if (returnType.equals(String.class)) {
             // Expecting string, return the raw response body.
@@ -76,17 +76,8 @@ public class FakeApi {
         if (testCodeInjectEndRnNR != null)
         localVarFormParams.put("test code inject */ &#39; &quot; &#x3D;end -- \r\n \n \r", testCodeInjectEndRnNR);
 
-        final String[] localVarAccepts = {
-            "application/json", "*_/ '  =end --       "
-        };
-        final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-        if (localVarAccept != null) localVarHeaderParams.put("Accept", localVarAccept);
-
-        final String[] localVarContentTypes = {
-            "application/json", "*_/ '  =end --       "
-        };
-        final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-        localVarHeaderParams.put("Content-Type", localVarContentType);
+        localVarHeaderParams.put("Accept", "application/json");
+        localVarHeaderParams.put("Content-Type", "application/json");
 
         if(progressListener != null) {
             apiClient.getHttpClient().networkInterceptors().add(new com.squareup.okhttp.Interceptor() {
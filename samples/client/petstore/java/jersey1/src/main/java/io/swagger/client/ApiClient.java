@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.TimeZone;
+import java.util.regex.Pattern;
 
 import java.net.URLEncoder;
 
@@ -57,6 +58,8 @@ import io.swagger.client.auth.OAuth;
 
 
 public class ApiClient {
+  private static final Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
+
   private Map<String, String> defaultHeaderMap = new HashMap<String, String>();
   private String basePath = "http://petstore.swagger.io:80/v2";
   private boolean debugging = false;
@@ -481,8 +484,7 @@ public class ApiClient {
    * @return True if MIME type is boolean
    */
   public boolean isJsonMime(String mime) {
-    String jsonMime = "(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$";
-    return mime != null && (mime.matches(jsonMime) || mime.equals("*/*"));
+    return mime != null && (JSON_MIME_PATTERN.matcher(mime).matches() || mime.equals("*/*"));
   }
 
   /**
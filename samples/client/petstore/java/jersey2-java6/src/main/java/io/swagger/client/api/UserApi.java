@@ -71,15 +71,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -122,15 +115,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -173,15 +159,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -225,15 +204,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -278,15 +250,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -339,15 +304,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -383,15 +341,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -442,15 +393,8 @@ public class UserApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -52,6 +52,8 @@ import io.swagger.client.auth.OAuth;
 
 
 public class ApiClient {
+  private static final Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
+
   protected Map<String, String> defaultHeaderMap = new HashMap<String, String>();
   protected String basePath = "http://petstore.swagger.io:80/v2";
   protected boolean debugging = false;
@@ -443,8 +445,7 @@ public class ApiClient {
    * @return True if the MIME type is JSON
    */
   public boolean isJsonMime(String mime) {
-    String jsonMime = "(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$";
-    return mime != null && (mime.matches(jsonMime) || mime.equals("*/*"));
+    return mime != null && (JSON_MIME_PATTERN.matcher(mime).matches() || mime.equals("*/*"));
   }
 
   /**
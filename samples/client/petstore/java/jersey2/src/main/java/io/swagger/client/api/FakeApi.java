@@ -72,15 +72,8 @@ public class FakeApi {
 
     
     
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -119,15 +112,8 @@ public class FakeApi {
 
     
     
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -166,15 +152,8 @@ public class FakeApi {
 
     
     
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -213,15 +192,8 @@ public class FakeApi {
 
     
     
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -272,15 +244,8 @@ public class FakeApi {
 
     
     
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -324,15 +289,8 @@ public class FakeApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -444,15 +402,8 @@ if (password != null)
 if (paramCallback != null)
       localVarFormParams.put("callback", paramCallback);
 
-    final String[] localVarAccepts = {
-      "application/xml; charset=utf-8", "application/json; charset=utf-8"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/xml; charset=utf-8", "application/json; charset=utf-8"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json; charset=utf-8";
+    final String localVarContentType = "application/json; charset=utf-8";
 
     String[] localVarAuthNames = new String[] { "http_basic_test" };
 
@@ -517,15 +468,8 @@ if (enumFormString != null)
 if (enumQueryDouble != null)
       localVarFormParams.put("enum_query_double", enumQueryDouble);
 
-    final String[] localVarAccepts = {
-      "*/*"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "*/*"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "*/*";
+    final String localVarContentType = "*/*";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -568,15 +512,8 @@ if (enumQueryDouble != null)
 
     
     
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -630,15 +567,8 @@ if (enumQueryDouble != null)
 if (param2 != null)
       localVarFormParams.put("param2", param2);
 
-    final String[] localVarAccepts = {
-      
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] {  };
 
@@ -72,15 +72,8 @@ public class FakeClassnameTags123Api {
 
     
     
-    final String[] localVarAccepts = {
-      "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "api_key_query" };
 
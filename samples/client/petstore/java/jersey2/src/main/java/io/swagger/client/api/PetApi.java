@@ -73,15 +73,8 @@ public class PetApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json", "application/xml"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
@@ -129,15 +122,8 @@ public class PetApi {
       localVarHeaderParams.put("api_key", apiClient.parameterToString(apiKey));
 
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
@@ -182,15 +168,8 @@ public class PetApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
@@ -239,15 +218,8 @@ public class PetApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
@@ -292,15 +264,8 @@ public class PetApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "api_key" };
 
@@ -343,15 +308,8 @@ public class PetApi {
 
     
     
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/json", "application/xml"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
@@ -403,15 +361,8 @@ public class PetApi {
 if (status != null)
       localVarFormParams.put("status", status);
 
-    final String[] localVarAccepts = {
-      "application/xml", "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "application/x-www-form-urlencoded"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/x-www-form-urlencoded";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
@@ -464,15 +415,8 @@ if (status != null)
 if (file != null)
       localVarFormParams.put("file", file);
 
-    final String[] localVarAccepts = {
-      "application/json"
-    };
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-
-    final String[] localVarContentTypes = {
-      "multipart/form-data"
-    };
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "multipart/form-data";
 
     String[] localVarAuthNames = new String[] { "petstore_auth" };
 
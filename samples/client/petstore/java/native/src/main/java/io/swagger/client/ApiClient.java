@@ -0,0 +1,710 @@
+package io.swagger.client;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.DateFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+
+import io.swagger.client.auth.Authentication;
+import io.swagger.client.auth.HttpBasicAuth;
+import io.swagger.client.auth.ApiKeyAuth;
+import io.swagger.client.auth.OAuth;
+
+/**
+ * API client backed by the JDK {@link HttpClient}. Calls are sent with
+ * {@link HttpClient#sendAsync} and complete a {@link CompletableFuture}, so no thread is
+ * held while a request is in flight. The HttpClient owns the connection pool and multiplexes
+ * requests over HTTP/2 when the server supports it, so share one ApiClient (the default one
+ * from {@link Configuration} for instance) rather than creating one per call.
+ */
+
+public class ApiClient {
+  private static final Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
+
+  protected Map<String, String> defaultHeaderMap = new HashMap<String, String>();
+  protected String basePath = "http://petstore.swagger.io:80/v2";
+  protected Duration readTimeout = null;
+  protected String tempFolderPath = null;
+
+  protected HttpClient httpClient;
+  protected ObjectMapper mapper;
+
+  protected Map<String, Authentication> authentications;
+
+  protected DateFormat dateFormat;
+
+  public ApiClient() {
+    this(createDefaultHttpClientBuilder().build());
+  }
+
+  /**
+   * @param httpClient The HttpClient to send the requests with
+   */
+  public ApiClient(HttpClient httpClient) {
+    this.httpClient = httpClient;
+    this.dateFormat = new RFC3339DateFormat();
+    this.mapper = createDefaultObjectMapper();
+    this.mapper.setDateFormat(dateFormat);
+
+    // Set default User-Agent.
+    setUserAgent("Swagger-Codegen/1.0.0/java");
+
+    // Setup authentications (key: authentication name, value: authentication).
+    authentications = new HashMap<String, Authentication>();
+    authentications.put("api_key", new ApiKeyAuth("header", "api_key"));
+    authentications.put("api_key_query", new ApiKeyAuth("query", "api_key_query"));
+    authentications.put("http_basic_test", new HttpBasicAuth());
+    authentications.put("petstore_auth", new OAuth());
+    // Prevent the authentications from being modified.
+    authentications = Collections.unmodifiableMap(authentications);
+  }
+
+  /**
+   * The builder the default HttpClient is created from: HTTP/2 with a fallback to HTTP/1.1,
+   * redirects followed and a 10 seconds connect timeout. Start from it to set an executor,
+   * a proxy or an SSL context and pass the result to {@link #ApiClient(HttpClient)}.
+   * @return HttpClient builder
+   */
+  public static HttpClient.Builder createDefaultHttpClientBuilder() {
+    return HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_2)
+      .followRedirects(HttpClient.Redirect.NORMAL)
+      .connectTimeout(Duration.ofSeconds(10));
+  }
+
+  /**
+   * The ObjectMapper the request bodies are written and the responses read with.
+   * @return ObjectMapper
+   */
+  public static ObjectMapper createDefaultObjectMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+    mapper.registerModule(new JavaTimeModule());
+    return mapper;
+  }
+
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  public ApiClient setHttpClient(HttpClient httpClient) {
+    this.httpClient = httpClient;
+    return this;
+  }
+
+  public ObjectMapper getObjectMapper() {
+    return mapper;
+  }
+
+  public ApiClient setObjectMapper(ObjectMapper mapper) {
+    this.mapper = mapper;
+    return this;
+  }
+
+  public String getBasePath() {
+    return basePath;
+  }
+
+  public ApiClient setBasePath(String basePath) {
+    this.basePath = basePath;
+    return this;
+  }
+
+  /**
+   * Get authentications (key: authentication name, value: authentication).
+   * @return Map of authentication object
+   */
+  public Map<String, Authentication> getAuthentications() {
+    return authentications;
+  }
+
+  /**
+   * Get authentication for the given name.
+   *
+   * @param authName The authentication name
+   * @return The authentication, null if not found
+   */
+  public Authentication getAuthentication(String authName) {
+    return authentications.get(authName);
+  }
+
+  /**
+   * Helper method to set username for the first HTTP basic authentication.
+   * @param username Username
+   */
+  public void setUsername(String username) {
+    for (Authentication auth : authentications.values()) {
+      if (auth instanceof HttpBasicAuth) {
+        ((HttpBasicAuth) auth).setUsername(username);
+        return;
+      }
+    }
+    throw new RuntimeException("No HTTP basic authentication configured!");
+  }
+
+  /**
+   * Helper method to set password for the first HTTP basic authentication.
+   * @param password Password
+   */
+  public void setPassword(String password) {
+    for (Authentication auth : authentications.values()) {
+      if (auth instanceof HttpBasicAuth) {
+        ((HttpBasicAuth) auth).setPassword(password);
+        return;
+      }
+    }
+    throw new RuntimeException("No HTTP basic authentication configured!");
+  }
+
+  /**
+   * Helper method to set API key value for the first API key authentication.
+   * @param apiKey API key
+   */
+  public void setApiKey(String apiKey) {
+    for (Authentication auth : authentications.values()) {
+      if (auth instanceof ApiKeyAuth) {
+        ((ApiKeyAuth) auth).setApiKey(apiKey);
+        return;
+      }
+    }
+    throw new RuntimeException("No API key authentication configured!");
+  }
+
+  /**
+   * Helper method to set API key prefix for the first API key authentication.
+   * @param apiKeyPrefix API key prefix
+   */
+  public void setApiKeyPrefix(String apiKeyPrefix) {
+    for (Authentication auth : authentications.values()) {
+      if (auth instanceof ApiKeyAuth) {
+        ((ApiKeyAuth) auth).setApiKeyPrefix(apiKeyPrefix);
+        return;
+      }
+    }
+    throw new RuntimeException("No API key authentication configured!");
+  }
+
+  /**
+   * Helper method to set access token for the first OAuth2 authentication.
+   * @param accessToken Access token
+   */
+  public void setAccessToken(String accessToken) {
+    for (Authentication auth : authentications.values()) {
+      if (auth instanceof OAuth) {
+        ((OAuth) auth).setAccessToken(accessToken);
+        return;
+      }
+    }
+    throw new RuntimeException("No OAuth2 authentication configured!");
+  }
+
+  /**
+   * Set the User-Agent header's value (by adding to the default header map).
+   * @param userAgent Http user agent
+   * @return API client
+   */
+  public ApiClient setUserAgent(String userAgent) {
+    addDefaultHeader("User-Agent", userAgent);
+    return this;
+  }
+
+  /**
+   * Add a default header.
+   *
+   * @param key The header's key
+   * @param value The header's value
+   * @return API client
+   */
+  public ApiClient addDefaultHeader(String key, String value) {
+    defaultHeaderMap.put(key, value);
+    return this;
+  }
+
+  /**
+   * The path of temporary folder used to store downloaded files from endpoints
+   * with file response. The default value is <code>null</code>, i.e. using
+   * the system's default tempopary folder.
+   *
+   * @return Temp folder path
+   */
+  public String getTempFolderPath() {
+    return tempFolderPath;
+  }
+
+  /**
+   * Set temp folder path
+   * @param tempFolderPath Temp folder path
+   * @return API client
+   */
+  public ApiClient setTempFolderPath(String tempFolderPath) {
+    this.tempFolderPath = tempFolderPath;
+    return this;
+  }
+
+  /**
+   * Read timeout, from sending the request to receiving the response headers.
+   * @return Read timeout, null for none
+   */
+  public Duration getReadTimeout() {
+    return readTimeout;
+  }
+
+  /**
+   * Set the read timeout applied to each request. The connect timeout is set on the
+   * HttpClient, see {@link #createDefaultHttpClientBuilder()}.
+   * @param readTimeout Read timeout, null for none
+   * @return API client
+   */
+  public ApiClient setReadTimeout(Duration readTimeout) {
+    this.readTimeout = readTimeout;
+    return this;
+  }
+
+  /**
+   * Get the date format used to parse/format date parameters.
+   * @return Date format
+   */
+  public DateFormat getDateFormat() {
+    return dateFormat;
+  }
+
+  /**
+   * Set the date format used to parse/format date parameters.
+   * @param dateFormat Date format
+   * @return API client
+   */
+  public ApiClient setDateFormat(DateFormat dateFormat) {
+    this.dateFormat = dateFormat;
+    // also set the date format for model (de)serialization with Date properties
+    this.mapper.setDateFormat((DateFormat) dateFormat.clone());
+    return this;
+  }
+
+  /**
+   * Format the given Date object into string.
+   * @param date Date
+   * @return Date in string format
+   */
+  public String formatDate(Date date) {
+    return dateFormat.format(date);
+  }
+
+  /**
+   * Format the given parameter object into string.
+   * @param param Object
+   * @return Object in string format
+   */
+  public String parameterToString(Object param) {
+    if (param == null) {
+      return "";
+    } else if (param instanceof Date) {
+      return formatDate((Date) param);
+    } else if (param instanceof Collection) {
+      StringBuilder b = new StringBuilder();
+      for(Object o : (Collection)param) {
+        if(b.length() > 0) {
+          b.append(',');
+        }
+        b.append(String.valueOf(o));
+      }
+      return b.toString();
+    } else {
+      return String.valueOf(param);
+    }
+  }
+
+  /*
+   * Format to {@code Pair} objects.
+   * @param collectionFormat Collection format
+   * @param name Name
+   * @param value Value
+   * @return List of pairs
+   */
+  public List<Pair> parameterToPairs(String collectionFormat, String name, Object value){
+    List<Pair> params = new ArrayList<Pair>();
+
+    // preconditions
+    if (name == null || name.isEmpty() || value == null) return params;
+
+    Collection valueCollection;
+    if (value instanceof Collection) {
+      valueCollection = (Collection) value;
+    } else {
+      params.add(new Pair(name, parameterToString(value)));
+      return params;
+    }
+
+    if (valueCollection.isEmpty()){
+      return params;
+    }
+
+    // get the collection format (default: csv)
+    String format = (collectionFormat == null || collectionFormat.isEmpty() ? "csv" : collectionFormat);
+
+    // create the params based on the collection format
+    if ("multi".equals(format)) {
+      for (Object item : valueCollection) {
+        params.add(new Pair(name, parameterToString(item)));
+      }
+
+      return params;
+    }
+
+    String delimiter = ",";
+
+    if ("csv".equals(format)) {
+      delimiter = ",";
+    } else if ("ssv".equals(format)) {
+      delimiter = " ";
+    } else if ("tsv".equals(format)) {
+      delimiter = "\t";
+    } else if ("pipes".equals(format)) {
+      delimiter = "|";
+    }
+
+    StringBuilder sb = new StringBuilder() ;
+    for (Object item : valueCollection) {
+      sb.append(delimiter);
+      sb.append(parameterToString(item));
+    }
+
+    params.add(new Pair(name, sb.substring(1)));
+
+    return params;
+  }
+
+  /**
+   * Check if the given MIME is a JSON MIME.
+   * JSON MIME examples:
+   *   application/json
+   *   application/json; charset=UTF8
+   *   APPLICATION/JSON
+   *   application/vnd.company+json
+   * "* / *" is also default to JSON
+   * @param mime MIME
+   * @return True if the MIME type is JSON
+   */
+  public boolean isJsonMime(String mime) {
+    return mime != null && (JSON_MIME_PATTERN.matcher(mime).matches() || mime.equals("*/*"));
+  }
+
+  /**
+   * Escape the given string to be used as URL query value.
+   * @param str String
+   * @return Escaped string
+   */
+  public String escapeString(String str) {
+    return URLEncoder.encode(str, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+  }
+
+  /**
+   * Serialize the request body according to the given Content-Type: JSON through Jackson,
+   * URL encoded form parameters, files and byte arrays as they are. Multipart bodies are
+   * built by {@link #serializeMultipart(Map, String)}.
+   * @param obj Object
+   * @param formParams Form parameters
+   * @param contentType Context type
+   * @return Body publisher
+   * @throws ApiException API exception
+   */
+  public HttpRequest.BodyPublisher serialize(Object obj, Map<String, Object> formParams, String contentType) throws ApiException {
+    try {
+      if (contentType.startsWith("application/x-www-form-urlencoded")) {
+        StringBuilder form = new StringBuilder();
+        for (Entry<String, Object> param : formParams.entrySet()) {
+          if (form.length() > 0) {
+            form.append('&');
+          }
+          form.append(escapeString(param.getKey())).append('=').append(escapeString(parameterToString(param.getValue())));
+        }
+        return HttpRequest.BodyPublishers.ofString(form.toString());
+      } else if (obj == null) {
+        return HttpRequest.BodyPublishers.noBody();
+      } else if (obj instanceof File) {
+        return HttpRequest.BodyPublishers.ofFile(((File) obj).toPath());
+      } else if (obj instanceof byte[]) {
+        return HttpRequest.BodyPublishers.ofByteArray((byte[]) obj);
+      } else if (isJsonMime(contentType)) {
+        return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(obj));
+      } else {
+        return HttpRequest.BodyPublishers.ofString(parameterToString(obj));
+      }
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+
+  /**
+   * Build a multipart/form-data body from the form parameters, files being sent as
+   * application/octet-stream parts.
+   * @param formParams Form parameters
+   * @param boundary The boundary between the parts
+   * @return Body publisher
+   * @throws ApiException if a file can't be read
+   */
+  public HttpRequest.BodyPublisher serializeMultipart(Map<String, Object> formParams, String boundary) throws ApiException {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    try {
+      for (Entry<String, Object> param : formParams.entrySet()) {
+        body.write(("--" + boundary + "\r\n").getBytes(StandardCharsets.UTF_8));
+        if (param.getValue() instanceof File) {
+          File file = (File) param.getValue();
+          body.write(("Content-Disposition: form-data; name=\"" + param.getKey() + "\"; filename=\"" + file.getName() + "\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+          Files.copy(file.toPath(), body);
+        } else {
+          body.write(("Content-Disposition: form-data; name=\"" + param.getKey() + "\"\r\n\r\n"
+            + parameterToString(param.getValue())).getBytes(StandardCharsets.UTF_8));
+        }
+        body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+      }
+      body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+    return HttpRequest.BodyPublishers.ofByteArray(body.toByteArray());
+  }
+
+  /**
+   * Deserialize the response body, reading JSON straight from the body stream so the
+   * response is never buffered as a whole.
+   * @param <T> Type
+   * @param response HTTP response
+   * @param returnType The type to deserialize into
+   * @return The deserialized Java object
+   * @throws IOException if the body can't be read or parsed
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T deserialize(HttpResponse<InputStream> response, TypeReference<T> returnType) throws IOException {
+    if (returnType.getType() == File.class) {
+      return (T) downloadFileFromResponse(response);
+    }
+    String contentType = response.headers().firstValue("Content-Type").orElse("application/json");
+    if (returnType.getType() == String.class && !isJsonMime(contentType)) {
+      return (T) new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+    }
+    // leave the stream open, it is drained and closed by handleResponse
+    return mapper.readerFor(returnType).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(response.body());
+  }
+
+  /**
+   * Download file from the given response.
+   * @param response HTTP response
+   * @return Downloaded file
+   * @throws IOException if the file can't be written
+   */
+  public File downloadFileFromResponse(HttpResponse<InputStream> response) throws IOException {
+    File file = prepareDownloadFile(response);
+    Files.copy(response.body(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    return file;
+  }
+
+  public File prepareDownloadFile(HttpResponse<InputStream> response) throws IOException {
+    String filename = null;
+    String contentDisposition = response.headers().firstValue("Content-Disposition").orElse(null);
+    if (contentDisposition != null && !"".equals(contentDisposition)) {
+      // Get filename from the Content-Disposition header.
+      Pattern pattern = Pattern.compile("filename=['\"]?([^'\"\\s]+)['\"]?");
+      java.util.regex.Matcher matcher = pattern.matcher(contentDisposition);
+      if (matcher.find())
+        filename = matcher.group(1);
+    }
+
+    String prefix;
+    String suffix = null;
+    if (filename == null) {
+      prefix = "download-";
+      suffix = "";
+    } else {
+      int pos = filename.lastIndexOf('.');
+      if (pos == -1) {
+        prefix = filename + "-";
+      } else {
+        prefix = filename.substring(0, pos) + "-";
+        suffix = filename.substring(pos);
+      }
+      // File.createTempFile requires the prefix to be at least three characters long
+      if (prefix.length() < 3)
+        prefix = "download-";
+    }
+
+    if (tempFolderPath == null)
+      return File.createTempFile(prefix, suffix);
+    else
+      return File.createTempFile(prefix, suffix, new File(tempFolderPath));
+  }
+
+  /**
+   * Invoke API by sending HTTP request with the given options. The returned future completes
+   * once the response is read, or exceptionally with a {@link java.util.concurrent.CompletionException}
+   * wrapping an {@link ApiException} when the request fails or the response status is not 2xx.
+   *
+   * @param <T> Type
+   * @param path The sub-path of the HTTP URL
+   * @param method The request method, one of "GET", "POST", "PUT", "HEAD" and "DELETE"
+   * @param queryParams The query parameters
+   * @param body The request body object
+   * @param headerParams The header parameters
+   * @param formParams The form parameters
+   * @param accept The request's Accept header
+   * @param contentType The request's Content-Type header
+   * @param authNames The authentications to apply
+   * @param returnType The return type into which to deserialize the response
+   * @return The future response
+   */
+  public <T> CompletableFuture<ApiResponse<T>> invokeAPI(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames, final TypeReference<T> returnType) {
+    HttpRequest request;
+    try {
+      request = buildRequest(path, method, queryParams, body, headerParams, formParams, accept, contentType, authNames);
+    } catch (ApiException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+      .handle((response, error) -> {
+        if (error != null) {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+          throw new CompletionException(new ApiException(cause));
+        }
+        return handleResponse(response, returnType);
+      });
+  }
+
+  /**
+   * Build the HTTP request for the given options.
+   *
+   * @return HTTP request
+   * @throws ApiException if the body can't be serialized
+   */
+  protected HttpRequest buildRequest(String path, String method, List<Pair> queryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String accept, String contentType, String[] authNames) throws ApiException {
+    updateParamsForAuth(authNames, queryParams, headerParams);
+
+    StringBuilder url = new StringBuilder(basePath).append(path);
+    if (queryParams != null && !queryParams.isEmpty()) {
+      // support (constant) query string in `path`, e.g. "/posts?draft=1"
+      String prefix = path.contains("?") ? "&" : "?";
+      for (Pair queryParam : queryParams) {
+        if (queryParam.getValue() != null) {
+          url.append(prefix).append(escapeString(queryParam.getName())).append('=').append(escapeString(queryParam.getValue()));
+          prefix = "&";
+        }
+      }
+    }
+
+    HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url.toString()));
+    if (readTimeout != null) {
+      requestBuilder.timeout(readTimeout);
+    }
+    if (accept != null) {
+      requestBuilder.header("Accept", accept);
+    }
+
+    for (Entry<String, String> entry : headerParams.entrySet()) {
+      String value = entry.getValue();
+      if (value != null) {
+        requestBuilder.header(entry.getKey(), value);
+      }
+    }
+
+    for (Entry<String, String> entry : defaultHeaderMap.entrySet()) {
+      String key = entry.getKey();
+      if (!headerParams.containsKey(key)) {
+        String value = entry.getValue();
+        if (value != null) {
+          requestBuilder.header(key, value);
+        }
+      }
+    }
+
+    HttpRequest.BodyPublisher publisher;
+    if (contentType.startsWith("multipart/form-data")) {
+      String boundary = UUID.randomUUID().toString();
+      publisher = serializeMultipart(formParams, boundary);
+      requestBuilder.header("Content-Type", "multipart/form-data; boundary=" + boundary);
+    } else {
+      publisher = serialize(body, formParams, contentType);
+      if (body != null || !formParams.isEmpty()) {
+        requestBuilder.header("Content-Type", contentType);
+      }
+    }
+
+    return requestBuilder.method(method, publisher).build();
+  }
+
+  /**
+   * Turn the response into an {@link ApiResponse}, or throw a {@link CompletionException}
+   * wrapping an {@link ApiException} when its status is not 2xx. The body stream is always
+   * consumed to the end so that the connection goes back to the pool.
+   * @param <T> Type
+   * @param response HTTP response
+   * @param returnType The return type into which to deserialize the response
+   * @return API response
+   */
+  protected <T> ApiResponse<T> handleResponse(HttpResponse<InputStream> response, TypeReference<T> returnType) {
+    int statusCode = response.statusCode();
+    Map<String, List<String>> responseHeaders = response.headers().map();
+    try (InputStream responseBody = response.body()) {
+      if (statusCode / 100 != 2) {
+        String respBody = new String(responseBody.readAllBytes(), StandardCharsets.UTF_8);
+        throw new CompletionException(new ApiException(statusCode, respBody.isEmpty() ? "error" : respBody, responseHeaders, respBody));
+      }
+      if (returnType == null || statusCode == 204) {
+        responseBody.transferTo(OutputStream.nullOutputStream());
+        return new ApiResponse<T>(statusCode, responseHeaders);
+      }
+      T data = deserialize(response, returnType);
+      responseBody.transferTo(OutputStream.nullOutputStream());
+      return new ApiResponse<T>(statusCode, responseHeaders, data);
+    } catch (IOException e) {
+      throw new CompletionException(new ApiException(e.getMessage(), e, statusCode, responseHeaders));
+    }
+  }
+
+  /**
+   * Update query and header parameters based on authentication settings.
+   *
+   * @param authNames The authentications to apply
+   */
+  protected void updateParamsForAuth(String[] authNames, List<Pair> queryParams, Map<String, String> headerParams) {
+    for (String authName : authNames) {
+      Authentication auth = authentications.get(authName);
+      if (auth == null) throw new RuntimeException("Authentication undefined: " + authName);
+      auth.applyToParams(queryParams, headerParams);
+    }
+  }
+}
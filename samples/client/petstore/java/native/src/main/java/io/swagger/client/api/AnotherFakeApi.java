@@ -0,0 +1,83 @@
+package io.swagger.client.api;
+
+import io.swagger.client.ApiException;
+import io.swagger.client.ApiClient;
+import io.swagger.client.ApiResponse;
+import io.swagger.client.Configuration;
+import io.swagger.client.Pair;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.swagger.client.model.Client;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class AnotherFakeApi {
+  private ApiClient apiClient;
+
+  public AnotherFakeApi() {
+    this(Configuration.getDefaultApiClient());
+  }
+
+  public AnotherFakeApi(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  public ApiClient getApiClient() {
+    return apiClient;
+  }
+
+  public void setApiClient(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  /**
+   * To test special tags
+   * To test special tags
+   * @param body client model (required)
+   * @return CompletableFuture&lt;Client&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Client> testSpecialTags(Client body) {
+    return testSpecialTagsWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * To test special tags
+   * To test special tags
+   * @param body client model (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Client&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Client>> testSpecialTagsWithHttpInfo(Client body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling testSpecialTags"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/another-fake/dummy";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<Client> localVarReturnType = new TypeReference<Client>() {};
+    return apiClient.invokeAPI(localVarPath, "PATCH", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+}
@@ -0,0 +1,565 @@
+package io.swagger.client.api;
+
+import io.swagger.client.ApiException;
+import io.swagger.client.ApiClient;
+import io.swagger.client.ApiResponse;
+import io.swagger.client.Configuration;
+import io.swagger.client.Pair;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.math.BigDecimal;
+import io.swagger.client.model.Client;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import io.swagger.client.model.OuterComposite;
+import io.swagger.client.model.User;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class FakeApi {
+  private ApiClient apiClient;
+
+  public FakeApi() {
+    this(Configuration.getDefaultApiClient());
+  }
+
+  public FakeApi(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  public ApiClient getApiClient() {
+    return apiClient;
+  }
+
+  public void setApiClient(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  /**
+   * 
+   * Test serialization of outer boolean types
+   * @param body Input boolean as post body (optional)
+   * @return CompletableFuture&lt;Boolean&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Boolean> fakeOuterBooleanSerialize(Boolean body) {
+    return fakeOuterBooleanSerializeWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Test serialization of outer boolean types
+   * @param body Input boolean as post body (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;Boolean&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Boolean>> fakeOuterBooleanSerializeWithHttpInfo(Boolean body) {
+    Object localVarPostBody = body;
+    
+    // create path and map variables
+    String localVarPath = "/fake/outer/boolean";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<Boolean> localVarReturnType = new TypeReference<Boolean>() {};
+    return apiClient.invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * 
+   * Test serialization of object with outer number type
+   * @param body Input composite as post body (optional)
+   * @return CompletableFuture&lt;OuterComposite&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<OuterComposite> fakeOuterCompositeSerialize(OuterComposite body) {
+    return fakeOuterCompositeSerializeWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Test serialization of object with outer number type
+   * @param body Input composite as post body (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;OuterComposite&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<OuterComposite>> fakeOuterCompositeSerializeWithHttpInfo(OuterComposite body) {
+    Object localVarPostBody = body;
+    
+    // create path and map variables
+    String localVarPath = "/fake/outer/composite";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<OuterComposite> localVarReturnType = new TypeReference<OuterComposite>() {};
+    return apiClient.invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * 
+   * Test serialization of outer number types
+   * @param body Input number as post body (optional)
+   * @return CompletableFuture&lt;BigDecimal&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<BigDecimal> fakeOuterNumberSerialize(BigDecimal body) {
+    return fakeOuterNumberSerializeWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Test serialization of outer number types
+   * @param body Input number as post body (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;BigDecimal&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<BigDecimal>> fakeOuterNumberSerializeWithHttpInfo(BigDecimal body) {
+    Object localVarPostBody = body;
+    
+    // create path and map variables
+    String localVarPath = "/fake/outer/number";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<BigDecimal> localVarReturnType = new TypeReference<BigDecimal>() {};
+    return apiClient.invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * 
+   * Test serialization of outer string types
+   * @param body Input string as post body (optional)
+   * @return CompletableFuture&lt;String&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<String> fakeOuterStringSerialize(String body) {
+    return fakeOuterStringSerializeWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * Test serialization of outer string types
+   * @param body Input string as post body (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;String&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<String>> fakeOuterStringSerializeWithHttpInfo(String body) {
+    Object localVarPostBody = body;
+    
+    // create path and map variables
+    String localVarPath = "/fake/outer/string";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<String> localVarReturnType = new TypeReference<String>() {};
+    return apiClient.invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * 
+   * 
+   * @param body  (required)
+   * @param query  (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> testBodyWithQueryParams(User body, String query) {
+    return testBodyWithQueryParamsWithHttpInfo(body, query).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * 
+   * 
+   * @param body  (required)
+   * @param query  (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> testBodyWithQueryParamsWithHttpInfo(User body, String query) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling testBodyWithQueryParams"));
+    }
+    
+    // verify the required parameter 'query' is set
+    if (query == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'query' when calling testBodyWithQueryParams"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/fake/body-with-query-params";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+    localVarQueryParams.addAll(apiClient.parameterToPairs("", "query", query));
+
+    
+    
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "PUT", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * To test \&quot;client\&quot; model
+   * To test \&quot;client\&quot; model
+   * @param body client model (required)
+   * @return CompletableFuture&lt;Client&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Client> testClientModel(Client body) {
+    return testClientModelWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * To test \&quot;client\&quot; model
+   * To test \&quot;client\&quot; model
+   * @param body client model (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Client&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Client>> testClientModelWithHttpInfo(Client body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling testClientModel"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/fake";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<Client> localVarReturnType = new TypeReference<Client>() {};
+    return apiClient.invokeAPI(localVarPath, "PATCH", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Fake endpoint for testing various parameters 假端點 偽のエンドポイント 가짜 엔드 포인트 
+   * Fake endpoint for testing various parameters 假端點 偽のエンドポイント 가짜 엔드 포인트 
+   * @param number None (required)
+   * @param _double None (required)
+   * @param patternWithoutDelimiter None (required)
+   * @param _byte None (required)
+   * @param integer None (optional)
+   * @param int32 None (optional)
+   * @param int64 None (optional)
+   * @param _float None (optional)
+   * @param string None (optional)
+   * @param binary None (optional)
+   * @param date None (optional)
+   * @param dateTime None (optional)
+   * @param password None (optional)
+   * @param paramCallback None (optional)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> testEndpointParameters(BigDecimal number, Double _double, String patternWithoutDelimiter, byte[] _byte, Integer integer, Integer int32, Long int64, Float _float, String string, byte[] binary, LocalDate date, OffsetDateTime dateTime, String password, String paramCallback) {
+    return testEndpointParametersWithHttpInfo(number, _double, patternWithoutDelimiter, _byte, integer, int32, int64, _float, string, binary, date, dateTime, password, paramCallback).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Fake endpoint for testing various parameters 假端點 偽のエンドポイント 가짜 엔드 포인트 
+   * Fake endpoint for testing various parameters 假端點 偽のエンドポイント 가짜 엔드 포인트 
+   * @param number None (required)
+   * @param _double None (required)
+   * @param patternWithoutDelimiter None (required)
+   * @param _byte None (required)
+   * @param integer None (optional)
+   * @param int32 None (optional)
+   * @param int64 None (optional)
+   * @param _float None (optional)
+   * @param string None (optional)
+   * @param binary None (optional)
+   * @param date None (optional)
+   * @param dateTime None (optional)
+   * @param password None (optional)
+   * @param paramCallback None (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> testEndpointParametersWithHttpInfo(BigDecimal number, Double _double, String patternWithoutDelimiter, byte[] _byte, Integer integer, Integer int32, Long int64, Float _float, String string, byte[] binary, LocalDate date, OffsetDateTime dateTime, String password, String paramCallback) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'number' is set
+    if (number == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'number' when calling testEndpointParameters"));
+    }
+    
+    // verify the required parameter '_double' is set
+    if (_double == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter '_double' when calling testEndpointParameters"));
+    }
+    
+    // verify the required parameter 'patternWithoutDelimiter' is set
+    if (patternWithoutDelimiter == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'patternWithoutDelimiter' when calling testEndpointParameters"));
+    }
+    
+    // verify the required parameter '_byte' is set
+    if (_byte == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter '_byte' when calling testEndpointParameters"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/fake";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    if (integer != null)
+      localVarFormParams.put("integer", integer);
+if (int32 != null)
+      localVarFormParams.put("int32", int32);
+if (int64 != null)
+      localVarFormParams.put("int64", int64);
+if (number != null)
+      localVarFormParams.put("number", number);
+if (_float != null)
+      localVarFormParams.put("float", _float);
+if (_double != null)
+      localVarFormParams.put("double", _double);
+if (string != null)
+      localVarFormParams.put("string", string);
+if (patternWithoutDelimiter != null)
+      localVarFormParams.put("pattern_without_delimiter", patternWithoutDelimiter);
+if (_byte != null)
+      localVarFormParams.put("byte", _byte);
+if (binary != null)
+      localVarFormParams.put("binary", binary);
+if (date != null)
+      localVarFormParams.put("date", date);
+if (dateTime != null)
+      localVarFormParams.put("dateTime", dateTime);
+if (password != null)
+      localVarFormParams.put("password", password);
+if (paramCallback != null)
+      localVarFormParams.put("callback", paramCallback);
+
+    final String localVarAccept = "application/json; charset=utf-8";
+    final String localVarContentType = "application/json; charset=utf-8";
+
+    String[] localVarAuthNames = new String[] { "http_basic_test" };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * To test enum parameters
+   * To test enum parameters
+   * @param enumFormStringArray Form parameter enum test (string array) (optional)
+   * @param enumFormString Form parameter enum test (string) (optional, default to -efg)
+   * @param enumHeaderStringArray Header parameter enum test (string array) (optional)
+   * @param enumHeaderString Header parameter enum test (string) (optional, default to -efg)
+   * @param enumQueryStringArray Query parameter enum test (string array) (optional)
+   * @param enumQueryString Query parameter enum test (string) (optional, default to -efg)
+   * @param enumQueryInteger Query parameter enum test (double) (optional)
+   * @param enumQueryDouble Query parameter enum test (double) (optional)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> testEnumParameters(List<String> enumFormStringArray, String enumFormString, List<String> enumHeaderStringArray, String enumHeaderString, List<String> enumQueryStringArray, String enumQueryString, Integer enumQueryInteger, Double enumQueryDouble) {
+    return testEnumParametersWithHttpInfo(enumFormStringArray, enumFormString, enumHeaderStringArray, enumHeaderString, enumQueryStringArray, enumQueryString, enumQueryInteger, enumQueryDouble).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * To test enum parameters
+   * To test enum parameters
+   * @param enumFormStringArray Form parameter enum test (string array) (optional)
+   * @param enumFormString Form parameter enum test (string) (optional, default to -efg)
+   * @param enumHeaderStringArray Header parameter enum test (string array) (optional)
+   * @param enumHeaderString Header parameter enum test (string) (optional, default to -efg)
+   * @param enumQueryStringArray Query parameter enum test (string array) (optional)
+   * @param enumQueryString Query parameter enum test (string) (optional, default to -efg)
+   * @param enumQueryInteger Query parameter enum test (double) (optional)
+   * @param enumQueryDouble Query parameter enum test (double) (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> testEnumParametersWithHttpInfo(List<String> enumFormStringArray, String enumFormString, List<String> enumHeaderStringArray, String enumHeaderString, List<String> enumQueryStringArray, String enumQueryString, Integer enumQueryInteger, Double enumQueryDouble) {
+    Object localVarPostBody = null;
+    
+    // create path and map variables
+    String localVarPath = "/fake";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+    localVarQueryParams.addAll(apiClient.parameterToPairs("csv", "enum_query_string_array", enumQueryStringArray));
+    localVarQueryParams.addAll(apiClient.parameterToPairs("", "enum_query_string", enumQueryString));
+    localVarQueryParams.addAll(apiClient.parameterToPairs("", "enum_query_integer", enumQueryInteger));
+
+    if (enumHeaderStringArray != null)
+      localVarHeaderParams.put("enum_header_string_array", apiClient.parameterToString(enumHeaderStringArray));
+if (enumHeaderString != null)
+      localVarHeaderParams.put("enum_header_string", apiClient.parameterToString(enumHeaderString));
+
+    if (enumFormStringArray != null)
+      localVarFormParams.put("enum_form_string_array", enumFormStringArray);
+if (enumFormString != null)
+      localVarFormParams.put("enum_form_string", enumFormString);
+if (enumQueryDouble != null)
+      localVarFormParams.put("enum_query_double", enumQueryDouble);
+
+    final String localVarAccept = "*/*";
+    final String localVarContentType = "*/*";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * test inline additionalProperties
+   * 
+   * @param param request body (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> testInlineAdditionalProperties(Object param) {
+    return testInlineAdditionalPropertiesWithHttpInfo(param).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * test inline additionalProperties
+   * 
+   * @param param request body (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> testInlineAdditionalPropertiesWithHttpInfo(Object param) {
+    Object localVarPostBody = param;
+    
+    // verify the required parameter 'param' is set
+    if (param == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'param' when calling testInlineAdditionalProperties"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/fake/inline-additionalProperties";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * test json serialization of form data
+   * 
+   * @param param field1 (required)
+   * @param param2 field2 (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> testJsonFormData(String param, String param2) {
+    return testJsonFormDataWithHttpInfo(param, param2).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * test json serialization of form data
+   * 
+   * @param param field1 (required)
+   * @param param2 field2 (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> testJsonFormDataWithHttpInfo(String param, String param2) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'param' is set
+    if (param == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'param' when calling testJsonFormData"));
+    }
+    
+    // verify the required parameter 'param2' is set
+    if (param2 == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'param2' when calling testJsonFormData"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/fake/jsonFormData";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    if (param != null)
+      localVarFormParams.put("param", param);
+if (param2 != null)
+      localVarFormParams.put("param2", param2);
+
+    final String localVarAccept = null;
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+}
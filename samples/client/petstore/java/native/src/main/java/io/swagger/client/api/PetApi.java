@@ -0,0 +1,416 @@
+package io.swagger.client.api;
+
+import io.swagger.client.ApiException;
+import io.swagger.client.ApiClient;
+import io.swagger.client.ApiResponse;
+import io.swagger.client.Configuration;
+import io.swagger.client.Pair;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.File;
+import io.swagger.client.model.ModelApiResponse;
+import io.swagger.client.model.Pet;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class PetApi {
+  private ApiClient apiClient;
+
+  public PetApi() {
+    this(Configuration.getDefaultApiClient());
+  }
+
+  public PetApi(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  public ApiClient getApiClient() {
+    return apiClient;
+  }
+
+  public void setApiClient(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  /**
+   * Add a new pet to the store
+   * 
+   * @param body Pet object that needs to be added to the store (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> addPet(Pet body) {
+    return addPetWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Add a new pet to the store
+   * 
+   * @param body Pet object that needs to be added to the store (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> addPetWithHttpInfo(Pet body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling addPet"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Deletes a pet
+   * 
+   * @param petId Pet id to delete (required)
+   * @param apiKey  (optional)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> deletePet(Long petId, String apiKey) {
+    return deletePetWithHttpInfo(petId, apiKey).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Deletes a pet
+   * 
+   * @param petId Pet id to delete (required)
+   * @param apiKey  (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> deletePetWithHttpInfo(Long petId, String apiKey) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'petId' is set
+    if (petId == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'petId' when calling deletePet"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet/{petId}"
+      .replaceAll("\\{" + "petId" + "\\}", apiClient.escapeString(petId.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    if (apiKey != null)
+      localVarHeaderParams.put("api_key", apiClient.parameterToString(apiKey));
+
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "DELETE", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Finds Pets by status
+   * Multiple status values can be provided with comma separated strings
+   * @param status Status values that need to be considered for filter (required)
+   * @return CompletableFuture&lt;List&lt;Pet&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<List<Pet>> findPetsByStatus(List<String> status) {
+    return findPetsByStatusWithHttpInfo(status).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Finds Pets by status
+   * Multiple status values can be provided with comma separated strings
+   * @param status Status values that need to be considered for filter (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;List&lt;Pet&gt;&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<List<Pet>>> findPetsByStatusWithHttpInfo(List<String> status) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'status' is set
+    if (status == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'status' when calling findPetsByStatus"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet/findByStatus";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+    localVarQueryParams.addAll(apiClient.parameterToPairs("csv", "status", status));
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+    TypeReference<List<Pet>> localVarReturnType = new TypeReference<List<Pet>>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Finds Pets by tags
+   * Multiple tags can be provided with comma separated strings. Use tag1, tag2, tag3 for testing.
+   * @param tags Tags to filter by (required)
+   * @return CompletableFuture&lt;List&lt;Pet&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   * @deprecated
+   */
+  @Deprecated
+  public CompletableFuture<List<Pet>> findPetsByTags(List<String> tags) {
+    return findPetsByTagsWithHttpInfo(tags).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Finds Pets by tags
+   * Multiple tags can be provided with comma separated strings. Use tag1, tag2, tag3 for testing.
+   * @param tags Tags to filter by (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;List&lt;Pet&gt;&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   * @deprecated
+   */
+  @Deprecated
+  public CompletableFuture<ApiResponse<List<Pet>>> findPetsByTagsWithHttpInfo(List<String> tags) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'tags' is set
+    if (tags == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'tags' when calling findPetsByTags"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet/findByTags";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+    localVarQueryParams.addAll(apiClient.parameterToPairs("csv", "tags", tags));
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+    TypeReference<List<Pet>> localVarReturnType = new TypeReference<List<Pet>>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Find pet by ID
+   * Returns a single pet
+   * @param petId ID of pet to return (required)
+   * @return CompletableFuture&lt;Pet&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Pet> getPetById(Long petId) {
+    return getPetByIdWithHttpInfo(petId).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Find pet by ID
+   * Returns a single pet
+   * @param petId ID of pet to return (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Pet&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Pet>> getPetByIdWithHttpInfo(Long petId) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'petId' is set
+    if (petId == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'petId' when calling getPetById"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet/{petId}"
+      .replaceAll("\\{" + "petId" + "\\}", apiClient.escapeString(petId.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "api_key" };
+
+    TypeReference<Pet> localVarReturnType = new TypeReference<Pet>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Update an existing pet
+   * 
+   * @param body Pet object that needs to be added to the store (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> updatePet(Pet body) {
+    return updatePetWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Update an existing pet
+   * 
+   * @param body Pet object that needs to be added to the store (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> updatePetWithHttpInfo(Pet body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling updatePet"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "PUT", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Updates a pet in the store with form data
+   * 
+   * @param petId ID of pet that needs to be updated (required)
+   * @param name Updated name of the pet (optional)
+   * @param status Updated status of the pet (optional)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> updatePetWithForm(Long petId, String name, String status) {
+    return updatePetWithFormWithHttpInfo(petId, name, status).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Updates a pet in the store with form data
+   * 
+   * @param petId ID of pet that needs to be updated (required)
+   * @param name Updated name of the pet (optional)
+   * @param status Updated status of the pet (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> updatePetWithFormWithHttpInfo(Long petId, String name, String status) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'petId' is set
+    if (petId == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'petId' when calling updatePetWithForm"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet/{petId}"
+      .replaceAll("\\{" + "petId" + "\\}", apiClient.escapeString(petId.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    if (name != null)
+      localVarFormParams.put("name", name);
+if (status != null)
+      localVarFormParams.put("status", status);
+
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/x-www-form-urlencoded";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * uploads an image
+   * 
+   * @param petId ID of pet to update (required)
+   * @param additionalMetadata Additional data to pass to server (optional)
+   * @param file file to upload (optional)
+   * @return CompletableFuture&lt;ModelApiResponse&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ModelApiResponse> uploadFile(Long petId, String additionalMetadata, File file) {
+    return uploadFileWithHttpInfo(petId, additionalMetadata, file).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * uploads an image
+   * 
+   * @param petId ID of pet to update (required)
+   * @param additionalMetadata Additional data to pass to server (optional)
+   * @param file file to upload (optional)
+   * @return CompletableFuture&lt;ApiResponse&lt;ModelApiResponse&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<ModelApiResponse>> uploadFileWithHttpInfo(Long petId, String additionalMetadata, File file) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'petId' is set
+    if (petId == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'petId' when calling uploadFile"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/pet/{petId}/uploadImage"
+      .replaceAll("\\{" + "petId" + "\\}", apiClient.escapeString(petId.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    if (additionalMetadata != null)
+      localVarFormParams.put("additionalMetadata", additionalMetadata);
+if (file != null)
+      localVarFormParams.put("file", file);
+
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "multipart/form-data";
+
+    String[] localVarAuthNames = new String[] { "petstore_auth" };
+
+    TypeReference<ModelApiResponse> localVarReturnType = new TypeReference<ModelApiResponse>() {};
+    return apiClient.invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+}
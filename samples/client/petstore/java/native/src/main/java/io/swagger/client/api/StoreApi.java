@@ -0,0 +1,207 @@
+package io.swagger.client.api;
+
+import io.swagger.client.ApiException;
+import io.swagger.client.ApiClient;
+import io.swagger.client.ApiResponse;
+import io.swagger.client.Configuration;
+import io.swagger.client.Pair;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.swagger.client.model.Order;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class StoreApi {
+  private ApiClient apiClient;
+
+  public StoreApi() {
+    this(Configuration.getDefaultApiClient());
+  }
+
+  public StoreApi(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  public ApiClient getApiClient() {
+    return apiClient;
+  }
+
+  public void setApiClient(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  /**
+   * Delete purchase order by ID
+   * For valid response try integer IDs with value &lt; 1000. Anything above 1000 or nonintegers will generate API errors
+   * @param orderId ID of the order that needs to be deleted (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> deleteOrder(String orderId) {
+    return deleteOrderWithHttpInfo(orderId).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Delete purchase order by ID
+   * For valid response try integer IDs with value &lt; 1000. Anything above 1000 or nonintegers will generate API errors
+   * @param orderId ID of the order that needs to be deleted (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> deleteOrderWithHttpInfo(String orderId) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'orderId' is set
+    if (orderId == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'orderId' when calling deleteOrder"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/store/order/{order_id}"
+      .replaceAll("\\{" + "order_id" + "\\}", apiClient.escapeString(orderId.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "DELETE", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Returns pet inventories by status
+   * Returns a map of status codes to quantities
+   * @return CompletableFuture&lt;Map&lt;String, Integer&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Map<String, Integer>> getInventory() {
+    return getInventoryWithHttpInfo().thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Returns pet inventories by status
+   * Returns a map of status codes to quantities
+   * @return CompletableFuture&lt;ApiResponse&lt;Map&lt;String, Integer&gt;&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Map<String, Integer>>> getInventoryWithHttpInfo() {
+    Object localVarPostBody = null;
+    
+    // create path and map variables
+    String localVarPath = "/store/inventory";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] { "api_key" };
+
+    TypeReference<Map<String, Integer>> localVarReturnType = new TypeReference<Map<String, Integer>>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Find purchase order by ID
+   * For valid response try integer IDs with value &lt;&#x3D; 5 or &gt; 10. Other values will generated exceptions
+   * @param orderId ID of pet that needs to be fetched (required)
+   * @return CompletableFuture&lt;Order&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Order> getOrderById(Long orderId) {
+    return getOrderByIdWithHttpInfo(orderId).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Find purchase order by ID
+   * For valid response try integer IDs with value &lt;&#x3D; 5 or &gt; 10. Other values will generated exceptions
+   * @param orderId ID of pet that needs to be fetched (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Order&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Order>> getOrderByIdWithHttpInfo(Long orderId) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'orderId' is set
+    if (orderId == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'orderId' when calling getOrderById"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/store/order/{order_id}"
+      .replaceAll("\\{" + "order_id" + "\\}", apiClient.escapeString(orderId.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<Order> localVarReturnType = new TypeReference<Order>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Place an order for a pet
+   * 
+   * @param body order placed for purchasing the pet (required)
+   * @return CompletableFuture&lt;Order&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Order> placeOrder(Order body) {
+    return placeOrderWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Place an order for a pet
+   * 
+   * @param body order placed for purchasing the pet (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Order&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Order>> placeOrderWithHttpInfo(Order body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling placeOrder"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/store/order";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<Order> localVarReturnType = new TypeReference<Order>() {};
+    return apiClient.invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+}
@@ -0,0 +1,396 @@
+package io.swagger.client.api;
+
+import io.swagger.client.ApiException;
+import io.swagger.client.ApiClient;
+import io.swagger.client.ApiResponse;
+import io.swagger.client.Configuration;
+import io.swagger.client.Pair;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.swagger.client.model.User;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public class UserApi {
+  private ApiClient apiClient;
+
+  public UserApi() {
+    this(Configuration.getDefaultApiClient());
+  }
+
+  public UserApi(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  public ApiClient getApiClient() {
+    return apiClient;
+  }
+
+  public void setApiClient(ApiClient apiClient) {
+    this.apiClient = apiClient;
+  }
+
+  /**
+   * Create user
+   * This can only be done by the logged in user.
+   * @param body Created user object (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> createUser(User body) {
+    return createUserWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Create user
+   * This can only be done by the logged in user.
+   * @param body Created user object (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> createUserWithHttpInfo(User body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling createUser"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Creates list of users with given input array
+   * 
+   * @param body List of user object (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> createUsersWithArrayInput(List<User> body) {
+    return createUsersWithArrayInputWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Creates list of users with given input array
+   * 
+   * @param body List of user object (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> createUsersWithArrayInputWithHttpInfo(List<User> body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling createUsersWithArrayInput"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user/createWithArray";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Creates list of users with given input array
+   * 
+   * @param body List of user object (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> createUsersWithListInput(List<User> body) {
+    return createUsersWithListInputWithHttpInfo(body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Creates list of users with given input array
+   * 
+   * @param body List of user object (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> createUsersWithListInputWithHttpInfo(List<User> body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling createUsersWithListInput"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user/createWithList";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "POST", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Delete user
+   * This can only be done by the logged in user.
+   * @param username The name that needs to be deleted (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> deleteUser(String username) {
+    return deleteUserWithHttpInfo(username).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Delete user
+   * This can only be done by the logged in user.
+   * @param username The name that needs to be deleted (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> deleteUserWithHttpInfo(String username) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'username' is set
+    if (username == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'username' when calling deleteUser"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user/{username}"
+      .replaceAll("\\{" + "username" + "\\}", apiClient.escapeString(username.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "DELETE", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Get user by user name
+   * 
+   * @param username The name that needs to be fetched. Use user1 for testing. (required)
+   * @return CompletableFuture&lt;User&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<User> getUserByName(String username) {
+    return getUserByNameWithHttpInfo(username).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Get user by user name
+   * 
+   * @param username The name that needs to be fetched. Use user1 for testing. (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;User&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<User>> getUserByNameWithHttpInfo(String username) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'username' is set
+    if (username == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'username' when calling getUserByName"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user/{username}"
+      .replaceAll("\\{" + "username" + "\\}", apiClient.escapeString(username.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<User> localVarReturnType = new TypeReference<User>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Logs user into the system
+   * 
+   * @param username The user name for login (required)
+   * @param password The password for login in clear text (required)
+   * @return CompletableFuture&lt;String&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<String> loginUser(String username, String password) {
+    return loginUserWithHttpInfo(username, password).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Logs user into the system
+   * 
+   * @param username The user name for login (required)
+   * @param password The password for login in clear text (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;String&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<String>> loginUserWithHttpInfo(String username, String password) {
+    Object localVarPostBody = null;
+    
+    // verify the required parameter 'username' is set
+    if (username == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'username' when calling loginUser"));
+    }
+    
+    // verify the required parameter 'password' is set
+    if (password == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'password' when calling loginUser"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user/login";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+    localVarQueryParams.addAll(apiClient.parameterToPairs("", "username", username));
+    localVarQueryParams.addAll(apiClient.parameterToPairs("", "password", password));
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+    TypeReference<String> localVarReturnType = new TypeReference<String>() {};
+    return apiClient.invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, localVarReturnType);
+      }
+  /**
+   * Logs out current logged in user session
+   * 
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> logoutUser() {
+    return logoutUserWithHttpInfo().thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Logs out current logged in user session
+   * 
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> logoutUserWithHttpInfo() {
+    Object localVarPostBody = null;
+    
+    // create path and map variables
+    String localVarPath = "/user/logout";
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "GET", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+  /**
+   * Updated user
+   * This can only be done by the logged in user.
+   * @param username name that need to be deleted (required)
+   * @param body Updated user object (required)
+   * @return CompletableFuture&lt;Void&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<Void> updateUser(String username, User body) {
+    return updateUserWithHttpInfo(username, body).thenApply(ApiResponse::getData);
+  }
+
+  /**
+   * Updated user
+   * This can only be done by the logged in user.
+   * @param username name that need to be deleted (required)
+   * @param body Updated user object (required)
+   * @return CompletableFuture&lt;ApiResponse&lt;Void&gt;&gt;, completed exceptionally with an ApiException if fails to make API call
+   */
+  public CompletableFuture<ApiResponse<Void>> updateUserWithHttpInfo(String username, User body) {
+    Object localVarPostBody = body;
+    
+    // verify the required parameter 'username' is set
+    if (username == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'username' when calling updateUser"));
+    }
+    
+    // verify the required parameter 'body' is set
+    if (body == null) {
+      return CompletableFuture.failedFuture(new ApiException(400, "Missing the required parameter 'body' when calling updateUser"));
+    }
+    
+    // create path and map variables
+    String localVarPath = "/user/{username}"
+      .replaceAll("\\{" + "username" + "\\}", apiClient.escapeString(username.toString()));
+
+    // query params
+    List<Pair> localVarQueryParams = new ArrayList<Pair>();
+    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
+    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
+
+
+    
+    
+    final String localVarAccept = "application/json";
+    final String localVarContentType = "application/json";
+
+    String[] localVarAuthNames = new String[] {  };
+
+
+    return apiClient.<Void>invokeAPI(localVarPath, "PUT", localVarQueryParams, localVarPostBody, localVarHeaderParams, localVarFormParams, localVarAccept, localVarContentType, localVarAuthNames, null);
+  }
+}
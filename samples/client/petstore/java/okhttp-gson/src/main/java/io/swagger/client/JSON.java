@@ -31,6 +31,7 @@ import io.swagger.client.model.*;
 import okio.ByteString;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
@@ -157,6 +158,25 @@ public class JSON {
         }
     }
 
+    /**
+     * Deserialize the JSON read from the given reader to Java object, without reading it all in memory first.
+     *
+     * @param <T>        Type
+     * @param body       The reader of the JSON document, which is left open
+     * @param returnType The type to deserialize into
+     * @return The deserialized Java object, null for an empty document
+     */
+    public <T> T deserialize(Reader body, Type returnType) {
+        if (isLenientOnJson) {
+            JsonReader jsonReader = new JsonReader(body);
+            // see https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/stream/JsonReader.html#setLenient(boolean)
+            jsonReader.setLenient(true);
+            return gson.fromJson(jsonReader, returnType);
+        } else {
+            return gson.fromJson(body, returnType);
+        }
+    }
+
     /**
      * Gson TypeAdapter for Byte Array type
      */
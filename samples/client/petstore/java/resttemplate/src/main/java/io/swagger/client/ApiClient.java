@@ -17,6 +17,7 @@ import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -49,6 +50,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
 import io.swagger.client.auth.Authentication;
 import io.swagger.client.auth.HttpBasicAuth;
@@ -58,6 +65,8 @@ import io.swagger.client.auth.OAuth;
 
 @Component("io.swagger.client.ApiClient")
 public class ApiClient {
+    private static final Pattern JSON_SUBTYPE_PATTERN = Pattern.compile("^.*\\+json[;]?\\s*$");
+
     public enum CollectionFormat {
         CSV(","), TSV("\t"), SSV(" "), PIPES("|"), MULTI(null);
 
@@ -104,6 +113,7 @@ public class ApiClient {
 
         // Set default User-Agent.
         setUserAgent("Java-SDK");
+        setResponseCompression(true);
 
         // Setup authentications (key: authentication name, value: authentication).
         authentications = new HashMap<String, Authentication>();
@@ -418,7 +428,7 @@ public class ApiClient {
      * @return boolean true if the MediaType represents JSON, false otherwise
      */
     public boolean isJsonMime(MediaType mediaType) {
-        return mediaType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || mediaType.getSubtype().matches("^.*\\+json[;]?\\s*$"));
+        return mediaType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || JSON_SUBTYPE_PATTERN.matcher(mediaType.getSubtype()).matches());
     }
 
     /**
@@ -538,6 +548,36 @@ public class ApiClient {
         }
     }
 
+    /**
+     * Enable/disable response compression. When enabled the responses are requested
+     * gzip-encoded and decoded transparently by the HTTP client.
+     * @param responseCompression True to enable response compression
+     * @return ApiClient this client
+     */
+    public ApiClient setResponseCompression(boolean responseCompression) {
+        if (responseCompression) {
+            defaultHeaders.remove("Accept-Encoding");
+        } else {
+            addDefaultHeader("Accept-Encoding", "identity");
+        }
+        return this;
+    }
+
+    /**
+     * Build the OkHttp client the RestTemplate sends its requests with. It keeps the connections
+     * in a pool instead of opening one per call and negotiates HTTP/2 with the servers that support it.
+     * @return OkHttpClient
+     */
+    protected OkHttpClient buildHttpClient() {
+        return new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(20, 300000, TimeUnit.MILLISECONDS))
+            .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            // no read and write timeouts, like the JDK request factory RestTemplate uses by default
+            .readTimeout(0, TimeUnit.MILLISECONDS)
+            .writeTimeout(0, TimeUnit.MILLISECONDS)
+            .build();
+    }
+
     /**
      * Build the RestTemplate used to make HTTP requests.
      * @return RestTemplate
@@ -555,7 +595,7 @@ public class ApiClient {
             }
         }
         // This allows us to read the response more than once - Necessary for debugging.
-        restTemplate.setRequestFactory(new BufferingClientHttpRequestFactory(restTemplate.getRequestFactory()));
+        restTemplate.setRequestFactory(new BufferingClientHttpRequestFactory(new OkHttp3ClientHttpRequestFactory(buildHttpClient())));
         return restTemplate;
     }
 
@@ -36,6 +36,7 @@ import static java.util.stream.Collectors.toMap;
 
 public class ApiClient {
 
+    private static final Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$");
     private static final Pattern CONTENT_DISPOSITION_PATTERN = Pattern.compile("filename=['\"]?([^'\"\\s]+)['\"]?");
     private static final OpenOptions FILE_DOWNLOAD_OPTIONS = new OpenOptions().setCreate(true).setTruncateExisting(true);
 
@@ -339,8 +340,7 @@ public class ApiClient {
      * @return True if the MIME type is JSON
      */
     private boolean isJsonMime(String mime) {
-        String jsonMime = "(?i)^(application/json|[^;/ \t]+/[^;/ \t]+[+]json)[ \t]*(;.*)?$";
-        return mime != null && (mime.matches(jsonMime) || mime.equalsIgnoreCase("application/json-patch+json"));
+        return mime != null && (JSON_MIME_PATTERN.matcher(mime).matches() || mime.equalsIgnoreCase("application/json-patch+json"));
     }
 
     /**